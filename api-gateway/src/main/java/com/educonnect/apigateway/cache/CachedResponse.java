@@ -0,0 +1,13 @@
+package com.educonnect.apigateway.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Gateway'de saklanan 200 GET cevabı.
+ *
+ * @param contentType backend'in döndüğü Content-Type, yoksa null
+ * @param body        cevap gövdesi
+ * @param etag        gövdenin özetinden üretilen, tırnaklı strong ETag
+ */
+public record CachedResponse(MediaType contentType, byte[] body, String etag) {
+}
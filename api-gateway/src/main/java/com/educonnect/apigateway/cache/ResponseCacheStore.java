@@ -0,0 +1,114 @@
+package com.educonnect.apigateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Public GET cevapları için instance'a özel bellek içi cache.
+ *
+ * - Kayıtlar yolun ilk iki segmentine göre gruplanır (/api/clubs, /api/events); RabbitMQ'dan gelen
+ *   değişiklik mesajları ve gateway'den geçen başarılı yazma istekleri bir grubun tamamını siler.
+ * - Toplam boyut gövde byte'ı ile sınırlanır (max-bytes); sınır aşılınca en az kullanılan kayıtlar düşer.
+ * - Her grubun bir nesil sayacı vardır. İstek backend'e gitmeden önce nesil okunur; cevap geldiğinde
+ *   nesil değişmişse (arada silme olduysa) cevap cache'e yazılmaz. Böylece silmeden önce başlamış bir
+ *   istek eski veriyi geri getiremez.
+ * - Mesaj kaçarsa kayıt en geç ttl sonunda düşer.
+ *
+ * Metrikler: cache.gets / cache.size vb. (cache=gatewayResponse).
+ */
+@Component
+public class ResponseCacheStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCacheStore.class);
+
+    public static final String CLUBS = "/api/clubs";
+    public static final String EVENTS = "/api/events";
+
+    private static final int GROUP_SEGMENTS = 2;
+
+    private record Entry(String group, CachedResponse response) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCacheStore(@Value("${gateway.response-cache.ttl:30s}") Duration ttl,
+                              @Value("${gateway.response-cache.max-bytes:32MB}") DataSize maxBytes,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.response().body().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponse");
+    }
+
+    /**
+     * Cache'teki cevap; yoksa veya süresi dolduysa null.
+     */
+    public CachedResponse get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.response() : null;
+    }
+
+    /**
+     * Path'in grubunun şu anki nesli; backend'e gitmeden önce okunur ve {@link #put} çağrısına verilir.
+     */
+    public long generation(String path) {
+        return generationOf(groupOf(path)).get();
+    }
+
+    /**
+     * Cevabı, grubun nesli istek başladığından beri değişmediyse saklar.
+     */
+    public void put(String key, String path, long generation, CachedResponse response) {
+        String group = groupOf(path);
+        AtomicLong current = generationOf(group);
+        if (current.get() != generation) {
+            return;
+        }
+        cache.put(key, new Entry(group, response));
+        // invalidate nesli artırıp sonra siler; kontrol ile put arasına giren bir silme burada yakalanır
+        if (current.get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Verilen path önekiyle (ör. /api/clubs) başlayan grubun tüm kayıtlarını siler.
+     */
+    public void invalidate(String group) {
+        generationOf(group).incrementAndGet();
+        cache.asMap().values().removeIf(entry -> entry.group().equals(group));
+        LOGGER.debug("Response cache invalidated. group={}", group);
+    }
+
+    private AtomicLong generationOf(String group) {
+        return generations.computeIfAbsent(group, g -> new AtomicLong());
+    }
+
+    // /api/clubs/{id} -> /api/clubs
+    static String groupOf(String path) {
+        int end = 0;
+        for (int i = 0; i < GROUP_SEGMENTS; i++) {
+            end = path.indexOf('/', end + 1);
+            if (end < 0) {
+                return path;
+            }
+        }
+        return path.substring(0, end);
+    }
+}
@@ -0,0 +1,16 @@
+package com.educonnect.apigateway.config;
+
+import com.educonnect.identity.InternalIdentityCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class InternalIdentityConfig {
+
+    // Servislerle aynı secret; Config Server'dan veya INTERNAL_IDENTITY_SECRET ortam değişkeninden gelir
+    @Bean
+    public InternalIdentityCodec internalIdentityCodec(@Value("${internal-identity.secret}") String secret) {
+        return new InternalIdentityCodec(secret);
+    }
+}
@@ -0,0 +1,61 @@
+package com.educonnect.apigateway.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response cache'i temizleyen club/event değişiklik mesajları ve gateway'in kendi yazma bildirimleri.
+ *
+ * Her gateway instance'ı kendi AnonymousQueue'sunu (auto-delete, exclusive) bağlar; böylece her mesaj
+ * tüm instance'lara ulaşır.
+ */
+@Configuration
+public class RabbitMQConfig {
+
+    // club-service club.updated / club.deleted mesajlarını bu exchange'e yayınlar (ClubRabbitMQConfig.EXCHANGE_NAME)
+    public static final String USER_EXCHANGE = "user-exchange";
+    public static final String ROUTING_KEY_CLUB_UPDATED = "club.updated";
+    public static final String ROUTING_KEY_CLUB_DELETED = "club.deleted";
+
+    // event-service event.created / event.registered mesajlarını bu exchange'e yayınlar
+    public static final String CLUB_EXCHANGE = "club-exchange";
+    public static final String ROUTING_KEY_EVENT_CREATED = "event.created";
+    public static final String ROUTING_KEY_EVENT_REGISTERED = "event.registered";
+
+    // Gateway'den geçen başarılı club/event yazmaları; fanout ile tüm gateway instance'larına dağıtılır
+    public static final String GATEWAY_CACHE_EXCHANGE = "gateway.response-cache.exchange";
+    public static final String ROUTING_KEY_CLUBS_WRITTEN = "gateway.clubs.written";
+    public static final String ROUTING_KEY_EVENTS_WRITTEN = "gateway.events.written";
+
+    @Bean
+    public Queue responseCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Declarables responseCacheInvalidationBindings(Queue responseCacheInvalidationQueue) {
+        DirectExchange userExchange = new DirectExchange(USER_EXCHANGE);
+        DirectExchange clubExchange = new DirectExchange(CLUB_EXCHANGE);
+        FanoutExchange gatewayCacheExchange = new FanoutExchange(GATEWAY_CACHE_EXCHANGE);
+        List<Binding> bindings = new ArrayList<>();
+        bindings.add(BindingBuilder.bind(responseCacheInvalidationQueue).to(userExchange).with(ROUTING_KEY_CLUB_UPDATED));
+        bindings.add(BindingBuilder.bind(responseCacheInvalidationQueue).to(userExchange).with(ROUTING_KEY_CLUB_DELETED));
+        bindings.add(BindingBuilder.bind(responseCacheInvalidationQueue).to(clubExchange).with(ROUTING_KEY_EVENT_CREATED));
+        bindings.add(BindingBuilder.bind(responseCacheInvalidationQueue).to(clubExchange).with(ROUTING_KEY_EVENT_REGISTERED));
+        bindings.add(BindingBuilder.bind(responseCacheInvalidationQueue).to(gatewayCacheExchange));
+
+        List<Object> declarables = new ArrayList<>(List.of(userExchange, clubExchange, gatewayCacheExchange));
+        declarables.addAll(bindings);
+        return new Declarables(declarables);
+    }
+}
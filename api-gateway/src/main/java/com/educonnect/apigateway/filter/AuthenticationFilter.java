@@ -1,10 +1,14 @@
 package com.educonnect.apigateway.filter;
 
+import com.educonnect.apigateway.util.JwtClaims;
 import com.educonnect.apigateway.util.JwtUtil;
+import com.educonnect.identity.InternalIdentity;
+import com.educonnect.identity.InternalIdentityCodec;
 import io.jsonwebtoken.ExpiredJwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.Ordered;
@@ -16,7 +20,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
 
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> implements Ordered {
@@ -26,18 +31,15 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationFilter.class);
 
-    // Herkese açık (public) yollar
-    private final List<String> publicEndpoints = List.of(
-            "/api/auth/register",
-            "/api/auth/login",
-            "/api/auth/refresh",
-            "/api/auth/logout",
-            "/api/auth/forgot-password",
-            "/api/auth/reset-password",
-            "/api/auth/request/academician-account",
-            "/api/auth/request/student-account"
-            // Note: /api/clubs (list) and /api/clubs/{id} (detail) are handled by regex in isPublicEndpoint()
-    );
+    @Autowired
+    private PublicRouteMatcher publicRouteMatcher;
+
+    @Autowired
+    private InternalIdentityCodec internalIdentityCodec;
+
+    // İç kimlik zarfının ömrü; token daha önce bitiyorsa token'ın exp'i kullanılır
+    @Value("${internal-identity.ttl:60s}")
+    private Duration internalIdentityTtl;
 
     public AuthenticationFilter() {
         super(Config.class);
@@ -49,25 +51,29 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             ServerHttpRequest request = exchange.getRequest();
             String path = request.getURI().getPath();
 
-            LOGGER.info("Request path: {}", path); // log ile path kontrolü
+            LOGGER.debug("Request path: {}", path);
 
-            if (isPublicEndpoint(path)) {
+            if (publicRouteMatcher.matches(path)) {
+                // İstemcinin gönderdiği bir iç kimlik zarfı servislere ulaşmasın
+                if (request.getHeaders().containsKey(InternalIdentityCodec.HEADER)) {
+                    ServerHttpRequest stripped = request.mutate()
+                            .headers(h -> h.remove(InternalIdentityCodec.HEADER))
+                            .build();
+                    return chain.filter(exchange.mutate().request(stripped).build());
+                }
                 return chain.filter(exchange);
             }
 
             String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-            if (authHeader == null || !authHeader.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            String token = JwtUtil.resolveBearerToken(authHeader);
+            if (token == null) {
                 LOGGER.warn("Authorization header is missing/invalid for request to: {}", path);
                 return this.onError(exchange, "Authorization header is missing or invalid", HttpStatus.UNAUTHORIZED);
             }
 
-            String token = authHeader.substring(7).trim();
-            if (token.startsWith("\"") && token.endsWith("\"") && token.length() > 1) {
-                token = token.substring(1, token.length() - 1).trim();
-            }
-
+            JwtClaims claims;
             try {
-                jwtUtil.validateToken(token);
+                claims = jwtUtil.verify(token);
             } catch (ExpiredJwtException e) {
                 LOGGER.warn("Token expired for request to: {}", path);
                 return this.onError(exchange, "Token has expired", HttpStatus.UNAUTHORIZED);
@@ -76,14 +82,21 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                 return this.onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
             }
 
-            String username = jwtUtil.extractUsername(token);
-            String userId = jwtUtil.extractUserId(token);
-            String roles = jwtUtil.extractRoles(token);
-            LOGGER.debug("Forwarding Authorization header, X-Authenticated-User-Email, X-Authenticated-User-Id and X-Authenticated-User-Roles for {}", username);
+            String username = claims.username();
+            String userId = claims.userId();
+            String roles = claims.roles();
+            if (username == null || username.isEmpty()) {
+                LOGGER.warn("Token without subject for request to: {}", path);
+                return this.onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
+            }
+            String internalIdentity = internalIdentityCodec.mint(
+                    new InternalIdentity(userId, username, roles, internalIdentityExpiry(claims)));
+            LOGGER.debug("Forwarding Authorization header, X-Internal-Identity and X-Authenticated-User-* headers for {}", username);
 
             ServerHttpRequest newRequest = request.mutate()
                     .headers(h -> {
                         h.set(HttpHeaders.AUTHORIZATION, authHeader); // explicit forward
+                        h.set(InternalIdentityCodec.HEADER, internalIdentity); // servislerin security context'i bundan kurulur
                         h.set("X-Authenticated-User-Email", username);
                         if (userId != null) {
                             h.set("X-Authenticated-User-Id", userId);
@@ -98,7 +111,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                     .contextWrite(ctx -> ctx.put("requestPath", path))
                     .doOnSuccess(aVoid -> {
                         var statusCode = exchange.getResponse().getStatusCode();
-                        LOGGER.info("Response completed for path: {} with status: {}", path, statusCode);
+                        LOGGER.debug("Response completed for path: {} with status: {}", path, statusCode);
                     })
                     .doOnError(throwable ->
                         LOGGER.error("Request failed for path: {} - Error: {}", path, throwable.getMessage())
@@ -111,26 +124,12 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
         return -1; // Run before Micrometer observation filters (default is 0)
     }
 
-    private boolean isPublicEndpoint(String path) {
-        // Exact match for auth endpoints
-        boolean matchesPublicList = publicEndpoints.stream()
-                .anyMatch(p -> path.equals(p));
-
-        // Exact match for /api/clubs (list all clubs - public)
-        boolean isClubListEndpoint = path.equals("/api/clubs");
-
-        // Regex for /api/clubs/{uuid} (single club detail - public)
-        boolean isSingleClubEndpoint = path.matches("^/api/clubs/[a-fA-F0-9\\-]{36}$");
-
-
-        // 1. Tüm etkinlikleri listeleme (GET /api/events)
-        boolean isEventListEndpoint = path.equals("/api/events");
-
-        // 2. Tek etkinlik detayı (GET /api/events/{uuid})
-        boolean isSingleEventEndpoint = path.matches("^/api/events/[a-fA-F0-9\\-]{36}$");
-
-        return matchesPublicList || isClubListEndpoint || isSingleClubEndpoint ||
-                isEventListEndpoint || isSingleEventEndpoint; // <-- Bunları return'e ekleyin
+    private long internalIdentityExpiry(JwtClaims claims) {
+        Instant expiry = Instant.now().plus(internalIdentityTtl);
+        if (claims.expiresAt() != null && claims.expiresAt().isBefore(expiry)) {
+            expiry = claims.expiresAt();
+        }
+        return expiry.getEpochSecond();
     }
 
     private Mono<Void> onError(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
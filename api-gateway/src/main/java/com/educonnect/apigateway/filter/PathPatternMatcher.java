@@ -0,0 +1,142 @@
+package com.educonnect.apigateway.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Yol desenlerinden açılışta kurulan segment ağacı (trie).
+ *
+ * - Sabit segmentler birebir eşleşir: /api/auth/login
+ * - {uuid} 36 karakterlik UUID segmentini eşler: /api/clubs/{uuid}
+ * - * herhangi tek bir segmenti eşler.
+ * - ** yalnızca son segment olabilir; kalan tüm segmentleri (hiç yoksa da) eşler: /api/llm/**
+ *
+ * Eşleme path üzerinde indeksle ilerler; regex derlenmez, istek başına nesne oluşturulmaz.
+ */
+public final class PathPatternMatcher {
+
+    private static final String UUID_SEGMENT = "{uuid}";
+    private static final String ANY_SEGMENT = "*";
+    private static final String REST_SEGMENTS = "**";
+    private static final int UUID_LENGTH = 36;
+
+    private final Node root = new Node();
+
+    public PathPatternMatcher(Collection<String> patterns) {
+        for (String raw : patterns) {
+            String pattern = raw.trim();
+            if (!pattern.isEmpty()) {
+                add(pattern);
+            }
+        }
+    }
+
+    /**
+     * Path desenlerden biriyle birebir eşleşiyorsa true.
+     */
+    public boolean matches(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        return root.matches(path, 1);
+    }
+
+    private void add(String pattern) {
+        if (pattern.charAt(0) != '/') {
+            throw new IllegalStateException("Route pattern must start with '/': " + pattern);
+        }
+        String[] segments = pattern.substring(1).split("/", -1);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            if (REST_SEGMENTS.equals(segments[i])) {
+                if (i != segments.length - 1) {
+                    throw new IllegalStateException("'**' must be the last segment: " + pattern);
+                }
+                node.matchesRest = true;
+                return;
+            }
+            node = node.getOrCreate(segments[i]);
+        }
+        node.terminal = true;
+    }
+
+    private static final class Node {
+
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node uuidChild;
+        private Node anyChild;
+        private boolean terminal;
+        private boolean matchesRest;
+
+        Node getOrCreate(String segment) {
+            if (UUID_SEGMENT.equals(segment)) {
+                if (uuidChild == null) {
+                    uuidChild = new Node();
+                }
+                return uuidChild;
+            }
+            if (ANY_SEGMENT.equals(segment)) {
+                if (anyChild == null) {
+                    anyChild = new Node();
+                }
+                return anyChild;
+            }
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        // start, path'te bu node'un eşleyeceği segmentin başıdır. Sabit segment önce denenir; alt dal eşleşmezse
+        // {uuid}, * ve ** dallarına geri dönülür.
+        boolean matches(String path, int start) {
+            int end = path.indexOf('/', start);
+            boolean last = end < 0;
+            if (last) {
+                end = path.length();
+            }
+            int segmentLength = end - start;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == segmentLength && path.regionMatches(start, literal, 0, segmentLength)
+                        && literalChildren[i].matchesRest(path, end, last)) {
+                    return true;
+                }
+            }
+            if (uuidChild != null && isUuid(path, start, end) && uuidChild.matchesRest(path, end, last)) {
+                return true;
+            }
+            if (anyChild != null && segmentLength > 0 && anyChild.matchesRest(path, end, last)) {
+                return true;
+            }
+            return matchesRest;
+        }
+
+        private boolean matchesRest(String path, int end, boolean last) {
+            return last ? terminal || matchesRest : matches(path, end + 1);
+        }
+
+        // Eski regex ile aynı kural: [a-fA-F0-9-]{36}
+        private static boolean isUuid(String path, int start, int end) {
+            if (end - start != UUID_LENGTH) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                char c = path.charAt(i);
+                boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == '-';
+                if (!valid) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
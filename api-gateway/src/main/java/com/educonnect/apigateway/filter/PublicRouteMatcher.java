@@ -0,0 +1,39 @@
+package com.educonnect.apigateway.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Kimlik doğrulaması gerektirmeyen (public) yollar.
+ *
+ * Desenler gateway.public-routes property'sinden (Config Server, virgülle ayrılmış) okunur ve
+ * {@link PathPatternMatcher} ile açılışta derlenir (sabit segment, {uuid} veya *).
+ */
+@Component
+public class PublicRouteMatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublicRouteMatcher.class);
+
+    static final String DEFAULT_ROUTES = "/api/auth/register,/api/auth/login,/api/auth/refresh,/api/auth/logout,"
+            + "/api/auth/forgot-password,/api/auth/reset-password,"
+            + "/api/auth/request/academician-account,/api/auth/request/student-account,"
+            + "/api/clubs,/api/clubs/{uuid},/api/events,/api/events/{uuid}";
+
+    private final PathPatternMatcher matcher;
+
+    public PublicRouteMatcher(@Value("${gateway.public-routes:" + DEFAULT_ROUTES + "}") List<String> routes) {
+        this.matcher = new PathPatternMatcher(routes);
+        LOGGER.info("Public routes loaded: {}", routes);
+    }
+
+    /**
+     * Path public bir desenle birebir eşleşiyorsa true.
+     */
+    public boolean matches(String path) {
+        return matcher.matches(path);
+    }
+}
@@ -0,0 +1,157 @@
+package com.educonnect.apigateway.filter;
+
+import com.educonnect.apigateway.util.JwtClaims;
+import com.educonnect.apigateway.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kullanıcı ve yol grubu başına Redis destekli token-bucket limiti.
+ *
+ * - Policy'ler gateway.rate-limit.policies property'sinden okunur (bkz. {@link RateLimitPolicy}); ilk eşleşen
+ *   policy uygulanır. LLM, feed ve leaderboard gibi pahalı yollar için ayrı, sıkı limitler tanımlıdır.
+ * - Bucket anahtarı policy + istemcidir. İstemci geçerli bir token varsa JWT'deki userId'dir (doğrulama
+ *   JwtUtil cache'inden gelir), yoksa bağlantının uzak IP adresidir.
+ * - Token hesabı Spring Cloud Gateway'in RedisRateLimiter Lua script'i ile atomik yapılır; bütün gateway
+ *   instance'ları aynı bucket'ı paylaşır. Redis erişilemezse istek geçirilir (fail-open).
+ * - Redis cevabı en fazla redis-timeout kadar beklenir; asılı kalan bir Redis her isteği bekletmez, süre
+ *   dolunca istek limitsiz geçirilir (spring.data.redis.timeout komut zaman aşımını ayrıca sınırlar).
+ * - Limit aşılırsa 429 döner; X-RateLimit-* header'ları her cevaba eklenir.
+ *
+ * Metrikler: gateway.rate_limit.rejected, gateway.rate_limit.timeouts (policy etiketli).
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    static final String DEFAULT_POLICIES = "llm=2/10:/api/llm/**|/api/ai/**,"
+            + "feed=5/20:/api/posts/feed,"
+            + "leaderboard=5/20:/api/gamification/leaderboard/**,"
+            + "default=20/40:/**";
+
+    // RedisRateLimiter config haritasında route id'leriyle çakışmaması için
+    private static final String CONFIG_PREFIX = "rate-limit:";
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final List<RateLimitPolicy> policies;
+    private final Duration redisTimeout;
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    private final Map<String, Counter> timeoutCounters = new HashMap<>();
+
+    public RateLimitFilter(RedisRateLimiter redisRateLimiter,
+                           JwtUtil jwtUtil,
+                           MeterRegistry meterRegistry,
+                           @Value("${gateway.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${gateway.rate-limit.policies:" + DEFAULT_POLICIES + "}") List<String> policies,
+                           @Value("${gateway.rate-limit.redis-timeout:150ms}") Duration redisTimeout) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.redisTimeout = redisTimeout;
+        this.policies = RateLimitPolicy.parseAll(policies);
+
+        for (RateLimitPolicy policy : this.policies) {
+            redisRateLimiter.getConfig().put(CONFIG_PREFIX + policy.name(), new RedisRateLimiter.Config()
+                    .setReplenishRate(policy.replenishRate())
+                    .setBurstCapacity(policy.burstCapacity())
+                    .setRequestedTokens(1));
+            rejectedCounters.put(policy.name(), Counter.builder("gateway.rate_limit.rejected")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry));
+            timeoutCounters.put(policy.name(), Counter.builder("gateway.rate_limit.timeouts")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry));
+        }
+        LOGGER.info("Rate limit policies loaded: {}", policies);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        RateLimitPolicy policy = policyFor(request.getURI().getPath());
+        if (policy == null) {
+            return chain.filter(exchange);
+        }
+
+        String bucket = policy.name() + ":" + clientKey(request);
+        return redisRateLimiter.isAllowed(CONFIG_PREFIX + policy.name(), bucket)
+                .timeout(redisTimeout, Mono.fromSupplier(() -> {
+                    timeoutCounters.get(policy.name()).increment();
+                    LOGGER.warn("Rate limit check timed out, request allowed. policy={}, timeoutMs={}",
+                            policy.name(), redisTimeout.toMillis());
+                    return new RateLimiter.Response(true, Map.of());
+                }))
+                .flatMap(result -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    result.getHeaders().forEach(response.getHeaders()::add);
+                    if (result.isAllowed()) {
+                        return chain.filter(exchange);
+                    }
+                    rejectedCounters.get(policy.name()).increment();
+                    LOGGER.debug("Rate limit exceeded. policy={}, bucket={}", policy.name(), bucket);
+                    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    return response.setComplete();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // Cache ve coalescing'den önce: limit aşan istemci gateway'de de iş yaptıramaz
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 3;
+    }
+
+    private RateLimitPolicy policyFor(String path) {
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matcher().matches(path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        String token = JwtUtil.resolveBearerToken(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token != null) {
+            try {
+                JwtClaims claims = jwtUtil.verify(token);
+                if (claims.userId() != null) {
+                    return "user:" + claims.userId();
+                }
+            } catch (Exception ex) {
+                // Geçersiz token IP'ye göre sayılır; isteği AuthenticationFilter reddeder
+            }
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return "ip:" + (remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : "unknown");
+    }
+}
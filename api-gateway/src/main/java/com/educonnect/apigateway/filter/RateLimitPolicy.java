@@ -0,0 +1,48 @@
+package com.educonnect.apigateway.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bir yol grubunun token-bucket limiti.
+ *
+ * Property biçimi: name=replenishRate/burstCapacity:pattern1|pattern2, girişler virgülle ayrılır.
+ * Örnek: llm=2/10:/api/llm/**|/api/ai/**
+ *
+ * @param name          policy adı; Redis anahtarında ve metrik etiketinde kullanılır
+ * @param replenishRate saniyede eklenen token sayısı
+ * @param burstCapacity bucket kapasitesi
+ * @param matcher       policy'nin geçerli olduğu yollar
+ */
+record RateLimitPolicy(String name, int replenishRate, int burstCapacity, PathPatternMatcher matcher) {
+
+    static List<RateLimitPolicy> parseAll(List<String> entries) {
+        List<RateLimitPolicy> policies = new ArrayList<>();
+        for (String entry : entries) {
+            if (!entry.isBlank()) {
+                policies.add(parse(entry.trim()));
+            }
+        }
+        return policies;
+    }
+
+    static RateLimitPolicy parse(String entry) {
+        int equals = entry.indexOf('=');
+        int slash = entry.indexOf('/', equals + 1);
+        int colon = entry.indexOf(':', slash + 1);
+        if (equals <= 0 || slash < 0 || colon < 0) {
+            throw new IllegalStateException("Invalid rate limit policy (expected name=rate/burst:patterns): " + entry);
+        }
+        try {
+            return new RateLimitPolicy(
+                    entry.substring(0, equals).trim(),
+                    Integer.parseInt(entry.substring(equals + 1, slash).trim()),
+                    Integer.parseInt(entry.substring(slash + 1, colon).trim()),
+                    new PathPatternMatcher(Arrays.asList(entry.substring(colon + 1).split("\\|")))
+            );
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("Invalid rate limit policy numbers: " + entry, ex);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.educonnect.apigateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aynı anda gelen özdeş GET isteklerini tek upstream çağrısında birleştirir (request coalescing).
+ *
+ * - Anahtar path + query + Authorization header'ıdır; yalnızca aynı kimlikle gelen istekler birleşir, bir
+ *   kullanıcının cevabı başka bir kullanıcıya gitmez.
+ * - İlk istek (lider) upstream'e gider; sonraki istekler liderin cevabını (status, header, gövde) bekler ve
+ *   kendi cevaplarına yazar. Cevap tamamlanınca anahtar silinir, yani cache değildir.
+ * - Lider hata alır, iptal edilir veya cevap stream edilirse (writeAndFlushWith) bekleyenler kendi isteklerini
+ *   upstream'e gönderir.
+ * - Yollar gateway.coalescing.routes property'sinden okunur (PathPatternMatcher deseni).
+ *
+ * Metrikler: gateway.coalescing.joined (lidere katılan istek), gateway.coalescing.fallbacks.
+ */
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    static final String DEFAULT_ROUTES = "/api/clubs/**,/api/events/**,/api/posts/feed,"
+            + "/api/gamification/leaderboard/**";
+
+    // Liderden kopyalanmayan header'lar; CORS ve Vary gibi istemciye özel olanlar zaten takipçide vardır
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.SET_COOKIE.toLowerCase()
+    );
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    private static final class LeaderUnavailableException extends RuntimeException {
+
+        LeaderUnavailableException() {
+            super("Coalesced leader finished without a shareable response", null, false, false);
+        }
+    }
+
+    private final ConcurrentMap<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final PathPatternMatcher routes;
+    private final boolean enabled;
+    private final Counter joinedCounter;
+    private final Counter fallbackCounter;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+                                   @Value("${gateway.coalescing.enabled:true}") boolean enabled,
+                                   @Value("${gateway.coalescing.routes:" + DEFAULT_ROUTES + "}") List<String> routes) {
+        this.routes = new PathPatternMatcher(routes);
+        this.enabled = enabled;
+        this.joinedCounter = Counter.builder("gateway.coalescing.joined").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("gateway.coalescing.fallbacks").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || request.getMethod() != HttpMethod.GET || !routes.matches(request.getURI().getPath())) {
+            return chain.filter(exchange);
+        }
+
+        String key = keyFor(request);
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Sinks.One<SharedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            joinedCounter.increment();
+            return leader.asMono()
+                    .flatMap(shared -> writeShared(exchange.getResponse(), shared))
+                    .onErrorResume(LeaderUnavailableException.class, ex -> {
+                        fallbackCounter.increment();
+                        return chain.filter(exchange);
+                    });
+        }
+
+        ServerHttpResponse capturing = new CapturingResponse(exchange.getResponse(), key, sink);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> release(key, sink));
+    }
+
+    @Override
+    public int getOrder() {
+        // Liderin cevap gövdesini yakalayabilmek için NettyWriteResponseFilter'dan önce
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private static String keyFor(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return request.getURI().getPath()
+                + (query != null ? "?" + query : "")
+                + "|" + (authorization != null ? authorization : "");
+    }
+
+    private Mono<Void> writeShared(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        HttpHeaders headers = response.getHeaders();
+        shared.headers().forEach((name, values) -> {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase()) && !headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        if (shared.body().length == 0) {
+            return response.setComplete();
+        }
+        headers.setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    // Lider paylaşılabilir bir cevap üretmeden bittiyse bekleyenler kendi isteklerine döner
+    private void release(String key, Sinks.One<SharedResponse> sink) {
+        inFlight.remove(key, sink);
+        sink.tryEmitError(new LeaderUnavailableException());
+    }
+
+    private void share(String key, Sinks.One<SharedResponse> sink, SharedResponse shared) {
+        inFlight.remove(key, sink);
+        sink.tryEmitValue(shared);
+    }
+
+    /**
+     * Liderin cevabını yazarken bir kopyasını bekleyenlerle paylaşır.
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Sinks.One<SharedResponse> sink;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, Sinks.One<SharedResponse> sink) {
+            super(delegate);
+            this.key = key;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body))
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> {
+                        share(key, sink, snapshot(bytes));
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            release(key, sink);
+            return super.writeAndFlushWith(body);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            if (getStatusCode() != null) {
+                share(key, sink, snapshot(new byte[0]));
+            }
+            return super.setComplete();
+        }
+
+        private SharedResponse snapshot(byte[] body) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.addAll(getHeaders());
+            return new SharedResponse(getStatusCode(), headers, body);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.educonnect.apigateway.filter;
+
+import com.educonnect.apigateway.cache.CachedResponse;
+import com.educonnect.apigateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Public kulüp ve etkinlik listeleri/detayları için gateway seviyesinde GET cevap cache'i.
+ *
+ * - Yalnızca gateway.response-cache.routes ile eşleşen ve aynı zamanda public olan yollar cache'lenir;
+ *   cache isabeti AuthenticationFilter'dan önce döndüğü için korumalı bir yol asla buradan cevaplanmaz.
+ * - 200 cevaplar gövdenin SHA-256 özetinden üretilen ETag ile saklanır. If-None-Match eşleşirse gövde
+ *   yerine 304 döner; Cache-Control: no-cache ile istemci her seferinde ETag ile doğrular.
+ * - Set-Cookie içeren veya 200 olmayan cevaplar saklanmaz.
+ * - Cache anahtarı yalnızca path'tir: cache'lenen uçlar query parametresi almaz, rastgele ?x= değerleri
+ *   ayrı kayıt açamaz.
+ * - Kayıtlar ttl sonunda, club/event değişiklik mesajlarıyla (ResponseCacheInvalidationListener) veya
+ *   gateway'den geçen başarılı yazmalarla (ResponseCacheWriteFilter) düşer.
+ *
+ * Metrikler: gateway.response_cache.not_modified; isabet/ıska için cache=gatewayResponse.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    static final String DEFAULT_ROUTES = "/api/clubs,/api/clubs/{uuid},/api/events,/api/events/{uuid}";
+
+    private static final String CACHE_CONTROL = "no-cache";
+    private static final int ETAG_BYTES = 16;
+
+    private final ResponseCacheStore responseCacheStore;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final PathPatternMatcher cacheableRoutes;
+    private final boolean enabled;
+    private final Counter notModifiedCounter;
+
+    public ResponseCacheFilter(ResponseCacheStore responseCacheStore,
+                               PublicRouteMatcher publicRouteMatcher,
+                               MeterRegistry meterRegistry,
+                               @Value("${gateway.response-cache.enabled:true}") boolean enabled,
+                               @Value("${gateway.response-cache.routes:" + DEFAULT_ROUTES + "}") List<String> routes) {
+        this.responseCacheStore = responseCacheStore;
+        this.publicRouteMatcher = publicRouteMatcher;
+        this.cacheableRoutes = new PathPatternMatcher(routes);
+        this.enabled = enabled;
+        this.notModifiedCounter = Counter.builder("gateway.response_cache.not_modified").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getPath();
+        if (!enabled || request.getMethod() != HttpMethod.GET
+                || !cacheableRoutes.matches(path) || !publicRouteMatcher.matches(path)) {
+            return chain.filter(exchange);
+        }
+
+        String key = path;
+        String ifNoneMatch = request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        CachedResponse cached = responseCacheStore.get(key);
+        if (cached != null) {
+            return writeCached(exchange.getResponse(), cached, ifNoneMatch);
+        }
+
+        long generation = responseCacheStore.generation(path);
+        ServerHttpResponse caching = new CachingResponse(exchange.getResponse(), key, path, generation, ifNoneMatch);
+        return chain.filter(exchange.mutate().response(caching).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Cevap gövdesini yakalayabilmek için NettyWriteResponseFilter'dan, isabetleri de coalescing'den önce
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached, String ifNoneMatch) {
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.setCacheControl(CACHE_CONTROL);
+        if (etagMatches(ifNoneMatch, cached.etag())) {
+            notModifiedCounter.increment();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    // If-None-Match: "*" veya virgülle ayrılmış (weak olabilen) ETag listesi
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Backend cevabını gövdesiyle birlikte toplar, ETag ekler ve uygunsa cache'e yazar.
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final String path;
+        private final long generation;
+        private final String ifNoneMatch;
+
+        CachingResponse(ServerHttpResponse delegate, String key, String path, long generation, String ifNoneMatch) {
+            super(delegate);
+            this.key = key;
+            this.path = path;
+            this.generation = generation;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != HttpStatus.OK.value()
+                    || getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body))
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> {
+                        CachedResponse response = new CachedResponse(getHeaders().getContentType(), bytes, etagOf(bytes));
+                        responseCacheStore.put(key, path, generation, response);
+                        getHeaders().setETag(response.etag());
+                        getHeaders().setCacheControl(CACHE_CONTROL);
+                        if (etagMatches(ifNoneMatch, response.etag())) {
+                            notModifiedCounter.increment();
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                            return getDelegate().setComplete();
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.educonnect.apigateway.filter;
+
+import com.educonnect.apigateway.cache.ResponseCacheStore;
+import com.educonnect.apigateway.config.RabbitMQConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Gateway'den geçen başarılı club/event yazmalarında response cache'i temizler.
+ *
+ * Kulüp üyeliği, rol, logo, kulüp oluşturma/onay gibi yazmalar servislerden mesaj yayınlamaz; cache yalnızca
+ * mesajlarla temizlenseydi bu değişiklikler ttl sonuna kadar görünmezdi.
+ *
+ * - GET/HEAD/OPTIONS dışındaki bir istek club-writes desenleriyle eşleşir ve 2xx dönerse kulüp ve etkinlik
+ *   grupları (etkinlikler kulüp adını taşır), event-writes ile eşleşirse etkinlik grubu temizlenir.
+ * - Bu instance'ın cache'i hemen temizlenir; diğer instance'lar için gateway.response-cache.exchange'e
+ *   (fanout) bildirim yayınlanır. Yayın bloklayan bir çağrı olduğu için boundedElastic üzerinde, cevabı
+ *   bekletmeden yapılır; RabbitMQ hatası loglanır, diğer instance'lar ttl ile düzelir.
+ */
+@Component
+public class ResponseCacheWriteFilter implements GlobalFilter, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCacheWriteFilter.class);
+
+    static final String DEFAULT_CLUB_WRITES = "/api/clubs/**,/api/admin/clubs/**,/api/academician/role-change-requests/**";
+    static final String DEFAULT_EVENT_WRITES = "/api/events/**";
+
+    private final ResponseCacheStore responseCacheStore;
+    private final RabbitTemplate rabbitTemplate;
+    private final boolean enabled;
+    private final PathPatternMatcher clubWrites;
+    private final PathPatternMatcher eventWrites;
+
+    public ResponseCacheWriteFilter(ResponseCacheStore responseCacheStore,
+                                    RabbitTemplate rabbitTemplate,
+                                    @Value("${gateway.response-cache.enabled:true}") boolean enabled,
+                                    @Value("${gateway.response-cache.club-writes:" + DEFAULT_CLUB_WRITES + "}") List<String> clubWrites,
+                                    @Value("${gateway.response-cache.event-writes:" + DEFAULT_EVENT_WRITES + "}") List<String> eventWrites) {
+        this.responseCacheStore = responseCacheStore;
+        this.rabbitTemplate = rabbitTemplate;
+        this.enabled = enabled;
+        this.clubWrites = new PathPatternMatcher(clubWrites);
+        this.eventWrites = new PathPatternMatcher(eventWrites);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (!enabled || method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return chain.filter(exchange);
+        }
+        String path = exchange.getRequest().getURI().getPath();
+        String routingKey = clubWrites.matches(path) ? RabbitMQConfig.ROUTING_KEY_CLUBS_WRITTEN
+                : eventWrites.matches(path) ? RabbitMQConfig.ROUTING_KEY_EVENTS_WRITTEN
+                : null;
+        if (routingKey == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).doOnSuccess(done -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            if (status != null && status.is2xxSuccessful()) {
+                invalidate(routingKey);
+            }
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        // Karar cevap tamamlandıktan sonra durum koduna göre verilir; reddedilen (401/429) istekler temizlemez
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 4;
+    }
+
+    private void invalidate(String routingKey) {
+        responseCacheStore.invalidate(ResponseCacheStore.EVENTS);
+        if (RabbitMQConfig.ROUTING_KEY_CLUBS_WRITTEN.equals(routingKey)) {
+            responseCacheStore.invalidate(ResponseCacheStore.CLUBS);
+        }
+        Mono.fromRunnable(() -> rabbitTemplate.convertAndSend(RabbitMQConfig.GATEWAY_CACHE_EXCHANGE, routingKey, ""))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> LOGGER.warn("Response cache invalidation could not be published. routingKey={}, reason={}",
+                        routingKey, e.getMessage()));
+    }
+}
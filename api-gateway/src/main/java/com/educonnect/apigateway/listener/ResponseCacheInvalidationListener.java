@@ -0,0 +1,51 @@
+package com.educonnect.apigateway.listener;
+
+import com.educonnect.apigateway.cache.ResponseCacheStore;
+import com.educonnect.apigateway.config.RabbitMQConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Club/event değişiklik mesajlarında ilgili response cache gruplarını siler. Mesaj gövdesi okunmaz;
+ * liste cevapları da değiştiği için grubun tamamı düşer.
+ *
+ * - club.updated / club.deleted: /api/clubs ve kulüp adını taşıyan /api/events
+ * - event.created / event.registered: /api/events
+ * - gateway.clubs.written / gateway.events.written: herhangi bir gateway instance'ından geçen başarılı
+ *   yazma isteği (ResponseCacheWriteFilter). Servislerin mesaj yayınlamadığı yazmalar (üyelik, rol,
+ *   logo, kulüp oluşturma/onay, etkinlik güncelleme) böylece tüm instance'larda cache'i temizler.
+ *
+ * Kalan boşluk: gateway'i atlayan yazmalar (servisler arası çağrılar, doğrudan veritabanı değişiklikleri,
+ * zamanlanmış işler) mesaj yayınlamıyorsa ttl sonuna kadar görünmez.
+ */
+@Component
+public class ResponseCacheInvalidationListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCacheInvalidationListener.class);
+
+    private final ResponseCacheStore responseCacheStore;
+
+    public ResponseCacheInvalidationListener(ResponseCacheStore responseCacheStore) {
+        this.responseCacheStore = responseCacheStore;
+    }
+
+    @RabbitListener(queues = "#{responseCacheInvalidationQueue.name}")
+    public void handleChange(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        LOGGER.debug("Response cache invalidation received. routingKey={}", routingKey);
+        switch (routingKey) {
+            case RabbitMQConfig.ROUTING_KEY_CLUB_UPDATED, RabbitMQConfig.ROUTING_KEY_CLUB_DELETED,
+                 RabbitMQConfig.ROUTING_KEY_CLUBS_WRITTEN -> {
+                responseCacheStore.invalidate(ResponseCacheStore.CLUBS);
+                responseCacheStore.invalidate(ResponseCacheStore.EVENTS);
+            }
+            case RabbitMQConfig.ROUTING_KEY_EVENT_CREATED, RabbitMQConfig.ROUTING_KEY_EVENT_REGISTERED,
+                 RabbitMQConfig.ROUTING_KEY_EVENTS_WRITTEN ->
+                    responseCacheStore.invalidate(ResponseCacheStore.EVENTS);
+            default -> LOGGER.warn("Unexpected routing key on response cache queue: {}", routingKey);
+        }
+    }
+}
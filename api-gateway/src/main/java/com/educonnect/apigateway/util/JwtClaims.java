@@ -0,0 +1,14 @@
+package com.educonnect.apigateway.util;
+
+import java.time.Instant;
+
+/**
+ * Doğrulanmış bir token'dan gateway'in ihtiyaç duyduğu claim'ler.
+ *
+ * @param username  subject (e-posta)
+ * @param userId    userId claim'i, yoksa null
+ * @param roles     roles claim'i (comma-separated), yoksa null
+ * @param expiresAt exp claim'i, yoksa null
+ */
+public record JwtClaims(String username, String userId, String roles, Instant expiresAt) {
+}
@@ -1,9 +1,16 @@
 package com.educonnect.apigateway.util;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,55 +19,137 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Date;
 
 
+/**
+ * Gateway'e gelen JWT'leri doğrular.
+ *
+ * - HMAC anahtarı ve parser uygulama açılışında bir kez kurulur; istek başına Base64 çözme yapılmaz.
+ * - Her token için imza bir kez doğrulanır ve claim'ler {@link JwtClaims} olarak döner.
+ * - Doğrulanmış token'lar sınırlı bir cache'te exp anına kadar tutulur; aynı token ile gelen sonraki
+ *   istekler imza doğrulamasını atlar. Geçersiz token'lar cache'lenmez. jwt.cache.max-size=0 cache'i kapatır.
+ *
+ * Metrikler: cache.gets / cache.size vb. (cache=jwtVerification).
+ */
 @Component
 public class JwtUtil {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtUtil.class);
 
-    // api-gateway.yml dosyasından (Config Server üzerinden) okunacak
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtParser parser;
+    private final Cache<String, JwtClaims> verifiedTokens;
+
+    // jwt.secret api-gateway.yml dosyasından (Config Server üzerinden) okunur
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                   MeterRegistry meterRegistry) {
+        SecretKey key = deriveHmacKey(secret);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("JWT key fingerprint (SHA-256 Base64): {}", fingerprint(key));
+        }
+        this.parser = Jwts.parser().verifyWith(key).build();
+        if (cacheMaxSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerification");
+        } else {
+            this.verifiedTokens = null;
+        }
+    }
+
+    /**
+     * Token'ı doğrular ve claim'lerini döndürür. İmza veya süre geçerliliğini yitirmişse hata fırlatır
+     * (süresi dolmuşsa ExpiredJwtException).
+     */
+    public JwtClaims verify(final String token) {
+        JwtClaims cached = verifiedTokens != null ? verifiedTokens.getIfPresent(token) : null;
+        if (cached != null) {
+            return cached;
+        }
+        Claims payload = parser.parseSignedClaims(token).getPayload();
+        Date expiration = payload.getExpiration();
+        JwtClaims claims = new JwtClaims(
+                payload.getSubject(),
+                payload.get("userId", String.class),
+                payload.get("roles", String.class),
+                expiration != null ? expiration.toInstant() : null
+        );
+        // exp'siz token süresiz kalacağı için cache'lenmez
+        if (verifiedTokens != null && claims.expiresAt() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * "Bearer ..." Authorization header'ından token'ı çıkarır (tırnaklı gönderilen token'lar dahil).
+     * Header yoksa veya Bearer değilse null döner.
+     */
+    public static String resolveBearerToken(String authHeader) {
+        if (authHeader == null || !authHeader.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        String token = authHeader.substring(7).trim();
+        if (token.startsWith("\"") && token.endsWith("\"") && token.length() > 1) {
+            token = token.substring(1, token.length() - 1).trim();
+        }
+        return token;
+    }
 
     /**
      * Token'ı doğrular. İmza veya süre geçerliliğini yitirmişse hata fırlatır.
      */
     public void validateToken(final String token) {
-        Jwts.parser().verifyWith(getSignInKey()).build().parseSignedClaims(token);
+        verify(token);
     }
 
     /**
      * Token içerisinden kullanıcı adını çıkarır.
      */
     public String extractUsername(String token) {
-        return Jwts.parser().verifyWith(getSignInKey()).build()
-                .parseSignedClaims(token).getPayload().getSubject();
+        return verify(token).username();
     }
 
     /**
      * Token içerisinden userId claim'ini çıkarır.
      */
     public String extractUserId(String token) {
-        return Jwts.parser().verifyWith(getSignInKey()).build()
-                .parseSignedClaims(token).getPayload().get("userId", String.class);
+        return verify(token).userId();
     }
 
     /**
      * Token içerisinden roles claim'ini çıkarır (comma-separated).
      */
     public String extractRoles(String token) {
-        return Jwts.parser().verifyWith(getSignInKey()).build()
-                .parseSignedClaims(token).getPayload().get("roles", String.class);
+        return verify(token).roles();
     }
 
-    private SecretKey getSignInKey() {
-        SecretKey key = deriveHmacKey(secret);
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("JWT key fingerprint (SHA-256 Base64): {}", fingerprint(key));
+    /**
+     * Cache kaydı token'ın exp anında düşer; okuma ile süre uzamaz.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return key;
     }
 
     // Base64/RAW prefix algılama (case-insensitive); tanınmazsa otomatik algı.
@@ -0,0 +1,87 @@
+package com.educonnect.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public yol kontrolünü eski stream + String.matches uygulaması ile karşılaştıran JMH benchmark'ı.
+ * Allocation farkını görmek için -prof gc ile çalıştırılabilir.
+ *
+ * Varsayılan test koşusunda atlanır:
+ *
+ *   mvn -pl api-gateway test -Dtest=PublicRouteMatcherBenchmark -Dbenchmark.routes=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicRouteMatcherBenchmark {
+
+    private static final List<String> LEGACY_PUBLIC_ENDPOINTS = List.of(
+            "/api/auth/register",
+            "/api/auth/login",
+            "/api/auth/refresh",
+            "/api/auth/logout",
+            "/api/auth/forgot-password",
+            "/api/auth/reset-password",
+            "/api/auth/request/academician-account",
+            "/api/auth/request/student-account"
+    );
+
+    @Param({
+            "/api/auth/login",
+            "/api/clubs/3f2b8c1e-4d5a-4e6f-9a7b-1c2d3e4f5a6b",
+            "/api/posts/3f2b8c1e-4d5a-4e6f-9a7b-1c2d3e4f5a6b/comments"
+    })
+    public String path;
+
+    private PublicRouteMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new PublicRouteMatcher(Arrays.asList(PublicRouteMatcher.DEFAULT_ROUTES.split(",")));
+    }
+
+    @Benchmark
+    public boolean legacyStreamAndRegex() {
+        boolean matchesPublicList = LEGACY_PUBLIC_ENDPOINTS.stream().anyMatch(p -> path.equals(p));
+        boolean isClubListEndpoint = path.equals("/api/clubs");
+        boolean isSingleClubEndpoint = path.matches("^/api/clubs/[a-fA-F0-9\\-]{36}$");
+        boolean isEventListEndpoint = path.equals("/api/events");
+        boolean isSingleEventEndpoint = path.matches("^/api/events/[a-fA-F0-9\\-]{36}$");
+        return matchesPublicList || isClubListEndpoint || isSingleClubEndpoint
+                || isEventListEndpoint || isSingleEventEndpoint;
+    }
+
+    @Benchmark
+    public boolean compiledTrie() {
+        return matcher.matches(path);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.routes", matches = "true")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PublicRouteMatcherBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,56 @@
+package com.educonnect.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicRouteMatcherTest {
+
+    private static final String CLUB_ID = "3f2b8c1e-4d5a-4e6f-9a7b-1c2d3e4f5a6b";
+
+    private final PublicRouteMatcher matcher =
+            new PublicRouteMatcher(Arrays.asList(PublicRouteMatcher.DEFAULT_ROUTES.split(",")));
+
+    @Test
+    void shouldMatchDefaultPublicRoutes() {
+        assertTrue(matcher.matches("/api/auth/login"));
+        assertTrue(matcher.matches("/api/auth/request/student-account"));
+        assertTrue(matcher.matches("/api/clubs"));
+        assertTrue(matcher.matches("/api/clubs/" + CLUB_ID));
+        assertTrue(matcher.matches("/api/events/" + CLUB_ID.toUpperCase()));
+    }
+
+    @Test
+    void shouldRejectProtectedOrPartialPaths() {
+        assertFalse(matcher.matches("/api/auth"));
+        assertFalse(matcher.matches("/api/auth/login/extra"));
+        assertFalse(matcher.matches("/api/clubs/"));
+        assertFalse(matcher.matches("/api/clubs/" + CLUB_ID + "/members"));
+        assertFalse(matcher.matches("/api/clubs/not-a-uuid"));
+        assertFalse(matcher.matches("/api/users/me"));
+        assertFalse(matcher.matches("/"));
+    }
+
+    @Test
+    void shouldFallBackToWildcardWhenLiteralBranchDoesNotMatch() {
+        PublicRouteMatcher wildcardMatcher = new PublicRouteMatcher(List.of("/api/*/public", "/api/clubs/{uuid}"));
+
+        assertTrue(wildcardMatcher.matches("/api/clubs/public"));
+        assertTrue(wildcardMatcher.matches("/api/clubs/" + CLUB_ID));
+        assertFalse(wildcardMatcher.matches("/api/clubs/private"));
+    }
+
+    @Test
+    void shouldMatchRemainingSegmentsWithDoubleWildcard() {
+        PublicRouteMatcher restMatcher = new PublicRouteMatcher(List.of("/api/llm/**"));
+
+        assertTrue(restMatcher.matches("/api/llm"));
+        assertTrue(restMatcher.matches("/api/llm/chat"));
+        assertTrue(restMatcher.matches("/api/llm/chat/stream"));
+        assertFalse(restMatcher.matches("/api/llmx"));
+    }
+}
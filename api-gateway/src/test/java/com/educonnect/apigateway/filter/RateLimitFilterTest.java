@@ -0,0 +1,116 @@
+package com.educonnect.apigateway.filter;
+
+import com.educonnect.apigateway.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private static final String SECRET = "educonnect-test-secret-educonnect-test-secret-0123456789";
+
+    private RedisRateLimiter redisRateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+    private AtomicInteger backendCalls;
+    private final GatewayFilterChain backend = exchange -> {
+        backendCalls.incrementAndGet();
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        redisRateLimiter = mock(RedisRateLimiter.class);
+        when(redisRateLimiter.getConfig()).thenReturn(new HashMap<>());
+        meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil("RAW:" + SECRET, 100, meterRegistry);
+        filter = new RateLimitFilter(redisRateLimiter, jwtUtil, meterRegistry, true,
+                Arrays.asList(RateLimitFilter.DEFAULT_POLICIES.split(",")), Duration.ofMillis(50));
+        backendCalls = new AtomicInteger();
+    }
+
+    @Test
+    void shouldUseRoutePolicyAndUserBucketForAuthenticatedRequest() {
+        when(redisRateLimiter.isAllowed(anyString(), anyString()))
+                .thenReturn(Mono.just(new RateLimiter.Response(true, Map.of("X-RateLimit-Remaining", "9"))));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/llm/chat")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("user-1")));
+
+        filter.filter(exchange, backend).block();
+
+        verify(redisRateLimiter).isAllowed(eq("rate-limit:llm"), eq("llm:user:user-1"));
+        assertEquals(1, backendCalls.get());
+        assertEquals("9", exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"));
+    }
+
+    @Test
+    void shouldRejectWith429WhenBucketIsEmpty() {
+        when(redisRateLimiter.isAllowed(anyString(), anyString()))
+                .thenReturn(Mono.just(new RateLimiter.Response(false, Map.of("X-RateLimit-Remaining", "0"))));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs")
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 52000)));
+
+        filter.filter(exchange, backend).block();
+
+        verify(redisRateLimiter).isAllowed(eq("rate-limit:default"), eq("default:ip:10.0.0.7"));
+        assertEquals(0, backendCalls.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals(1.0, meterRegistry.counter("gateway.rate_limit.rejected", "policy", "default").count());
+    }
+
+    @Test
+    void shouldAllowRequestWhenRedisDoesNotAnswerInTime() {
+        when(redisRateLimiter.isAllowed(anyString(), anyString())).thenReturn(Mono.never());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs"));
+
+        filter.filter(exchange, backend).block(Duration.ofSeconds(1));
+
+        assertEquals(1, backendCalls.get());
+        assertEquals(1.0, meterRegistry.counter("gateway.rate_limit.timeouts", "policy", "default").count());
+    }
+
+    @Test
+    void shouldRegisterPolicyConfigurations() {
+        Map<String, RedisRateLimiter.Config> config = redisRateLimiter.getConfig();
+
+        assertEquals(2, config.get("rate-limit:llm").getReplenishRate());
+        assertEquals(10, config.get("rate-limit:llm").getBurstCapacity());
+        assertEquals(20, config.get("rate-limit:default").getReplenishRate());
+    }
+
+    private static String token(String userId) {
+        return Jwts.builder()
+                .subject("student@educonnect.com")
+                .claim("userId", userId)
+                .expiration(Date.from(Instant.now().plus(Duration.ofMinutes(15))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
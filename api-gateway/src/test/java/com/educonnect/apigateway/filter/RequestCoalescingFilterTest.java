@@ -0,0 +1,98 @@
+package com.educonnect.apigateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestCoalescingFilterTest {
+
+    private static final String CLUB_PATH = "/api/clubs/3f2b8c1e-4d5a-4e6f-9a7b-1c2d3e4f5a6b";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescingFilter filter;
+    private AtomicInteger backendCalls;
+    private Sinks.Empty<Void> upstream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestCoalescingFilter(meterRegistry, true,
+                Arrays.asList(RequestCoalescingFilter.DEFAULT_ROUTES.split(",")));
+        backendCalls = new AtomicInteger();
+        upstream = Sinks.empty();
+    }
+
+    @Test
+    void shouldSendConcurrentIdenticalRequestsUpstreamOnce() {
+        MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get(CLUB_PATH));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get(CLUB_PATH));
+
+        filter.filter(leader, slowBackend("{\"name\":\"Robotics\"}")).subscribe();
+        filter.filter(follower, slowBackend("{\"name\":\"Robotics\"}")).subscribe();
+        upstream.tryEmitEmpty();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals("{\"name\":\"Robotics\"}", follower.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, follower.getResponse().getHeaders().getContentType());
+        assertEquals(1.0, meterRegistry.counter("gateway.coalescing.joined").count());
+    }
+
+    @Test
+    void shouldNotShareResponseAcrossDifferentUsers() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/feed")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-a"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/feed")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-b"));
+
+        filter.filter(first, slowBackend("[]")).subscribe();
+        filter.filter(second, slowBackend("[]")).subscribe();
+        upstream.tryEmitEmpty();
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(0.0, meterRegistry.counter("gateway.coalescing.joined").count());
+    }
+
+    @Test
+    void shouldFallBackToUpstreamWhenLeaderFails() {
+        MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get(CLUB_PATH));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get(CLUB_PATH));
+        GatewayFilterChain failingBackend = exchange -> upstream.asMono()
+                .then(Mono.error(new IllegalStateException("connection reset")));
+
+        filter.filter(leader, failingBackend).subscribe(null, error -> { });
+        filter.filter(follower, slowBackend("{}")).subscribe();
+        upstream.tryEmitEmpty();
+
+        assertEquals("{}", follower.getResponse().getBodyAsString().block());
+        assertEquals(1.0, meterRegistry.counter("gateway.coalescing.fallbacks").count());
+    }
+
+    private GatewayFilterChain slowBackend(String body) {
+        return exchange -> {
+            backendCalls.incrementAndGet();
+            return upstream.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                return response.writeWith(Mono.just(
+                        response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+}
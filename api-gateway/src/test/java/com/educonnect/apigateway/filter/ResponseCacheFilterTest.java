@@ -0,0 +1,126 @@
+package com.educonnect.apigateway.filter;
+
+import com.educonnect.apigateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheFilterTest {
+
+    private static final String CLUBS_BODY = "[{\"name\":\"Robotics\"}]";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCacheStore responseCacheStore;
+    private ResponseCacheFilter filter;
+    private AtomicInteger backendCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        responseCacheStore = new ResponseCacheStore(Duration.ofSeconds(30), DataSize.ofMegabytes(1), meterRegistry);
+        PublicRouteMatcher publicRouteMatcher =
+                new PublicRouteMatcher(Arrays.asList(PublicRouteMatcher.DEFAULT_ROUTES.split(",")));
+        filter = new ResponseCacheFilter(responseCacheStore, publicRouteMatcher, meterRegistry, true,
+                Arrays.asList(ResponseCacheFilter.DEFAULT_ROUTES.split(",")));
+        backendCalls = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeSecondRequestFromCacheWithEtag() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs"));
+        filter.filter(first, backend(CLUBS_BODY)).block();
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs"));
+        filter.filter(second, backend(CLUBS_BODY)).block();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals(CLUBS_BODY, second.getResponse().getBodyAsString().block());
+        assertEquals(first.getResponse().getHeaders().getETag(), second.getResponse().getHeaders().getETag());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenEtagMatches() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs"));
+        filter.filter(first, backend(CLUBS_BODY)).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange revalidation = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/clubs").header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(revalidation, backend(CLUBS_BODY)).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+        assertEquals(1.0, meterRegistry.counter("gateway.response_cache.not_modified").count());
+    }
+
+    @Test
+    void shouldGoToBackendAfterInvalidation() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs")), backend(CLUBS_BODY)).block();
+
+        responseCacheStore.invalidate("/api/clubs");
+        MockServerWebExchange afterUpdate = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs"));
+        filter.filter(afterUpdate, backend("[]")).block();
+
+        assertEquals(2, backendCalls.get());
+        assertEquals("[]", afterUpdate.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldNotStoreResponseWhenInvalidatedWhileInFlight() {
+        GatewayFilterChain slowBackend = exchange -> {
+            responseCacheStore.invalidate("/api/events");
+            return backend(CLUBS_BODY).filter(exchange);
+        };
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/events")), slowBackend).block();
+
+        assertNull(responseCacheStore.get("/api/events"));
+    }
+
+    @Test
+    void shouldKeyOnPathIgnoringQueryString() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs?x=1")), backend(CLUBS_BODY)).block();
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs?x=2"));
+        filter.filter(second, backend(CLUBS_BODY)).block();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals(CLUBS_BODY, second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldNotCacheProtectedPath() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs/my-clubs")), backend("[]")).block();
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clubs/my-clubs"));
+        filter.filter(second, backend("[]")).block();
+
+        assertEquals(2, backendCalls.get());
+        assertNull(second.getResponse().getHeaders().getETag());
+    }
+
+    private GatewayFilterChain backend(String body) {
+        return exchange -> {
+            backendCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(
+                    response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.educonnect.apigateway.filter;
+
+import com.educonnect.apigateway.cache.CachedResponse;
+import com.educonnect.apigateway.cache.ResponseCacheStore;
+import com.educonnect.apigateway.config.RabbitMQConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ResponseCacheWriteFilterTest {
+
+    private static final String CLUB_PATH = "/api/clubs/" + UUID.randomUUID();
+
+    private ResponseCacheStore responseCacheStore;
+    private RabbitTemplate rabbitTemplate;
+    private ResponseCacheWriteFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheStore = new ResponseCacheStore(Duration.ofSeconds(30), DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+        rabbitTemplate = mock(RabbitTemplate.class);
+        filter = new ResponseCacheWriteFilter(responseCacheStore, rabbitTemplate, true,
+                Arrays.asList(ResponseCacheWriteFilter.DEFAULT_CLUB_WRITES.split(",")),
+                Arrays.asList(ResponseCacheWriteFilter.DEFAULT_EVENT_WRITES.split(",")));
+        store("/api/clubs");
+        store(CLUB_PATH);
+        store("/api/events");
+    }
+
+    @Test
+    void shouldInvalidateClubsAndEventsAfterSuccessfulClubWrite() {
+        filter.filter(exchange(MockServerHttpRequest.post(CLUB_PATH + "/join")), backend(HttpStatus.OK)).block();
+
+        assertNull(responseCacheStore.get("/api/clubs"));
+        assertNull(responseCacheStore.get(CLUB_PATH));
+        assertNull(responseCacheStore.get("/api/events"));
+        verify(rabbitTemplate, timeout(1000)).convertAndSend(
+                RabbitMQConfig.GATEWAY_CACHE_EXCHANGE, RabbitMQConfig.ROUTING_KEY_CLUBS_WRITTEN, "");
+    }
+
+    @Test
+    void shouldInvalidateOnlyEventsAfterEventWrite() {
+        filter.filter(exchange(MockServerHttpRequest.put("/api/events/manage/" + UUID.randomUUID())),
+                backend(HttpStatus.OK)).block();
+
+        assertNotNull(responseCacheStore.get("/api/clubs"));
+        assertNull(responseCacheStore.get("/api/events"));
+        verify(rabbitTemplate, timeout(1000)).convertAndSend(
+                RabbitMQConfig.GATEWAY_CACHE_EXCHANGE, RabbitMQConfig.ROUTING_KEY_EVENTS_WRITTEN, "");
+    }
+
+    @Test
+    void shouldKeepCacheWhenWriteFailsOrIsRead() {
+        filter.filter(exchange(MockServerHttpRequest.post("/api/admin/clubs")), backend(HttpStatus.FORBIDDEN)).block();
+        filter.filter(exchange(MockServerHttpRequest.get(CLUB_PATH)), backend(HttpStatus.OK)).block();
+
+        assertNotNull(responseCacheStore.get("/api/clubs"));
+        assertNotNull(responseCacheStore.get("/api/events"));
+        verify(rabbitTemplate, never()).convertAndSend(eq(RabbitMQConfig.GATEWAY_CACHE_EXCHANGE), anyString(), eq(""));
+    }
+
+    private void store(String path) {
+        responseCacheStore.put(path, path, responseCacheStore.generation(path),
+                new CachedResponse(null, new byte[] {'[', ']'}, "\"etag\""));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+
+    private static GatewayFilterChain backend(HttpStatus status) {
+        return exchange -> {
+            exchange.getResponse().setStatusCode(status);
+            return Mono.empty();
+        };
+    }
+}
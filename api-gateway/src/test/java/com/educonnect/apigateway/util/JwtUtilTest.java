@@ -0,0 +1,71 @@
+package com.educonnect.apigateway.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "RAW:educonnect-test-secret-educonnect-test-secret-0123456789";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(
+            "educonnect-test-secret-educonnect-test-secret-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldReturnClaimsFromSingleVerificationAndCacheThem() {
+        String token = token(KEY, Instant.now().plus(Duration.ofMinutes(15)));
+
+        JwtClaims claims = jwtUtil.verify(token);
+
+        assertEquals("student@educonnect.com", claims.username());
+        assertEquals("user-1", claims.userId());
+        assertEquals("ROLE_STUDENT", claims.roles());
+        assertSame(claims, jwtUtil.verify(token));
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        String token = token(KEY, Instant.now().minus(Duration.ofMinutes(1)));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        SecretKey otherKey = Keys.hmacShaKeyFor(
+                "another-secret-another-secret-another-secret-0123456789".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(SignatureException.class,
+                () -> jwtUtil.verify(token(otherKey, Instant.now().plus(Duration.ofMinutes(15)))));
+    }
+
+    private static String token(SecretKey key, Instant expiresAt) {
+        return Jwts.builder()
+                .subject("student@educonnect.com")
+                .claim("userId", "user-1")
+                .claim("roles", "ROLE_STUDENT")
+                .expiration(Date.from(expiresAt))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,107 @@
+package com.educonnect.apigateway.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationFilter'ın token doğrulama maliyetini karşılaştıran JMH benchmark'ı.
+ *
+ * - legacyFourParses: eski yol; validateToken + 3 extract çağrısı, her biri anahtarı yeniden türetip parser kurar.
+ * - singleParse: önceden kurulmuş parser ile tek doğrulama (cache miss).
+ * - cachedVerify: aynı token ile tekrar gelen istek (cache hit).
+ *
+ * Varsayılan test koşusunda atlanır:
+ *
+ *   mvn -pl api-gateway test -Dtest=JwtVerificationBenchmark -Dbenchmark.jwt=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[64];
+        new SecureRandom().nextBytes(keyBytes);
+        secret = Base64.getEncoder().encodeToString(keyBytes);
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+        token = Jwts.builder()
+                .subject("student@educonnect.com")
+                .claim("userId", UUID.randomUUID().toString())
+                .claim("roles", "ROLE_STUDENT")
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(key)
+                .compact();
+
+        uncachedJwtUtil = new JwtUtil(secret, 0, new SimpleMeterRegistry());
+        cachedJwtUtil = new JwtUtil(secret, 10_000, new SimpleMeterRegistry());
+        cachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        blackhole.consume(legacyParse());
+        blackhole.consume(legacyParse().getSubject());
+        blackhole.consume(legacyParse().get("userId", String.class));
+        blackhole.consume(legacyParse().get("roles", String.class));
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims cachedVerify() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    private Claims legacyParse() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.jwt", matches = "true")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -3,7 +3,9 @@ package com.educonnect.authservices.config;
 import com.educonnect.authservices.Repository.UserRepository;
 import com.educonnect.authservices.security.JwtAuthenticationFilter;
 import com.educonnect.authservices.service.JWTService;
+import com.educonnect.identity.InternalIdentityCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,6 +26,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -43,7 +46,8 @@ public class SecurityConfig {
 
     // 1. HTTP Güvenlik Filtre Zinciri
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, InternalIdentityCodec internalIdentityCodec,
+                                                   @Value("${internal-identity.role-cache-ttl:30s}") Duration roleCacheTtl) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
@@ -72,7 +76,7 @@ public class SecurityConfig {
                 .httpBasic(basic -> basic.disable());
 
         // JWT doğrulama filtresini UsernamePasswordAuthenticationFilter'dan önce ekle
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtService, userDetailsService()),
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtService, userDetailsService(), internalIdentityCodec, roleCacheTtl),
                 UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -93,6 +97,11 @@ public class SecurityConfig {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
 
+    @Bean
+    public InternalIdentityCodec internalIdentityCodec(@Value("${internal-identity.secret}") String secret) {
+        return new InternalIdentityCodec(secret);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
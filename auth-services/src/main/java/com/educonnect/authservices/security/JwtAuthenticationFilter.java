@@ -1,6 +1,10 @@
 package com.educonnect.authservices.security;
 
+import com.educonnect.authservices.models.Role;
+import com.educonnect.authservices.models.User;
 import com.educonnect.authservices.service.JWTService;
+import com.educonnect.identity.InternalIdentity;
+import com.educonnect.identity.InternalIdentityCodec;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,22 +15,47 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * JWT veya gateway'in imzaladığı iç kimlik zarfı (X-Internal-Identity) ile kimlik doğrular.
+ *
+ * Zarftaki roller token basıldığı anki rollerdir; yetki kararı için kullanılmaz. Roller veritabanından okunur
+ * ve kullanıcı id'sine göre en fazla roleCacheTtl süre önbelleklenir. Ödünleşim: rolü geri alınan veya silinen
+ * bir kullanıcı bu süre boyunca önbellekteki rollerle devam edebilir. /api/auth/admin/** altındaki istekler
+ * (ör. /promote) önbelleği hiç kullanmaz; yönetici yetkisi her istekte veritabanından doğrulanır.
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final String ADMIN_PATH = "/api/auth/admin";
+    private static final int MAX_CACHED_PRINCIPALS = 10_000;
+
     private final JWTService jwtService;
     private final UserDetailsService userDetailsService;
+    private final InternalIdentityCodec internalIdentityCodec;
+    private final long roleCacheTtlMillis;
+    private final Map<UUID, CachedPrincipal> principals = new ConcurrentHashMap<>();
 
-    public JwtAuthenticationFilter(JWTService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JWTService jwtService, UserDetailsService userDetailsService,
+                                   InternalIdentityCodec internalIdentityCodec, Duration roleCacheTtl) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.internalIdentityCodec = internalIdentityCodec;
+        this.roleCacheTtlMillis = roleCacheTtl.toMillis();
     }
 
     @Override
@@ -47,6 +76,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Gateway'den geldiyse kimlik imzalı zarfta hazır: JWT parse'ı gerekmez, roller önbellekten/veritabanından gelir
+        if (authenticateFromInternalIdentity(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String authHeader = request.getHeader("Authorization");
         if (!StringUtils.hasText(authHeader) || !authHeader.toLowerCase().startsWith("bearer ")) {
             filterChain.doFilter(request, response);
@@ -76,4 +111,85 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean authenticateFromInternalIdentity(HttpServletRequest request) {
+        String envelope = request.getHeader(InternalIdentityCodec.HEADER);
+        if (envelope == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return false;
+        }
+        InternalIdentity identity = internalIdentityCodec.verify(envelope, Instant.now().getEpochSecond());
+        if (identity == null) {
+            log.warn("Invalid or expired internal identity for path {}", request.getRequestURI());
+            return false;
+        }
+
+        if (!StringUtils.hasText(identity.userId())) {
+            // Eski token'larda userId yok; JWT yoluna düşülür
+            log.debug("Internal identity carries no userId for path {}", request.getRequestURI());
+            return false;
+        }
+        UUID userId;
+        try {
+            userId = UUID.fromString(identity.userId());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Internal identity carries a non-UUID userId for path {}", request.getRequestURI());
+            return false;
+        }
+
+        String path = request.getRequestURI();
+        boolean adminPath = path.equals(ADMIN_PATH) || path.startsWith(ADMIN_PATH + "/");
+        User principal = principalOf(userId, identity.email(), adminPath);
+        if (principal == null) {
+            log.warn("Internal identity refers to a missing user {} for path {}", userId, request.getRequestURI());
+            return false;
+        }
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return true;
+    }
+
+    /**
+     * Kullanıcıyı güncel rolleriyle döner; kullanıcı silinmişse veya id eşleşmiyorsa null.
+     * fresh=true ise önbellek atlanır ve sonuç önbelleği tazeler.
+     */
+    private User principalOf(UUID userId, String email, boolean fresh) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principals.get(userId);
+        if (!fresh && cached != null && cached.expiresAt() > now && cached.user().getUsername().equals(email)) {
+            return cached.user();
+        }
+
+        User loaded;
+        try {
+            if (!(userDetailsService.loadUserByUsername(email) instanceof User user) || !userId.equals(user.getId())) {
+                principals.remove(userId);
+                return null;
+            }
+            loaded = user;
+        } catch (UsernameNotFoundException ex) {
+            principals.remove(userId);
+            return null;
+        }
+
+        // Controller'lar principal'ı User olarak kullanır (id, e-posta, roller); şifre alanı boş kalır
+        User principal = new User(loaded.getUsername(), null, rolesOf(loaded.getRoles()));
+        principal.setId(userId);
+        if (principals.size() >= MAX_CACHED_PRINCIPALS) {
+            principals.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (principals.size() >= MAX_CACHED_PRINCIPALS) {
+                principals.clear();
+            }
+        }
+        principals.put(userId, new CachedPrincipal(principal, now + roleCacheTtlMillis));
+        return principal;
+    }
+
+    private static Set<Role> rolesOf(Set<Role> roles) {
+        return roles == null || roles.isEmpty() ? EnumSet.noneOf(Role.class) : EnumSet.copyOf(roles);
+    }
+
+    private record CachedPrincipal(User user, long expiresAt) {
+    }
 }
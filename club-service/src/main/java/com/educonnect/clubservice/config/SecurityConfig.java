@@ -1,6 +1,8 @@
 package com.educonnect.clubservice.config;
 
-import com.educonnect.clubservice.filter.GatewayAuthenticationFilter;
+import com.educonnect.identity.InternalIdentityAuthenticationFilter;
+import com.educonnect.identity.InternalIdentityCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,16 +18,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity // @PreAuthorize anotasyonlarını (Rol kontrolü) aktif etmek için
 public class SecurityConfig {
 
-    private final GatewayAuthenticationFilter gatewayAuthenticationFilter;
-
-    public SecurityConfig(GatewayAuthenticationFilter gatewayAuthenticationFilter) {
-        this.gatewayAuthenticationFilter = gatewayAuthenticationFilter;
-    }
-
-
-
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, InternalIdentityCodec internalIdentityCodec) throws Exception {
         http
                 .csrf(csrf -> csrf.disable()) // API'ler için CSRF'i kapat
                 .sessionManagement(session -> session
@@ -68,8 +62,9 @@ public class SecurityConfig {
 
                         .anyRequest().authenticated()
                 )
-                // Gateway'den gelen header'ları okuyup Security context'ine ekle
-                .addFilterBefore(gatewayAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Gateway'in imzaladığı iç kimlik zarfını doğrulayıp Security context'ine ekle
+                .addFilterBefore(new InternalIdentityAuthenticationFilter(internalIdentityCodec),
+                        UsernamePasswordAuthenticationFilter.class)
 
                 // Form login ve HTTP Basic'i devre dışı bırak (API Gateway üzerinden JWT kullanıyoruz)
                 .formLogin(form -> form.disable())
@@ -78,4 +73,9 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    @Bean
+    public InternalIdentityCodec internalIdentityCodec(@Value("${internal-identity.secret}") String secret) {
+        return new InternalIdentityCodec(secret);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.educonnect.eventservice.config;
 
-import com.educonnect.eventservice.filter.GatewayAuthenticationFilter; // YENİ FİLTRE
+import com.educonnect.identity.InternalIdentityAuthenticationFilter;
+import com.educonnect.identity.InternalIdentityCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,14 +18,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    private final GatewayAuthenticationFilter gatewayAuthenticationFilter;
-
-    public SecurityConfig(GatewayAuthenticationFilter gatewayAuthenticationFilter) {
-        this.gatewayAuthenticationFilter = gatewayAuthenticationFilter;
-    }
-
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, InternalIdentityCodec internalIdentityCodec) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -64,8 +60,9 @@ public class SecurityConfig {
 
                         .anyRequest().authenticated()
                 )
-                // YENİ FİLTREYİ EKLE
-                .addFilterBefore(gatewayAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Gateway'in imzaladığı iç kimlik zarfını doğrulayıp Security context'ine ekle
+                .addFilterBefore(new InternalIdentityAuthenticationFilter(internalIdentityCodec),
+                        UsernamePasswordAuthenticationFilter.class)
 
                 // Form login ve HTTP Basic'i devre dışı bırak (API Gateway üzerinden JWT kullanıyoruz)
                 .formLogin(form -> form.disable())
@@ -73,4 +70,9 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    @Bean
+    public InternalIdentityCodec internalIdentityCodec(@Value("${internal-identity.secret}") String secret) {
+        return new InternalIdentityCodec(secret);
+    }
 }
\ No newline at end of file
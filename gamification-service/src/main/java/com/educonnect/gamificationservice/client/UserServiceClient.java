@@ -4,7 +4,11 @@ import com.educonnect.gamificationservice.client.dto.UserProfileClientResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "user-service", path = "/api/users")
@@ -12,5 +16,11 @@ public interface UserServiceClient {
 
     @GetMapping("/profile/{userId}")
     UserProfileClientResponse getProfileById(@PathVariable("userId") UUID userId);
-}
 
+    /**
+     * Birden fazla kullanicinin profilini tek istekte ceker (en fazla 200 ID).
+     * Bulunamayan ID'ler cevapta yer almaz.
+     */
+    @PostMapping("/profile/batch")
+    List<UserProfileClientResponse> getProfilesByIds(@RequestBody Collection<UUID> userIds);
+}
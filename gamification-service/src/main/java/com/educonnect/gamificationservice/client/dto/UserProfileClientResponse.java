@@ -1,10 +1,21 @@
 package com.educonnect.gamificationservice.client.dto;
 
+import java.util.UUID;
+
 public class UserProfileClientResponse {
 
+    private UUID id;
     private String firstName;
     private String lastName;
 
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
     public String getFirstName() {
         return firstName;
     }
@@ -21,4 +32,3 @@ public class UserProfileClientResponse {
         this.lastName = lastName;
     }
 }
-
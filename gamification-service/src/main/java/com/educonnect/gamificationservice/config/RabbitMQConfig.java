@@ -1,8 +1,11 @@
 package com.educonnect.gamificationservice.config;
 
 import com.educonnect.gamificationservice.dto.event.GamificationEvent;
+import com.educonnect.gamificationservice.dto.event.UserProfileUpdatedEvent;
+import com.educonnect.gamificationservice.dto.event.UserRegisteredEvent;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
@@ -10,6 +13,7 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.DefaultClassMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,11 +27,31 @@ public class RabbitMQConfig {
     public static final String GAMIFICATION_POINTS_QUEUE = "gamification.points.queue";
     public static final String GAMIFICATION_ROUTING_PATTERN = "gamification.*.*";
 
+    // Ozet degisiklik bildirimleri ayri exchange'e gider; gamification.exchange'teki puan kuyruguna dusmez.
+    public static final String GAMIFICATION_SUMMARY_EXCHANGE = "gamification.summary.exchange";
+    public static final String GAMIFICATION_SUMMARY_CHANGED_ROUTING_KEY = "gamification.summary.changed";
+
+    // Kullanici adi izdusumu: auth-services kayit mesajlari (user-exchange) ve user-service profil guncellemeleri
+    public static final String USER_EXCHANGE = "user-exchange";
+    public static final String USER_REGISTRATION_ROUTING_KEY = "user-registration-key";
+    public static final String ACADEMICIAN_REGISTRATION_ROUTING_KEY = "profile.academician.create";
+    public static final String USER_PROFILE_EXCHANGE = "user.profile.exchange";
+    public static final String USER_PROFILE_UPDATED_ROUTING_KEY = "user.profile.updated";
+    public static final String USER_PROJECTION_QUEUE = "gamification.user-projection.queue";
+
+    @Value("${gamification.listener.auto-startup:true}")
+    private boolean listenerAutoStartup;
+
     @Bean
     public TopicExchange gamificationExchange() {
         return new TopicExchange(GAMIFICATION_EXCHANGE);
     }
 
+    @Bean
+    public TopicExchange gamificationSummaryExchange() {
+        return new TopicExchange(GAMIFICATION_SUMMARY_EXCHANGE);
+    }
+
     @Bean
     public Queue gamificationPointsQueue() {
         return new Queue(GAMIFICATION_POINTS_QUEUE, true);
@@ -40,6 +64,36 @@ public class RabbitMQConfig {
                 .with(GAMIFICATION_ROUTING_PATTERN);
     }
 
+    @Bean
+    public DirectExchange userExchange() {
+        return new DirectExchange(USER_EXCHANGE);
+    }
+
+    @Bean
+    public TopicExchange userProfileExchange() {
+        return new TopicExchange(USER_PROFILE_EXCHANGE);
+    }
+
+    @Bean
+    public Queue userProjectionQueue() {
+        return new Queue(USER_PROJECTION_QUEUE, true);
+    }
+
+    @Bean
+    public Binding userRegistrationProjectionBinding(Queue userProjectionQueue, DirectExchange userExchange) {
+        return BindingBuilder.bind(userProjectionQueue).to(userExchange).with(USER_REGISTRATION_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding academicianRegistrationProjectionBinding(Queue userProjectionQueue, DirectExchange userExchange) {
+        return BindingBuilder.bind(userProjectionQueue).to(userExchange).with(ACADEMICIAN_REGISTRATION_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding userProfileUpdatedProjectionBinding(Queue userProjectionQueue, TopicExchange userProfileExchange) {
+        return BindingBuilder.bind(userProjectionQueue).to(userProfileExchange).with(USER_PROFILE_UPDATED_ROUTING_KEY);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
@@ -59,6 +113,18 @@ public class RabbitMQConfig {
                 "com.educonnect.userservice.dto.message.GamificationEventMessage",
                 GamificationEvent.class
         );
+        idClassMapping.put(
+                "com.educonnect.authservices.dto.message.UserRegisteredMessage",
+                UserRegisteredEvent.class
+        );
+        idClassMapping.put(
+                "com.educonnect.authservices.dto.message.AcademicianProfileMessage",
+                UserRegisteredEvent.class
+        );
+        idClassMapping.put(
+                "com.educonnect.userservice.dto.message.UserProfileUpdatedMessage",
+                UserProfileUpdatedEvent.class
+        );
         classMapper.setIdClassMapping(idClassMapping);
         converter.setClassMapper(classMapper);
         return converter;
@@ -74,8 +140,33 @@ public class RabbitMQConfig {
         factory.setConcurrentConsumers(1);
         factory.setMaxConcurrentConsumers(4);
         factory.setDefaultRequeueRejected(false);
+        factory.setAutoStartup(listenerAutoStartup);
         return factory;
     }
-}
-
 
+    /**
+     * Puan olaylarini toplu tuketen listener fabrikasi.
+     * Consumer en fazla batchSize mesaj biriktirir veya receiveTimeout dolunca eldekileri tek liste olarak teslim eder.
+     * gamification.listener.auto-startup=false ile listener'lar baslatilmaz (olaylari dogrudan servise veren yuk testi icin).
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory gamificationBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter jsonMessageConverter,
+            @Value("${gamification.batch.size:100}") int batchSize,
+            @Value("${gamification.batch.receive-timeout-ms:500}") long receiveTimeoutMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize * 2);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setAutoStartup(listenerAutoStartup);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(4);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+}
@@ -2,13 +2,18 @@ package com.educonnect.gamificationservice.controller;
 
 import com.educonnect.gamificationservice.dto.response.GamificationSummaryResponse;
 import com.educonnect.gamificationservice.dto.response.LeaderboardEntryResponse;
+import com.educonnect.gamificationservice.dto.response.LeaderboardRankResponse;
+import com.educonnect.gamificationservice.model.LeaderboardPeriod;
 import com.educonnect.gamificationservice.service.GamificationService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.UUID;
@@ -30,9 +35,25 @@ public class GamificationController {
 
     @GetMapping("/leaderboard")
     public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(
-            @RequestParam(defaultValue = "20") int limit
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "all_time") String period
     ) {
-        return ResponseEntity.ok(gamificationService.getLeaderboard(limit));
+        return ResponseEntity.ok(gamificationService.getLeaderboard(parsePeriod(period), limit));
+    }
+
+    @GetMapping("/leaderboard/me")
+    public ResponseEntity<LeaderboardRankResponse> getMyRank(
+            @RequestHeader("X-Authenticated-User-Id") UUID userId,
+            @RequestParam(defaultValue = "all_time") String period
+    ) {
+        return ResponseEntity.ok(gamificationService.getUserRank(parsePeriod(period), userId));
     }
-}
 
+    private LeaderboardPeriod parsePeriod(String value) {
+        LeaderboardPeriod period = LeaderboardPeriod.fromParam(value);
+        if (period == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Gecersiz period: all_time, weekly veya monthly olmali");
+        }
+        return period;
+    }
+}
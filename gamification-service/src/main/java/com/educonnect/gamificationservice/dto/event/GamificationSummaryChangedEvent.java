@@ -0,0 +1,39 @@
+package com.educonnect.gamificationservice.dto.event;
+
+import com.educonnect.gamificationservice.dto.response.GamificationSummaryResponse;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Kullanicinin ozeti degistiginde yayinlanir. summary null ise alici kendi kopyasini silmelidir
+ * (ornegin gece streak sifirlamasi); aksi halde version'i daha yeniyse summary ile degistirebilir.
+ */
+public class GamificationSummaryChangedEvent implements Serializable {
+    private UUID userId;
+    private GamificationSummaryResponse summary;
+
+    public GamificationSummaryChangedEvent() {
+    }
+
+    public GamificationSummaryChangedEvent(UUID userId, GamificationSummaryResponse summary) {
+        this.userId = userId;
+        this.summary = summary;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public GamificationSummaryResponse getSummary() {
+        return summary;
+    }
+
+    public void setSummary(GamificationSummaryResponse summary) {
+        this.summary = summary;
+    }
+}
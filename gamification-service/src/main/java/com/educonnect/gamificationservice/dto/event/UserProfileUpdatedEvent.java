@@ -0,0 +1,60 @@
+package com.educonnect.gamificationservice.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * user-service'te ad/soyad degistiginde yayinlanan UserProfileUpdatedMessage.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserProfileUpdatedEvent implements Serializable {
+    private UUID userId;
+    private String firstName;
+    private String lastName;
+    private OffsetDateTime occurredAt;
+
+    public UserProfileUpdatedEvent() {
+    }
+
+    public UserProfileUpdatedEvent(UUID userId, String firstName, String lastName, OffsetDateTime occurredAt) {
+        this.userId = userId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.occurredAt = occurredAt;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public OffsetDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(OffsetDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
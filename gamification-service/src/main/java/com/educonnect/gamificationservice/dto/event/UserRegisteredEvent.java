@@ -0,0 +1,50 @@
+package com.educonnect.gamificationservice.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * auth-services'in kayit mesajlarinin (UserRegisteredMessage, AcademicianProfileMessage) gamification'in
+ * ihtiyac duydugu kismi; diger alanlar yok sayilir.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserRegisteredEvent implements Serializable {
+    private UUID userId;
+    private String firstName;
+    private String lastName;
+
+    public UserRegisteredEvent() {
+    }
+
+    public UserRegisteredEvent(UUID userId, String firstName, String lastName) {
+        this.userId = userId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+}
@@ -2,11 +2,15 @@ package com.educonnect.gamificationservice.dto.response;
 
 import java.util.List;
 
+/**
+ * version: user_reputation.version; kaydi olmayan kullanici icin -1. Onbellekler daha eski bir ozetin
+ * yenisinin uzerine yazilmasini bu alanla engeller.
+ */
 public record GamificationSummaryResponse(
         int totalPoints,
         int currentStreak,
         int highestStreak,
-        List<String> badges
+        List<String> badges,
+        long version
 ) {
 }
-
@@ -0,0 +1,9 @@
+package com.educonnect.gamificationservice.dto.response;
+
+public record LeaderboardRankResponse(
+        String period,
+        Long rank,
+        int points,
+        long participants
+) {
+}
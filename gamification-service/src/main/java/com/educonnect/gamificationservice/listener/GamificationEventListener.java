@@ -8,6 +8,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class GamificationEventListener {
 
@@ -21,20 +23,14 @@ public class GamificationEventListener {
 
     @RabbitListener(
             queues = RabbitMQConfig.GAMIFICATION_POINTS_QUEUE,
-            containerFactory = "rabbitListenerContainerFactory"
+            containerFactory = "gamificationBatchContainerFactory"
     )
-    public void consumeGamificationEvent(GamificationEvent event) {
+    public void consumeGamificationEvents(List<GamificationEvent> events) {
         try {
-            gamificationService.processEvent(event);
+            gamificationService.processEvents(events);
         } catch (Exception ex) {
-            log.error("Failed to process gamification event. userId={}, actionType={}, referenceId={}",
-                    event != null ? event.getUserId() : null,
-                    event != null ? event.getActionType() : null,
-                    event != null ? event.getReferenceId() : null,
-                    ex);
+            log.error("Failed to process gamification batch. size={}", events.size(), ex);
             throw ex;
         }
     }
 }
-
-
@@ -0,0 +1,40 @@
+package com.educonnect.gamificationservice.listener;
+
+import com.educonnect.gamificationservice.config.RabbitMQConfig;
+import com.educonnect.gamificationservice.dto.event.UserProfileUpdatedEvent;
+import com.educonnect.gamificationservice.dto.event.UserRegisteredEvent;
+import com.educonnect.gamificationservice.service.UserProjectionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kayit ve profil guncelleme mesajlarini user_projection tablosuna isler.
+ */
+@Component
+@RabbitListener(queues = RabbitMQConfig.USER_PROJECTION_QUEUE)
+public class UserProjectionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(UserProjectionListener.class);
+
+    private final UserProjectionService userProjectionService;
+
+    public UserProjectionListener(UserProjectionService userProjectionService) {
+        this.userProjectionService = userProjectionService;
+    }
+
+    @RabbitHandler
+    public void onUserRegistered(UserRegisteredEvent event) {
+        log.debug("User registered, projecting display name. userId={}", event.getUserId());
+        userProjectionService.applyRegistered(event.getUserId(), event.getFirstName(), event.getLastName());
+    }
+
+    @RabbitHandler
+    public void onProfileUpdated(UserProfileUpdatedEvent event) {
+        log.debug("User profile updated, projecting display name. userId={}", event.getUserId());
+        userProjectionService.applyProfileUpdated(
+                event.getUserId(), event.getFirstName(), event.getLastName(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,73 @@
+package com.educonnect.gamificationservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "badge_definition", schema = "gamification_db")
+public class BadgeDefinition {
+
+    @Id
+    @Column(name = "code", nullable = false, updatable = false, length = 50)
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 30)
+    private BadgeMetric metric;
+
+    @Column(name = "threshold", nullable = false)
+    private Integer threshold;
+
+    @Column(name = "bit_index", nullable = false, updatable = false)
+    private Integer bitIndex;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active;
+
+    public BadgeDefinition() {
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public BadgeMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(BadgeMetric metric) {
+        this.metric = metric;
+    }
+
+    public Integer getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Integer threshold) {
+        this.threshold = threshold;
+    }
+
+    public Integer getBitIndex() {
+        return bitIndex;
+    }
+
+    public void setBitIndex(Integer bitIndex) {
+        this.bitIndex = bitIndex;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
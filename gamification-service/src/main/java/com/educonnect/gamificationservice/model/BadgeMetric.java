@@ -0,0 +1,16 @@
+package com.educonnect.gamificationservice.model;
+
+/**
+ * Rozet kurallarinin esik degeriyle karsilastirdigi UserReputation alani.
+ */
+public enum BadgeMetric {
+    TOTAL_POINTS,
+    HIGHEST_STREAK;
+
+    public int valueOf(UserReputation reputation) {
+        return switch (this) {
+            case TOTAL_POINTS -> reputation.getTotalPoints();
+            case HIGHEST_STREAK -> reputation.getHighestStreak();
+        };
+    }
+}
@@ -1,8 +0,0 @@
-package com.educonnect.gamificationservice.model;
-public enum BadgeType {
-    POINTS_EXPLORER,
-    POINTS_MASTER,
-    WEEK_WARRIOR,
-    STREAK_LEGEND,
-    FIRST_STEP
-}
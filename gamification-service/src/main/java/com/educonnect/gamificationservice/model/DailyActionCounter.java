@@ -0,0 +1,105 @@
+package com.educonnect.gamificationservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "daily_action_counter", schema = "gamification_db")
+@IdClass(DailyActionCounter.Key.class)
+public class DailyActionCounter {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type", nullable = false, updatable = false, length = 40)
+    private ActionType actionType;
+
+    @Id
+    @Column(name = "action_date", nullable = false, updatable = false)
+    private LocalDate actionDate;
+
+    @Column(name = "earned_count", nullable = false)
+    private Integer earnedCount;
+
+    public DailyActionCounter() {
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    public void setActionType(ActionType actionType) {
+        this.actionType = actionType;
+    }
+
+    public LocalDate getActionDate() {
+        return actionDate;
+    }
+
+    public void setActionDate(LocalDate actionDate) {
+        this.actionDate = actionDate;
+    }
+
+    public Integer getEarnedCount() {
+        return earnedCount;
+    }
+
+    public void setEarnedCount(Integer earnedCount) {
+        this.earnedCount = earnedCount;
+    }
+
+    public static class Key implements Serializable {
+
+        private UUID userId;
+        private ActionType actionType;
+        private LocalDate actionDate;
+
+        public Key() {
+        }
+
+        public Key(UUID userId, ActionType actionType, LocalDate actionDate) {
+            this.userId = userId;
+            this.actionType = actionType;
+            this.actionDate = actionDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(userId, key.userId)
+                    && actionType == key.actionType
+                    && Objects.equals(actionDate, key.actionDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, actionType, actionDate);
+        }
+    }
+}
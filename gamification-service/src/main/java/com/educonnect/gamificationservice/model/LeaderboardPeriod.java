@@ -0,0 +1,23 @@
+package com.educonnect.gamificationservice.model;
+
+import java.util.Locale;
+
+public enum LeaderboardPeriod {
+    ALL_TIME,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Query parametresini cozumler ("weekly", "MONTHLY", "all_time" ...). Gecersiz deger icin null doner.
+     */
+    public static LeaderboardPeriod fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL_TIME;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -19,11 +19,11 @@ import java.util.UUID;
         uniqueConstraints = {
                 @UniqueConstraint(
                         name = "uq_point_history_user_action_reference",
-                        columnNames = {"user_id", "action_type", "reference_id"}
+                        columnNames = {"user_id", "action_type", "reference_id", "created_at"}
                 )
         },
         indexes = {
-                @Index(name = "idx_point_history_user_id", columnList = "user_id"),
+                @Index(name = "idx_point_history_user_action_created_at", columnList = "user_id, action_type, created_at"),
                 @Index(name = "idx_point_history_created_at", columnList = "created_at")
         })
 public class PointHistory {
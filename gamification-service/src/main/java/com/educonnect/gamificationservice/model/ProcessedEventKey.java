@@ -0,0 +1,112 @@
+package com.educonnect.gamificationservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Islenmis olay anahtari; (userId, actionType, referenceId) basina tek satir, olay zamanindan bagimsiz.
+ * Satirlar yalnizca eklenir: isNew() her zaman true oldugundan save() merge oncesi SELECT yapmaz,
+ * tekrar eden anahtar PK ihlali ile reddedilir.
+ */
+@Entity
+@Table(name = "processed_event_key", schema = "gamification_db")
+@IdClass(ProcessedEventKey.Key.class)
+public class ProcessedEventKey implements Persistable<ProcessedEventKey.Key> {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type", nullable = false, updatable = false, length = 40)
+    private ActionType actionType;
+
+    @Id
+    @Column(name = "reference_id", nullable = false, updatable = false, length = 150)
+    private String referenceId;
+
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private LocalDateTime processedAt;
+
+    public ProcessedEventKey() {
+    }
+
+    public ProcessedEventKey(UUID userId, ActionType actionType, String referenceId, LocalDateTime processedAt) {
+        this.userId = userId;
+        this.actionType = actionType;
+        this.referenceId = referenceId;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(userId, actionType, referenceId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    public String getReferenceId() {
+        return referenceId;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public static class Key implements Serializable {
+
+        private UUID userId;
+        private ActionType actionType;
+        private String referenceId;
+
+        public Key() {
+        }
+
+        public Key(UUID userId, ActionType actionType, String referenceId) {
+            this.userId = userId;
+            this.actionType = actionType;
+            this.referenceId = referenceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(userId, key.userId)
+                    && actionType == key.actionType
+                    && Objects.equals(referenceId, key.referenceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, actionType, referenceId);
+        }
+    }
+}
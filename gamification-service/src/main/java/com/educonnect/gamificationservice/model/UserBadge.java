@@ -2,8 +2,6 @@ package com.educonnect.gamificationservice.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -31,9 +29,8 @@ public class UserBadge {
     @Column(name = "user_id", nullable = false, updatable = false)
     private UUID userId;
 
-    @Enumerated(EnumType.STRING)
     @Column(name = "badge_type", nullable = false, updatable = false, length = 50)
-    private BadgeType badgeType;
+    private String badgeType;
 
     @Column(name = "earned_at", nullable = false, updatable = false)
     private LocalDateTime earnedAt;
@@ -57,11 +54,11 @@ public class UserBadge {
         this.userId = userId;
     }
 
-    public BadgeType getBadgeType() {
+    public String getBadgeType() {
         return badgeType;
     }
 
-    public void setBadgeType(BadgeType badgeType) {
+    public void setBadgeType(String badgeType) {
         this.badgeType = badgeType;
     }
 
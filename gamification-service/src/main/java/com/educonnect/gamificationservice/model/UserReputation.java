@@ -29,6 +29,12 @@ public class UserReputation {
     @Column(name = "last_login_date")
     private LocalDate lastLoginDate;
 
+    /**
+     * Kazanilmis rozetlerin bitmap'i; bit konumu badge_definition.bit_index.
+     */
+    @Column(name = "earned_badges", nullable = false)
+    private Long earnedBadges;
+
     @Version
     @Column(name = "version", nullable = false)
     private Long version;
@@ -42,6 +48,7 @@ public class UserReputation {
         reputation.setTotalPoints(0);
         reputation.setCurrentStreak(0);
         reputation.setHighestStreak(0);
+        reputation.setEarnedBadges(0L);
         reputation.setVersion(0L);
         return reputation;
     }
@@ -86,6 +93,14 @@ public class UserReputation {
         this.lastLoginDate = lastLoginDate;
     }
 
+    public Long getEarnedBadges() {
+        return earnedBadges;
+    }
+
+    public void setEarnedBadges(Long earnedBadges) {
+        this.earnedBadges = earnedBadges;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -0,0 +1,13 @@
+package com.educonnect.gamificationservice.repository;
+
+import com.educonnect.gamificationservice.model.BadgeDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BadgeDefinitionRepository extends JpaRepository<BadgeDefinition, String> {
+
+    List<BadgeDefinition> findByActiveTrue();
+}
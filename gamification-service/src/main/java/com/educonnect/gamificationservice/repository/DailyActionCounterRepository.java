@@ -0,0 +1,61 @@
+package com.educonnect.gamificationservice.repository;
+
+import com.educonnect.gamificationservice.model.ActionType;
+import com.educonnect.gamificationservice.model.DailyActionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DailyActionCounterRepository extends JpaRepository<DailyActionCounter, DailyActionCounter.Key> {
+
+    @Query("SELECT c.earnedCount FROM DailyActionCounter c " +
+            "WHERE c.userId = :userId AND c.actionType = :actionType AND c.actionDate = :actionDate")
+    Optional<Integer> findEarnedCount(@Param("userId") UUID userId,
+                                      @Param("actionType") ActionType actionType,
+                                      @Param("actionDate") LocalDate actionDate);
+
+    List<DailyActionCounter> findByUserIdInAndActionDateBetween(Collection<UUID> userIds,
+                                                                LocalDate start,
+                                                                LocalDate end);
+
+    @Modifying
+    @Query(value = "INSERT INTO gamification_db.daily_action_counter (user_id, action_type, action_date, earned_count) " +
+            "VALUES (:userId, :actionType, :actionDate, :delta) " +
+            "ON CONFLICT (user_id, action_type, action_date) " +
+            "DO UPDATE SET earned_count = daily_action_counter.earned_count + EXCLUDED.earned_count",
+            nativeQuery = true)
+    int increment(@Param("userId") UUID userId,
+                  @Param("actionType") String actionType,
+                  @Param("actionDate") LocalDate actionDate,
+                  @Param("delta") int delta);
+
+    /**
+     * [start, end) araligindaki sayaclari point_history'den uzlastirir. Sayac yalnizca eksikse yukseltilir
+     * (GREATEST): uzlastirma sorgusunun gormedigi, ayni anda commit olan gecikmeli bir olayin +1'i ezilmez.
+     * Artis puan kaydiyla ayni transaction'da yapildigi icin sayac point_history'den yuksek kalamaz.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO gamification_db.daily_action_counter (user_id, action_type, action_date, earned_count) " +
+            "SELECT user_id, action_type, CAST(created_at AS DATE), COUNT(*) " +
+            "FROM gamification_db.point_history " +
+            "WHERE points_earned > 0 AND created_at >= :start AND created_at < :end " +
+            "GROUP BY user_id, action_type, CAST(created_at AS DATE) " +
+            "ON CONFLICT (user_id, action_type, action_date) " +
+            "DO UPDATE SET earned_count = GREATEST(daily_action_counter.earned_count, EXCLUDED.earned_count)",
+            nativeQuery = true)
+    int reconcileFromHistory(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Modifying
+    @Query("DELETE FROM DailyActionCounter c WHERE c.actionDate < :before")
+    int deleteOlderThan(@Param("before") LocalDate before);
+}
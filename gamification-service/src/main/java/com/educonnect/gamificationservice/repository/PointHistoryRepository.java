@@ -2,17 +2,22 @@ package com.educonnect.gamificationservice.repository;
 
 import com.educonnect.gamificationservice.model.ActionType;
 import com.educonnect.gamificationservice.model.PointHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface PointHistoryRepository extends JpaRepository<PointHistory, UUID> {
 
-    boolean existsByUserIdAndActionTypeAndReferenceId(UUID userId, ActionType actionType, String referenceId);
-
     long countByUserIdAndActionTypeAndCreatedAtBetweenAndPointsEarnedGreaterThan(
             UUID userId,
             ActionType actionType,
@@ -20,5 +25,77 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, UUID
             LocalDateTime end,
             Integer minPoints
     );
-}
 
+    /**
+     * Kullanici/aksiyon/gun bazinda puan kazandiran olay sayilari (gunluk limit kontrolu icin).
+     */
+    @Query("SELECT p.userId AS userId, p.actionType AS actionType, CAST(p.createdAt AS LocalDate) AS day, " +
+            "COUNT(p) AS earnedCount FROM PointHistory p " +
+            "WHERE p.userId IN :userIds AND p.createdAt >= :start AND p.createdAt < :end AND p.pointsEarned > 0 " +
+            "GROUP BY p.userId, p.actionType, CAST(p.createdAt AS LocalDate)")
+    List<DailyEarnedCount> countEarnedPerDay(@Param("userIds") Collection<UUID> userIds,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end);
+
+    /**
+     * [start, end) araliginda puan kazanan kullanicilarin toplamlari, puana gore azalan sirada.
+     * Esit puanda userId azalan siradadir (Redis ZREVRANGE ile ayni). Redis erisilemezken yedek okuma icin kullanilir.
+     */
+    @Query("SELECT p.userId AS userId, SUM(p.pointsEarned) AS points FROM PointHistory p " +
+            "WHERE p.createdAt >= :start AND p.createdAt < :end AND p.pointsEarned > 0 " +
+            "GROUP BY p.userId ORDER BY SUM(p.pointsEarned) DESC, p.userId DESC")
+    List<UserPointsTotal> sumPointsByUserBetween(@Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end,
+                                                 Pageable pageable);
+
+    /**
+     * Ayni toplamlar userId sirasiyla; haftalik/aylik tablonun sayfali yeniden kurulumu icin
+     * (siralama puan degistikce kaymaz).
+     */
+    @Query("SELECT p.userId AS userId, SUM(p.pointsEarned) AS points FROM PointHistory p " +
+            "WHERE p.createdAt >= :start AND p.createdAt < :end AND p.pointsEarned > 0 " +
+            "GROUP BY p.userId ORDER BY p.userId")
+    Slice<UserPointsTotal> sumPointsPerUserBetween(@Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end,
+                                                   Pageable pageable);
+
+    /**
+     * [start, end) penceresinde kullanicinin puani, onundeki kullanici sayisi ve katilimci sayisi
+     * (Redis erisilemezken sira hesabi icin). Kullanici pencerede puan kazanmadiysa points null doner.
+     */
+    @Query(value = "WITH totals AS (" +
+            "SELECT user_id, SUM(points_earned) AS points FROM gamification_db.point_history " +
+            "WHERE created_at >= :start AND created_at < :end AND points_earned > 0 GROUP BY user_id) " +
+            "SELECT (SELECT points FROM totals WHERE user_id = :userId) AS points, " +
+            "(SELECT COUNT(*) FROM totals t JOIN totals me ON me.user_id = :userId " +
+            "WHERE t.points > me.points OR (t.points = me.points AND t.user_id > me.user_id)) AS ahead, " +
+            "(SELECT COUNT(*) FROM totals) AS participants",
+            nativeQuery = true)
+    WindowRank findWindowRank(@Param("userId") UUID userId,
+                              @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end);
+
+    interface DailyEarnedCount {
+        UUID getUserId();
+
+        ActionType getActionType();
+
+        LocalDate getDay();
+
+        Long getEarnedCount();
+    }
+
+    interface UserPointsTotal {
+        UUID getUserId();
+
+        Long getPoints();
+    }
+
+    interface WindowRank {
+        Long getPoints();
+
+        Long getAhead();
+
+        Long getParticipants();
+    }
+}
@@ -0,0 +1,37 @@
+package com.educonnect.gamificationservice.repository;
+
+import com.educonnect.gamificationservice.model.ActionType;
+import com.educonnect.gamificationservice.model.ProcessedEventKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProcessedEventKeyRepository extends JpaRepository<ProcessedEventKey, ProcessedEventKey.Key> {
+
+    /**
+     * Anahtari bu transaction adina ayirir; 1 donerse olay yenidir, 0 donerse daha once islenmistir.
+     * Ayni anahtari esanli ayiran ikinci transaction ilki bitene kadar bekler ve 0 alir.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO gamification_db.processed_event_key (user_id, action_type, reference_id) " +
+            "VALUES (:userId, :actionType, :referenceId) " +
+            "ON CONFLICT (user_id, action_type, reference_id) DO NOTHING",
+            nativeQuery = true)
+    int claim(@Param("userId") UUID userId,
+              @Param("actionType") String actionType,
+              @Param("referenceId") String referenceId);
+
+    boolean existsByUserIdAndActionTypeAndReferenceId(UUID userId, ActionType actionType, String referenceId);
+
+    /**
+     * Batch on kontrolu; sonuc referenceId eslesmesi ile genis tutulur, tam eslesme servis tarafinda yapilir.
+     */
+    List<ProcessedEventKey> findByUserIdInAndReferenceIdIn(Collection<UUID> userIds, Collection<String> referenceIds);
+}
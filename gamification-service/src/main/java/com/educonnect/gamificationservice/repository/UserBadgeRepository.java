@@ -1,10 +1,14 @@
 package com.educonnect.gamificationservice.repository;
 
-import com.educonnect.gamificationservice.model.BadgeType;
 import com.educonnect.gamificationservice.model.UserBadge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +17,19 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
 
     List<UserBadge> findByUserIdOrderByEarnedAtAsc(UUID userId);
 
-    boolean existsByUserIdAndBadgeType(UUID userId, BadgeType badgeType);
-}
+    List<UserBadge> findByUserIdInOrderByEarnedAtAsc(Collection<UUID> userIds);
+
+    boolean existsByUserIdAndBadgeType(UUID userId, String badgeType);
 
+    /**
+     * Bitmap disinda verilmis (orn. elle eklenmis) bir rozet satiri varsa sessizce atlanir.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO gamification_db.user_badges (user_id, badge_type, earned_at) " +
+            "VALUES (:userId, :badgeType, :earnedAt) " +
+            "ON CONFLICT (user_id, badge_type) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId,
+                       @Param("badgeType") String badgeType,
+                       @Param("earnedAt") LocalDateTime earnedAt);
+}
@@ -0,0 +1,51 @@
+package com.educonnect.gamificationservice.repository;
+
+import com.educonnect.gamificationservice.model.UserProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserProjectionRepository extends JpaRepository<UserProjection, UUID> {
+
+    /**
+     * Kayit ve backfill icin: kullanicinin satiri varsa dokunulmaz.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO gamification_db.user_projection (user_id, display_name, updated_at) " +
+            "VALUES (:userId, :displayName, :updatedAt) " +
+            "ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId,
+                       @Param("displayName") String displayName,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Profil guncellemesi icin: yalnizca sakli satirdan daha yeni olay yazilir.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO gamification_db.user_projection (user_id, display_name, updated_at) " +
+            "VALUES (:userId, :displayName, :updatedAt) " +
+            "ON CONFLICT (user_id) DO UPDATE SET display_name = EXCLUDED.display_name, updated_at = EXCLUDED.updated_at " +
+            "WHERE gamification_db.user_projection.updated_at < EXCLUDED.updated_at",
+            nativeQuery = true)
+    int upsertIfNewer(@Param("userId") UUID userId,
+                      @Param("displayName") String displayName,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Puani olup izdusumu olmayan kullanicilar, user_id sirasiyla (keyset).
+     */
+    @Query(value = "SELECT r.user_id FROM gamification_db.user_reputation r " +
+            "WHERE r.user_id > :after AND NOT EXISTS " +
+            "(SELECT 1 FROM gamification_db.user_projection p WHERE p.user_id = r.user_id) " +
+            "ORDER BY r.user_id LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findUserIdsWithoutProjection(@Param("after") UUID after, @Param("limit") int limit);
+}
@@ -1,6 +1,8 @@
 package com.educonnect.gamificationservice.scheduler;
 
-import com.educonnect.gamificationservice.service.GamificationService;
+import com.educonnect.gamificationservice.service.DailyActionCounterService;
+import com.educonnect.gamificationservice.service.PointHistoryPartitionService;
+import com.educonnect.gamificationservice.service.StreakResetService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,19 +16,46 @@ public class GamificationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(GamificationScheduler.class);
 
-    private final GamificationService gamificationService;
+    private final StreakResetService streakResetService;
+    private final DailyActionCounterService dailyActionCounterService;
+    private final PointHistoryPartitionService pointHistoryPartitionService;
 
-    public GamificationScheduler(GamificationService gamificationService) {
-        this.gamificationService = gamificationService;
+    public GamificationScheduler(StreakResetService streakResetService,
+                                 DailyActionCounterService dailyActionCounterService,
+                                 PointHistoryPartitionService pointHistoryPartitionService) {
+        this.streakResetService = streakResetService;
+        this.dailyActionCounterService = dailyActionCounterService;
+        this.pointHistoryPartitionService = pointHistoryPartitionService;
     }
 
-    @Scheduled(cron = "0 0 0 * * *", zone = "Europe/Istanbul")
+    @Scheduled(cron = "${gamification.streak-reset.cron:0 0 0 * * *}", zone = "Europe/Istanbul")
     public void resetInactiveStreaks() {
-        LocalDate yesterday = LocalDate.now(ZoneId.of("Europe/Istanbul")).minusDays(1);
-        int resetCount = gamificationService.resetInactiveStreaks(yesterday);
-        if (resetCount > 0) {
-            log.info("Inactive streak reset completed. resetCount={}", resetCount);
+        LocalDate today = LocalDate.now(ZoneId.of("Europe/Istanbul"));
+        try {
+            long resetCount = streakResetService.resetInactiveStreaks(today);
+            if (resetCount > 0) {
+                log.info("Inactive streak reset completed. resetCount={}", resetCount);
+            }
+        } catch (Exception ex) {
+            log.warn("Inactive streak reset stopped, will resume on restart or next run. reason={}", ex.getMessage(), ex);
+        }
+    }
+
+    @Scheduled(cron = "${gamification.daily-counter.reconcile-cron:0 15 3 * * *}", zone = "Europe/Istanbul")
+    public void reconcileDailyActionCounters() {
+        try {
+            dailyActionCounterService.reconcile(LocalDate.now(ZoneId.of("Europe/Istanbul")));
+        } catch (Exception ex) {
+            log.warn("Daily action counter reconciliation failed. reason={}", ex.getMessage(), ex);
         }
     }
-}
 
+    @Scheduled(cron = "${gamification.point-history.maintenance-cron:0 0 2 * * *}", zone = "Europe/Istanbul")
+    public void maintainPointHistoryPartitions() {
+        try {
+            pointHistoryPartitionService.maintain(LocalDate.now(ZoneId.of("Europe/Istanbul")));
+        } catch (Exception ex) {
+            log.warn("Point history partition maintenance failed. reason={}", ex.getMessage(), ex);
+        }
+    }
+}
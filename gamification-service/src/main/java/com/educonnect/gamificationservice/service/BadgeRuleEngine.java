@@ -0,0 +1,148 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.BadgeDefinition;
+import com.educonnect.gamificationservice.model.BadgeMetric;
+import com.educonnect.gamificationservice.model.UserReputation;
+import com.educonnect.gamificationservice.repository.BadgeDefinitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * badge_definition satirlarindan derlenen rozet kurallari.
+ *
+ * - Kurallar her metrik icin esige gore sirali bir diziye derlenir; her konumda o esige kadar olan tum rozetlerin
+ *   kumulatif bit maskesi tutulur. Degerlendirme metrik basina bir ikili arama ve bir bit islemidir.
+ * - Kazanilmis rozetler UserReputation.earnedBadges bitmap'inden okunur; esik asilmadikca veritabanina gidilmez.
+ * - Tanimlar acilista ilk kullanimda yuklenir ve refresh-interval araliginda yenilenir; yeni rozet icin tabloya
+ *   satir eklemek yeterlidir. Esigi zaten gecmis kullanicilar rozeti bir sonraki olaylarinda alir.
+ */
+@Service
+public class BadgeRuleEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(BadgeRuleEngine.class);
+
+    private static final int MAX_BIT_INDEX = 62;
+
+    private record ThresholdIndex(int[] thresholds, long[] cumulativeMasks) {
+    }
+
+    private record CompiledRules(Map<BadgeMetric, ThresholdIndex> byMetric, String[] codesByBit) {
+    }
+
+    private final BadgeDefinitionRepository badgeDefinitionRepository;
+    private volatile CompiledRules rules;
+
+    public BadgeRuleEngine(BadgeDefinitionRepository badgeDefinitionRepository) {
+        this.badgeDefinitionRepository = badgeDefinitionRepository;
+    }
+
+    /**
+     * Esigi asilmis ama bitmap'te olmayan rozetleri reputation'a isler ve kodlarini dondurur.
+     * Yeni rozet yoksa bos liste doner ve reputation degismez.
+     */
+    public List<String> awardNewBadges(UserReputation reputation) {
+        CompiledRules compiled = currentRules();
+        long earned = reputation.getEarnedBadges() != null ? reputation.getEarnedBadges() : 0L;
+
+        long reached = 0L;
+        for (Map.Entry<BadgeMetric, ThresholdIndex> entry : compiled.byMetric().entrySet()) {
+            ThresholdIndex index = entry.getValue();
+            int position = countReached(index.thresholds(), entry.getKey().valueOf(reputation));
+            if (position > 0) {
+                reached |= index.cumulativeMasks()[position - 1];
+            }
+        }
+
+        long newlyEarned = reached & ~earned;
+        if (newlyEarned == 0L) {
+            return List.of();
+        }
+
+        reputation.setEarnedBadges(earned | newlyEarned);
+        List<String> codes = new ArrayList<>(Long.bitCount(newlyEarned));
+        for (long remaining = newlyEarned; remaining != 0L; remaining &= remaining - 1) {
+            codes.add(compiled.codesByBit()[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return codes;
+    }
+
+    @Scheduled(fixedDelayString = "${gamification.badges.refresh-interval:PT5M}",
+            initialDelayString = "${gamification.badges.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            rules = compile(badgeDefinitionRepository.findByActiveTrue());
+        } catch (Exception ex) {
+            log.warn("Badge definitions could not be refreshed, keeping previous rules. reason={}", ex.getMessage());
+        }
+    }
+
+    private CompiledRules currentRules() {
+        CompiledRules compiled = rules;
+        if (compiled == null) {
+            synchronized (this) {
+                if (rules == null) {
+                    rules = compile(badgeDefinitionRepository.findByActiveTrue());
+                }
+                compiled = rules;
+            }
+        }
+        return compiled;
+    }
+
+    private static CompiledRules compile(List<BadgeDefinition> definitions) {
+        String[] codesByBit = new String[MAX_BIT_INDEX + 1];
+        Map<BadgeMetric, List<BadgeDefinition>> grouped = new EnumMap<>(BadgeMetric.class);
+        for (BadgeDefinition definition : definitions) {
+            int bit = definition.getBitIndex();
+            if (bit < 0 || bit > MAX_BIT_INDEX || codesByBit[bit] != null) {
+                log.warn("Badge definition skipped, invalid or duplicate bit index. code={}, bitIndex={}",
+                        definition.getCode(), bit);
+                continue;
+            }
+            codesByBit[bit] = definition.getCode();
+            grouped.computeIfAbsent(definition.getMetric(), metric -> new ArrayList<>()).add(definition);
+        }
+
+        Map<BadgeMetric, ThresholdIndex> byMetric = new EnumMap<>(BadgeMetric.class);
+        grouped.forEach((metric, rulesForMetric) -> {
+            rulesForMetric.sort(Comparator.comparingInt(BadgeDefinition::getThreshold));
+            int[] thresholds = new int[rulesForMetric.size()];
+            long[] cumulativeMasks = new long[rulesForMetric.size()];
+            long mask = 0L;
+            for (int i = 0; i < rulesForMetric.size(); i++) {
+                mask |= 1L << rulesForMetric.get(i).getBitIndex();
+                thresholds[i] = rulesForMetric.get(i).getThreshold();
+                cumulativeMasks[i] = mask;
+            }
+            byMetric.put(metric, new ThresholdIndex(thresholds, cumulativeMasks));
+        });
+
+        log.info("Badge rules compiled. definitions={}", definitions.size());
+        return new CompiledRules(byMetric, codesByBit);
+    }
+
+    /**
+     * Sirali dizide value'dan kucuk veya esit esik sayisi (upper bound).
+     */
+    private static int countReached(int[] thresholds, int value) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
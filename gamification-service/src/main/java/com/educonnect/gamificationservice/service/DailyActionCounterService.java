@@ -0,0 +1,125 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.ActionType;
+import com.educonnect.gamificationservice.model.DailyActionCounter;
+import com.educonnect.gamificationservice.repository.DailyActionCounterRepository;
+import com.educonnect.gamificationservice.repository.PointHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Gunluk puan limiti icin kullanici/aksiyon/gun sayaclari (daily_action_counter).
+ *
+ * - Limit kontrolu tek satirlik PK okumasidir; point_history buyudukce maliyeti degismez.
+ * - Sayac, puan kazandiran olay ile ayni transaction'da upsert ile artirilir; rollback olan deneme sayaci da geri alir.
+ * - Sayaclar retentionDays gun saklanir. Daha eski bir gune ait (gec gelen) olaylarda kontrol point_history'deki
+ *   COUNT sorgusuna duser.
+ * - reconcile() tamamlanmis son gunlerin eksik kalan sayaclarini point_history'den tamamlar ve eski sayaclari siler.
+ */
+@Service
+public class DailyActionCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyActionCounterService.class);
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+
+    public record CounterKey(UUID userId, ActionType actionType, LocalDate day) {
+    }
+
+    private final DailyActionCounterRepository dailyActionCounterRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int reconcileDays;
+
+    public DailyActionCounterService(DailyActionCounterRepository dailyActionCounterRepository,
+                                     PointHistoryRepository pointHistoryRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${gamification.daily-counter.retention-days:35}") int retentionDays,
+                                     @Value("${gamification.daily-counter.reconcile-days:2}") int reconcileDays) {
+        this.dailyActionCounterRepository = dailyActionCounterRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.reconcileDays = reconcileDays;
+    }
+
+    public long earnedCount(UUID userId, ActionType actionType, LocalDate day) {
+        if (day.isBefore(horizon())) {
+            return pointHistoryRepository.countByUserIdAndActionTypeAndCreatedAtBetweenAndPointsEarnedGreaterThan(
+                    userId,
+                    actionType,
+                    day.atStartOfDay(),
+                    day.plusDays(1).atStartOfDay().minusNanos(1),
+                    0
+            );
+        }
+        return dailyActionCounterRepository.findEarnedCount(userId, actionType, day).orElse(0);
+    }
+
+    /**
+     * Verilen kullanicilarin [firstDay, lastDay] araligindaki sayaclari; kayit olmayan anahtarlar sonucta yer almaz.
+     */
+    public Map<CounterKey, Long> earnedCounts(Collection<UUID> userIds, LocalDate firstDay, LocalDate lastDay) {
+        Map<CounterKey, Long> counts = new HashMap<>();
+        LocalDate horizon = horizon();
+
+        if (firstDay.isBefore(horizon)) {
+            LocalDate historyEnd = lastDay.isBefore(horizon) ? lastDay.plusDays(1) : horizon;
+            for (PointHistoryRepository.DailyEarnedCount count : pointHistoryRepository.countEarnedPerDay(
+                    userIds, firstDay.atStartOfDay(), historyEnd.atStartOfDay())) {
+                counts.put(new CounterKey(count.getUserId(), count.getActionType(), count.getDay()),
+                        count.getEarnedCount());
+            }
+        }
+
+        if (!lastDay.isBefore(horizon)) {
+            LocalDate counterStart = firstDay.isBefore(horizon) ? horizon : firstDay;
+            for (DailyActionCounter counter : dailyActionCounterRepository.findByUserIdInAndActionDateBetween(
+                    userIds, counterStart, lastDay)) {
+                counts.put(new CounterKey(counter.getUserId(), counter.getActionType(), counter.getActionDate()),
+                        counter.getEarnedCount().longValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Sayaci artirir; cagiranin transaction'ina katilir.
+     */
+    public void increment(UUID userId, ActionType actionType, LocalDate day, int delta) {
+        if (delta <= 0 || day.isBefore(horizon())) {
+            return;
+        }
+        dailyActionCounterRepository.increment(userId, actionType.name(), day, delta);
+    }
+
+    /**
+     * Bugun haric son reconcileDays gunun sayaclarini point_history'den tamamlar (yalnizca yukseltir) ve saklama
+     * suresi dolan sayaclari siler. Gecmis gune ait gecikmeli olaylar ayni anda sayaci artirabilir; GREATEST sayesinde
+     * bu artis uzlastirma tarafindan geri alinmaz.
+     */
+    public void reconcile(LocalDate today) {
+        LocalDate start = today.minusDays(reconcileDays);
+        transactionTemplate.executeWithoutResult(status -> {
+            int reconciled = dailyActionCounterRepository.reconcileFromHistory(start.atStartOfDay(), today.atStartOfDay());
+            int pruned = dailyActionCounterRepository.deleteOlderThan(today.minusDays(retentionDays));
+            log.info("Daily action counters reconciled. from={}, reconciled={}, pruned={}", start, reconciled, pruned);
+        });
+    }
+
+    private LocalDate horizon() {
+        return LocalDate.now(ZONE).minusDays(retentionDays);
+    }
+}
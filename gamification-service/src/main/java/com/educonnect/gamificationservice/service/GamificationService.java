@@ -1,25 +1,27 @@
 package com.educonnect.gamificationservice.service;
 
-import com.educonnect.gamificationservice.client.UserServiceClient;
-import com.educonnect.gamificationservice.client.dto.UserProfileClientResponse;
 import com.educonnect.gamificationservice.dto.event.GamificationEvent;
 import com.educonnect.gamificationservice.dto.response.GamificationSummaryResponse;
 import com.educonnect.gamificationservice.dto.response.LeaderboardEntryResponse;
+import com.educonnect.gamificationservice.dto.response.LeaderboardRankResponse;
 import com.educonnect.gamificationservice.model.ActionType;
-import com.educonnect.gamificationservice.model.BadgeType;
+import com.educonnect.gamificationservice.model.LeaderboardPeriod;
 import com.educonnect.gamificationservice.model.PointHistory;
-import com.educonnect.gamificationservice.model.UserReputation;
+import com.educonnect.gamificationservice.model.ProcessedEventKey;
 import com.educonnect.gamificationservice.model.UserBadge;
+import com.educonnect.gamificationservice.model.UserReputation;
 import com.educonnect.gamificationservice.repository.PointHistoryRepository;
+import com.educonnect.gamificationservice.repository.ProcessedEventKeyRepository;
 import com.educonnect.gamificationservice.repository.UserReputationRepository;
 import com.educonnect.gamificationservice.repository.UserBadgeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
@@ -29,10 +31,16 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,24 +58,58 @@ public class GamificationService {
     private static final int MAX_DAILY_POINT_EARNINGS_PER_ACTION = 3;
     private static final int MAX_OPTIMISTIC_RETRIES = 3;
     private static final int MAX_LEADERBOARD_LIMIT = 100;
-    private static final String UNKNOWN_USER_DISPLAY_NAME = "Bilinmeyen Kullanici";
 
     private final UserReputationRepository userReputationRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final UserServiceClient userServiceClient;
+    private final ProcessedEventKeyRepository processedEventKeyRepository;
+    private final UserProjectionService userProjectionService;
     private final TransactionTemplate transactionTemplate;
     private final UserBadgeRepository userBadgeRepository;
+    private final LeaderboardService leaderboardService;
+    private final DailyActionCounterService dailyActionCounterService;
+    private final PointHistoryPartitionService pointHistoryPartitionService;
+    private final BadgeRuleEngine badgeRuleEngine;
+    private final GamificationSummaryCache summaryCache;
+    private final IdempotencyBloomFilter idempotencyFilter;
+
+    private final Counter singleRetryCounter;
+    private final Counter batchRetryCounter;
+    private final Counter batchFallbackCounter;
+
+    private record EventKey(UUID userId, ActionType actionType, String referenceId) {
+    }
 
     public GamificationService(UserReputationRepository userReputationRepository,
                                PointHistoryRepository pointHistoryRepository,
-                               UserServiceClient userServiceClient,
+                               ProcessedEventKeyRepository processedEventKeyRepository,
+                               UserProjectionService userProjectionService,
                                PlatformTransactionManager transactionManager,
-                               UserBadgeRepository userBadgeRepository) {
+                               UserBadgeRepository userBadgeRepository,
+                               LeaderboardService leaderboardService,
+                               DailyActionCounterService dailyActionCounterService,
+                               PointHistoryPartitionService pointHistoryPartitionService,
+                               BadgeRuleEngine badgeRuleEngine,
+                               GamificationSummaryCache summaryCache,
+                               IdempotencyBloomFilter idempotencyFilter,
+                               MeterRegistry meterRegistry) {
         this.userReputationRepository = userReputationRepository;
         this.pointHistoryRepository = pointHistoryRepository;
-        this.userServiceClient = userServiceClient;
+        this.processedEventKeyRepository = processedEventKeyRepository;
+        this.userProjectionService = userProjectionService;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.userBadgeRepository = userBadgeRepository;
+        this.leaderboardService = leaderboardService;
+        this.dailyActionCounterService = dailyActionCounterService;
+        this.pointHistoryPartitionService = pointHistoryPartitionService;
+        this.badgeRuleEngine = badgeRuleEngine;
+        this.summaryCache = summaryCache;
+        this.idempotencyFilter = idempotencyFilter;
+
+        this.singleRetryCounter = Counter.builder("gamification.events.optimistic_retries")
+                .tag("mode", "single").register(meterRegistry);
+        this.batchRetryCounter = Counter.builder("gamification.events.optimistic_retries")
+                .tag("mode", "batch").register(meterRegistry);
+        this.batchFallbackCounter = Counter.builder("gamification.events.batch_fallbacks").register(meterRegistry);
     }
 
     public void processEvent(GamificationEvent event) {
@@ -75,23 +117,245 @@ public class GamificationService {
             try {
                 transactionTemplate.executeWithoutResult(status -> processEventInTransaction(event));
                 return;
+            } catch (DataIntegrityViolationException ex) {
+                // Esanli bir consumer ayni anahtari once kaydettiyse olay islenmistir.
+                if (isProcessed(event)) {
+                    log.info("Duplicate event rejected by unique constraint. userId={}, actionType={}, referenceId={}",
+                            event.getUserId(), event.getActionType(), event.getReferenceId());
+                    return;
+                }
+                throw ex;
             } catch (ObjectOptimisticLockingFailureException ex) {
                 if (attempt == MAX_OPTIMISTIC_RETRIES) {
                     throw ex;
                 }
+                singleRetryCounter.increment();
                 log.warn("Optimistic locking retry. userId={}, actionType={}, attempt={}",
                         event.getUserId(), event.getActionType(), attempt);
             }
         }
     }
 
+    /**
+     * Bir batch'i tek transaction'da isler.
+     *
+     * - Olaylar userId'ye gore gruplanir; her kullanicinin olaylari gelis sirasiyla uygulanir.
+     * - Idempotency ve gunluk limitler batch basina birer set tabanli sorgu ile cozulur; yeni olaylarin anahtarlari
+     *   processed_event_key'e ayni transaction'da yazilir.
+     * - Tum reputation, point_history ve rozet degisiklikleri tek flush ile yazilir.
+     * - Optimistic lock cakismasinda batch bastan denenir (MAX_OPTIMISTIC_RETRIES). Denemeler biterse veya
+     *   baska bir consumer ayni olayi esanli yazdiysa batch olay bazli isleme duser; hatali olay digerlerini etkilemez.
+     */
+    public void processEvents(List<GamificationEvent> events) {
+        List<GamificationEvent> validEvents = new ArrayList<>(events.size());
+        for (GamificationEvent event : events) {
+            if (isValidEvent(event)) {
+                validEvents.add(event);
+            } else {
+                log.warn("Invalid gamification event dropped from batch. userId={}, actionType={}, referenceId={}",
+                        event != null ? event.getUserId() : null,
+                        event != null ? event.getActionType() : null,
+                        event != null ? event.getReferenceId() : null);
+            }
+        }
+        if (validEvents.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= MAX_OPTIMISTIC_RETRIES; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processBatchInTransaction(validEvents));
+                return;
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                batchRetryCounter.increment();
+                log.warn("Optimistic locking retry for batch. size={}, attempt={}", validEvents.size(), attempt);
+            } catch (DataIntegrityViolationException ex) {
+                log.warn("Concurrent duplicate detected in batch. size={}", validEvents.size());
+                break;
+            }
+        }
+
+        batchFallbackCounter.increment();
+        log.warn("Batch falling back to per-event processing. size={}", validEvents.size());
+        for (GamificationEvent event : validEvents) {
+            try {
+                processEvent(event);
+            } catch (Exception ex) {
+                log.error("Failed to process gamification event. userId={}, actionType={}, referenceId={}",
+                        event.getUserId(), event.getActionType(), event.getReferenceId(), ex);
+            }
+        }
+    }
+
+    private void processBatchInTransaction(List<GamificationEvent> events) {
+        Map<UUID, List<GamificationEvent>> eventsByUser = new LinkedHashMap<>();
+        for (GamificationEvent event : events) {
+            eventsByUser.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>()).add(event);
+        }
+        Set<UUID> userIds = eventsByUser.keySet();
+
+        Set<EventKey> processedKeys = findProcessedKeys(events);
+        Map<DailyActionCounterService.CounterKey, Long> dailyEarnedCounts = loadDailyEarnedCounts(userIds, events);
+        Map<DailyActionCounterService.CounterKey, Integer> counterDeltas = new LinkedHashMap<>();
+        Map<UUID, UserReputation> reputations = userReputationRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserReputation::getUserId, Function.identity()));
+
+        List<UserReputation> changedReputations = new ArrayList<>();
+        List<PointHistory> pointHistories = new ArrayList<>(events.size());
+        List<ProcessedEventKey> claimedKeys = new ArrayList<>(events.size());
+        Map<UUID, List<String>> newBadges = new LinkedHashMap<>();
+        Map<UUID, LocalDateTime> badgeEarnedAt = new HashMap<>();
+
+        for (Map.Entry<UUID, List<GamificationEvent>> entry : eventsByUser.entrySet()) {
+            UUID userId = entry.getKey();
+            UserReputation reputation = reputations.computeIfAbsent(userId, UserReputation::initialize);
+            LocalDateTime lastOccurredAt = null;
+
+            for (GamificationEvent event : entry.getValue()) {
+                LocalDateTime eventOccurredAt = resolveOccurredAt(event.getOccurredAt());
+                if (pointHistoryPartitionService.isArchived(eventOccurredAt)) {
+                    log.warn("Event older than archived point history skipped. userId={}, actionType={}, referenceId={}, occurredAt={}",
+                            userId, event.getActionType(), event.getReferenceId(), eventOccurredAt);
+                    continue;
+                }
+                if (pointHistoryPartitionService.isBeyondPartitions(eventOccurredAt)) {
+                    log.warn("Event beyond pre-created point history partitions skipped. userId={}, actionType={}, referenceId={}, occurredAt={}",
+                            userId, event.getActionType(), event.getReferenceId(), eventOccurredAt);
+                    continue;
+                }
+                if (!processedKeys.add(new EventKey(userId, event.getActionType(), event.getReferenceId()))) {
+                    log.info("Duplicate event skipped by idempotency check. userId={}, actionType={}, referenceId={}",
+                            userId, event.getActionType(), event.getReferenceId());
+                    continue;
+                }
+
+                DailyActionCounterService.CounterKey dailyKey = new DailyActionCounterService.CounterKey(
+                        userId, event.getActionType(), eventOccurredAt.toLocalDate());
+
+                int earnedPoints;
+                if (dailyEarnedCounts.getOrDefault(dailyKey, 0L) >= MAX_DAILY_POINT_EARNINGS_PER_ACTION) {
+                    earnedPoints = 0;
+                    log.info("Daily points limit reached. userId={}, actionType={}, limit={}",
+                            userId, event.getActionType(), MAX_DAILY_POINT_EARNINGS_PER_ACTION);
+                } else {
+                    earnedPoints = resolveEarnedPoints(event, reputation);
+                }
+                if (earnedPoints > 0) {
+                    dailyEarnedCounts.merge(dailyKey, 1L, Long::sum);
+                    counterDeltas.merge(dailyKey, 1, Integer::sum);
+                }
+
+                reputation.setTotalPoints(reputation.getTotalPoints() + earnedPoints);
+                pointHistories.add(toPointHistory(event, earnedPoints, eventOccurredAt));
+                claimedKeys.add(new ProcessedEventKey(userId, event.getActionType(), event.getReferenceId(),
+                        LocalDateTime.now(ZoneId.of("Europe/Istanbul"))));
+                leaderboardService.recordPoints(userId, reputation.getTotalPoints(), earnedPoints,
+                        eventOccurredAt.toLocalDate());
+                lastOccurredAt = eventOccurredAt;
+            }
+
+            if (lastOccurredAt != null) {
+                changedReputations.add(reputation);
+                List<String> awarded = badgeRuleEngine.awardNewBadges(reputation);
+                if (!awarded.isEmpty()) {
+                    newBadges.put(userId, awarded);
+                    badgeEarnedAt.put(userId, lastOccurredAt);
+                }
+            }
+        }
+
+        if (changedReputations.isEmpty()) {
+            return;
+        }
+        List<UserReputation> savedReputations = userReputationRepository.saveAll(changedReputations);
+        processedEventKeyRepository.saveAll(claimedKeys);
+        pointHistoryRepository.saveAll(pointHistories);
+        pointHistories.forEach(history ->
+                idempotencyFilter.record(history.getUserId(), history.getActionType(), history.getReferenceId()));
+        userReputationRepository.flush();
+        newBadges.forEach((userId, badgeCodes) -> saveBadges(userId, badgeCodes, badgeEarnedAt.get(userId)));
+        summaryCache.writeThrough(buildSummaries(savedReputations, newBadges));
+        counterDeltas.forEach((key, delta) ->
+                dailyActionCounterService.increment(key.userId(), key.actionType(), key.day(), delta));
+        log.debug("Gamification batch applied. events={}, users={}, histories={}",
+                events.size(), changedReputations.size(), pointHistories.size());
+    }
+
+    /**
+     * Batch'te daha once islenmis olaylarin anahtarlari. Bloom filtresinin kesin yeni dedigi olaylar sorguya
+     * girmez; hicbiri kalmazsa sorgu hic calismaz. Bu kisa devre guvenlidir: yeni anahtarlar ayni transaction'da
+     * processed_event_key'e yazilir, filtre yanilirsa (baska instance'in veya filtreye yuklenmemis eski bir anahtar)
+     * PK ihlali batch'i olay bazli islemeye dusurur.
+     */
+    private Set<EventKey> findProcessedKeys(List<GamificationEvent> events) {
+        Set<UUID> userIds = new HashSet<>();
+        Set<String> referenceIds = new HashSet<>();
+        Set<EventKey> maybePresent = new HashSet<>();
+        for (GamificationEvent event : events) {
+            IdempotencyBloomFilter.Lookup lookup = idempotencyFilter.check(
+                    event.getUserId(), event.getActionType(), event.getReferenceId());
+            if (lookup == IdempotencyBloomFilter.Lookup.ABSENT) {
+                continue;
+            }
+            if (lookup == IdempotencyBloomFilter.Lookup.MAYBE_PRESENT) {
+                maybePresent.add(new EventKey(event.getUserId(), event.getActionType(), event.getReferenceId()));
+            }
+            userIds.add(event.getUserId());
+            referenceIds.add(event.getReferenceId());
+        }
+
+        Set<EventKey> processedKeys = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return processedKeys;
+        }
+        for (ProcessedEventKey key : processedEventKeyRepository.findByUserIdInAndReferenceIdIn(userIds, referenceIds)) {
+            processedKeys.add(new EventKey(key.getUserId(), key.getActionType(), key.getReferenceId()));
+        }
+        maybePresent.removeAll(processedKeys);
+        maybePresent.forEach(key -> idempotencyFilter.recordFalsePositive());
+        return processedKeys;
+    }
+
+    private boolean isProcessed(GamificationEvent event) {
+        if (!isValidEvent(event)) {
+            return false;
+        }
+        return processedEventKeyRepository.existsByUserIdAndActionTypeAndReferenceId(
+                event.getUserId(), event.getActionType(), event.getReferenceId());
+    }
+
+    private Map<DailyActionCounterService.CounterKey, Long> loadDailyEarnedCounts(Collection<UUID> userIds,
+                                                                            List<GamificationEvent> events) {
+        LocalDate firstDay = null;
+        LocalDate lastDay = null;
+        for (GamificationEvent event : events) {
+            LocalDate day = resolveOccurredAt(event.getOccurredAt()).toLocalDate();
+            firstDay = firstDay == null || day.isBefore(firstDay) ? day : firstDay;
+            lastDay = lastDay == null || day.isAfter(lastDay) ? day : lastDay;
+        }
+
+        return new HashMap<>(dailyActionCounterService.earnedCounts(userIds, firstDay, lastDay));
+    }
+
     private void processEventInTransaction(GamificationEvent event) {
         validateEvent(event);
 
         LocalDateTime eventOccurredAt = resolveOccurredAt(event.getOccurredAt());
 
-        if (pointHistoryRepository.existsByUserIdAndActionTypeAndReferenceId(
-                event.getUserId(), event.getActionType(), event.getReferenceId())) {
+        if (pointHistoryPartitionService.isArchived(eventOccurredAt)) {
+            log.warn("Event older than archived point history skipped. userId={}, actionType={}, referenceId={}, occurredAt={}",
+                    event.getUserId(), event.getActionType(), event.getReferenceId(), eventOccurredAt);
+            return;
+        }
+
+        if (pointHistoryPartitionService.isBeyondPartitions(eventOccurredAt)) {
+            log.warn("Event beyond pre-created point history partitions skipped. userId={}, actionType={}, referenceId={}, occurredAt={}",
+                    event.getUserId(), event.getActionType(), event.getReferenceId(), eventOccurredAt);
+            return;
+        }
+
+        // Anahtar olay zamanindan bagimsiz ayrilir; farkli occurredAt ile yeniden yayinlanan olay da tekrar sayilir.
+        if (processedEventKeyRepository.claim(event.getUserId(), event.getActionType().name(), event.getReferenceId()) == 0) {
             log.info("Duplicate event skipped by idempotency check. userId={}, actionType={}, referenceId={}",
                     event.getUserId(), event.getActionType(), event.getReferenceId());
             return;
@@ -106,65 +370,58 @@ public class GamificationService {
             log.info("Daily points limit reached. userId={}, actionType={}, limit={}",
                     event.getUserId(), event.getActionType(), MAX_DAILY_POINT_EARNINGS_PER_ACTION);
         } else {
-            earnedPoints = switch (event.getActionType()) {
-                case POST_PUBLISHED -> POST_PUBLISHED_POINTS;
-                case ANSWER_ACCEPTED -> ANSWER_ACCEPTED_POINTS;
-                case VALID_REPORT -> VALID_REPORT_POINTS;
-                case DAILY_LOGIN -> applyDailyLoginStreak(reputation, event.getOccurredAt());
-                case PROFILE_COMPLETED -> PROFILE_COMPLETED_POINTS;
-            };
+            earnedPoints = resolveEarnedPoints(event, reputation);
         }
 
         reputation.setTotalPoints(reputation.getTotalPoints() + earnedPoints);
-        userReputationRepository.saveAndFlush(reputation);
-
-        PointHistory pointHistory = new PointHistory();
-        pointHistory.setUserId(event.getUserId());
-        pointHistory.setActionType(event.getActionType());
-        pointHistory.setReferenceId(event.getReferenceId());
-        pointHistory.setPointsEarned(earnedPoints);
-        pointHistory.setCreatedAt(eventOccurredAt);
-        pointHistoryRepository.saveAndFlush(pointHistory);
-
-        awardNewBadges(event.getUserId(), eventOccurredAt, reputation);
+        List<String> newBadges = badgeRuleEngine.awardNewBadges(reputation);
+        UserReputation savedReputation = userReputationRepository.saveAndFlush(reputation);
+
+        pointHistoryRepository.saveAndFlush(toPointHistory(event, earnedPoints, eventOccurredAt));
+        idempotencyFilter.record(event.getUserId(), event.getActionType(), event.getReferenceId());
+        dailyActionCounterService.increment(event.getUserId(), event.getActionType(),
+                eventOccurredAt.toLocalDate(), earnedPoints > 0 ? 1 : 0);
+
+        leaderboardService.recordPoints(event.getUserId(), reputation.getTotalPoints(), earnedPoints,
+                eventOccurredAt.toLocalDate());
+        saveBadges(event.getUserId(), newBadges, eventOccurredAt);
+        summaryCache.writeThrough(buildSummaries(List.of(savedReputation), Map.of(event.getUserId(), newBadges)));
     }
 
     private boolean isDailyPointsLimitReached(UUID userId, ActionType actionType, LocalDate eventDate) {
-        LocalDateTime dayStart = eventDate.atStartOfDay();
-        LocalDateTime dayEnd = eventDate.plusDays(1).atStartOfDay().minusNanos(1);
-        long earnedCount = pointHistoryRepository.countByUserIdAndActionTypeAndCreatedAtBetweenAndPointsEarnedGreaterThan(
-                userId,
-                actionType,
-                dayStart,
-                dayEnd,
-                0
-        );
-        return earnedCount >= MAX_DAILY_POINT_EARNINGS_PER_ACTION;
+        return dailyActionCounterService.earnedCount(userId, actionType, eventDate) >= MAX_DAILY_POINT_EARNINGS_PER_ACTION;
     }
 
-    public int resetInactiveStreaks(LocalDate yesterday) {
-        return transactionTemplate.execute(status -> userReputationRepository.resetInactiveStreaks(yesterday));
-    }
-
-    @Transactional(readOnly = true)
+    /**
+     * Ozet Redis'ten okunur; yalnizca cache miss durumunda Postgres'e gidilir ve sonuc onbellege yazilir.
+     */
     public GamificationSummaryResponse getUserSummary(UUID userId) {
-        UserReputation reputation = userReputationRepository.findById(userId)
-                .orElseGet(() -> UserReputation.initialize(userId));
+        GamificationSummaryResponse cached = summaryCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
 
+        Optional<UserReputation> stored = userReputationRepository.findById(userId);
+        UserReputation reputation = stored.orElseGet(() -> UserReputation.initialize(userId));
         List<String> badges = userBadgeRepository.findByUserIdOrderByEarnedAtAsc(userId)
                 .stream()
-                .map(badge -> badge.getBadgeType().name())
+                .map(UserBadge::getBadgeType)
                 .toList();
-        return new GamificationSummaryResponse(
-                reputation.getTotalPoints(),
-                reputation.getCurrentStreak(),
-                reputation.getHighestStreak(),
-                badges
-        );
+        GamificationSummaryResponse summary = toSummary(reputation, badges, stored.isPresent());
+        summaryCache.put(userId, summary);
+        return summary;
     }
 
-    @Transactional(readOnly = true)
     public List<LeaderboardEntryResponse> getLeaderboard(int limit) {
+        return getLeaderboard(LeaderboardPeriod.ALL_TIME, limit);
+    }
+
+    /**
+     * Siralama Redis sorted set'ten okunur; seri bilgisi tek bir findAllById, adlar yerel user_projection tablosundan eklenir.
+     * Haftalik/aylik tablolarda totalPoints o pencerede kazanilan puandir.
+     * Transaction acilmaz; Redis okumasi suresince veritabani baglantisi tutulmaz.
+     */
+    public List<LeaderboardEntryResponse> getLeaderboard(LeaderboardPeriod period, int limit) {
         if (limit <= 0 || limit > MAX_LEADERBOARD_LIMIT) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -172,52 +429,39 @@ public class GamificationService {
             );
         }
 
-        List<UserReputation> reputations = userReputationRepository.findByOrderByTotalPointsDescUserIdAsc(
-                PageRequest.of(0, limit)
-        );
+        List<LeaderboardService.RankedUser> ranked = leaderboardService.top(period, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> userIds = ranked.stream().map(LeaderboardService.RankedUser::userId).toList();
+        Map<UUID, UserReputation> reputations = userReputationRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserReputation::getUserId, Function.identity()));
+        Map<UUID, String> displayNames = userProjectionService.getDisplayNames(userIds);
 
-        List<LeaderboardEntryResponse> leaderboard = new ArrayList<>(reputations.size());
-        for (int i = 0; i < reputations.size(); i++) {
-            UserReputation reputation = reputations.get(i);
+        List<LeaderboardEntryResponse> leaderboard = new ArrayList<>(ranked.size());
+        for (LeaderboardService.RankedUser entry : ranked) {
+            UserReputation reputation = reputations.get(entry.userId());
             leaderboard.add(new LeaderboardEntryResponse(
-                    i + 1,
-                    resolveDisplayName(reputation.getUserId()),
-                    reputation.getTotalPoints(),
-                    reputation.getCurrentStreak()
+                    entry.rank(),
+                    displayNames.getOrDefault(entry.userId(), UserProjectionService.UNKNOWN_USER_DISPLAY_NAME),
+                    entry.points(),
+                    reputation != null ? reputation.getCurrentStreak() : 0
             ));
         }
         return leaderboard;
     }
 
-    private String resolveDisplayName(UUID userId) {
+    public LeaderboardRankResponse getUserRank(LeaderboardPeriod period, UUID userId) {
         try {
-            UserProfileClientResponse profile = userServiceClient.getProfileById(userId);
-            if (profile == null) {
-                return UNKNOWN_USER_DISPLAY_NAME;
-            }
-
-            String firstName = normalizeName(profile.getFirstName());
-            String lastName = normalizeName(profile.getLastName());
-            if (firstName == null && lastName == null) {
-                return UNKNOWN_USER_DISPLAY_NAME;
-            }
-            return String.join(" ",
-                    Objects.requireNonNullElse(firstName, ""),
-                    Objects.requireNonNullElse(lastName, "")
-            ).trim();
+            LeaderboardService.UserRank rank = leaderboardService.rankOf(period, userId);
+            return new LeaderboardRankResponse(period.name(), rank.rank(), rank.points(), rank.participants());
         } catch (Exception ex) {
-            log.warn("User profile could not be resolved for leaderboard. userId={}", userId, ex);
-            return UNKNOWN_USER_DISPLAY_NAME;
+            log.warn("Leaderboard rank could not be resolved. userId={}, period={}", userId, period, ex);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Siralama su an hesaplanamiyor");
         }
     }
 
-    private String normalizeName(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        return value.trim();
-    }
-
     private int applyDailyLoginStreak(UserReputation reputation, OffsetDateTime occurredAt) {
         LocalDate loginDate = resolveOccurredAt(occurredAt).toLocalDate();
 
@@ -254,57 +498,87 @@ public class GamificationService {
     }
 
     private void validateEvent(GamificationEvent event) {
-        if (event == null || event.getUserId() == null || event.getActionType() == null ||
-                event.getReferenceId() == null || event.getReferenceId().isBlank()) {
+        if (!isValidEvent(event)) {
             throw new IllegalArgumentException("Gamification event validation failed");
         }
     }
 
-    private void awardNewBadges(UUID userId, LocalDateTime earnedAt, UserReputation reputation) {
-        List<BadgeType> eligibleBadges = resolveBadges(reputation.getTotalPoints(), reputation.getHighestStreak());
-        if (eligibleBadges.isEmpty()) {
-            return;
-        }
+    private boolean isValidEvent(GamificationEvent event) {
+        return event != null && event.getUserId() != null && event.getActionType() != null &&
+                event.getReferenceId() != null && !event.getReferenceId().isBlank();
+    }
 
-        List<UserBadge> existingBadges = userBadgeRepository.findByUserIdOrderByEarnedAtAsc(userId);
-        Set<BadgeType> alreadyEarned = existingBadges.stream()
-                .map(UserBadge::getBadgeType)
-                .collect(Collectors.toSet());
+    private int resolveEarnedPoints(GamificationEvent event, UserReputation reputation) {
+        return switch (event.getActionType()) {
+            case POST_PUBLISHED -> POST_PUBLISHED_POINTS;
+            case ANSWER_ACCEPTED -> ANSWER_ACCEPTED_POINTS;
+            case VALID_REPORT -> VALID_REPORT_POINTS;
+            case DAILY_LOGIN -> applyDailyLoginStreak(reputation, event.getOccurredAt());
+            case PROFILE_COMPLETED -> PROFILE_COMPLETED_POINTS;
+        };
+    }
 
-        List<UserBadge> toSave = new ArrayList<>();
-        for (BadgeType badgeType : eligibleBadges) {
-            if (alreadyEarned.contains(badgeType)) {
-                continue;
-            }
-            UserBadge userBadge = new UserBadge();
-            userBadge.setUserId(userId);
-            userBadge.setBadgeType(badgeType);
-            userBadge.setEarnedAt(earnedAt);
-            toSave.add(userBadge);
-        }
+    private PointHistory toPointHistory(GamificationEvent event, int earnedPoints, LocalDateTime occurredAt) {
+        PointHistory pointHistory = new PointHistory();
+        pointHistory.setUserId(event.getUserId());
+        pointHistory.setActionType(event.getActionType());
+        pointHistory.setReferenceId(event.getReferenceId());
+        pointHistory.setPointsEarned(earnedPoints);
+        pointHistory.setCreatedAt(occurredAt);
+        return pointHistory;
+    }
 
-        if (!toSave.isEmpty()) {
-            userBadgeRepository.saveAll(toSave);
+    /**
+     * Kaydedilen reputation'lar icin guncel ozetleri kurar. Rozet listesi onbellekteki ozetten ve yeni rozetlerden
+     * olusur; onbellekte olmayan kullanicilar icin tek sorguyla okunur.
+     */
+    private Map<UUID, GamificationSummaryResponse> buildSummaries(List<UserReputation> reputations,
+                                                                 Map<UUID, List<String>> newBadges) {
+        Set<UUID> userIds = reputations.stream().map(UserReputation::getUserId).collect(Collectors.toSet());
+        Map<UUID, GamificationSummaryResponse> cached = summaryCache.getAll(userIds);
+
+        Set<UUID> missing = new HashSet<>(userIds);
+        missing.removeAll(cached.keySet());
+        Map<UUID, List<String>> storedBadges = missing.isEmpty() ? Map.of() :
+                userBadgeRepository.findByUserIdInOrderByEarnedAtAsc(missing).stream()
+                        .collect(Collectors.groupingBy(UserBadge::getUserId,
+                                Collectors.mapping(UserBadge::getBadgeType, Collectors.toList())));
+
+        Map<UUID, GamificationSummaryResponse> summaries = new LinkedHashMap<>();
+        for (UserReputation reputation : reputations) {
+            UUID userId = reputation.getUserId();
+            List<String> badges;
+            if (cached.containsKey(userId)) {
+                badges = new ArrayList<>(cached.get(userId).badges());
+                for (String badge : newBadges.getOrDefault(userId, List.of())) {
+                    if (!badges.contains(badge)) {
+                        badges.add(badge);
+                    }
+                }
+            } else {
+                badges = storedBadges.getOrDefault(userId, List.of());
+            }
+            summaries.put(userId, toSummary(reputation, badges, true));
         }
+        return summaries;
     }
 
-    private List<BadgeType> resolveBadges(int totalPoints, int highestStreak) {
-        List<BadgeType> badges = new ArrayList<>();
+    private GamificationSummaryResponse toSummary(UserReputation reputation, List<String> badges, boolean stored) {
+        return new GamificationSummaryResponse(
+                reputation.getTotalPoints(),
+                reputation.getCurrentStreak(),
+                reputation.getHighestStreak(),
+                badges,
+                stored ? reputation.getVersion() : -1L
+        );
+    }
 
-        if (totalPoints >= 1000) {
-            badges.add(BadgeType.POINTS_MASTER);
-        }
-        if (totalPoints >= 250) {
-            badges.add(BadgeType.POINTS_EXPLORER);
+    private void saveBadges(UUID userId, List<String> badgeCodes, LocalDateTime earnedAt) {
+        for (String badgeCode : badgeCodes) {
+            userBadgeRepository.insertIfAbsent(userId, badgeCode, earnedAt);
         }
-        if (highestStreak >= 30) {
-            badges.add(BadgeType.STREAK_LEGEND);
+        if (!badgeCodes.isEmpty()) {
+            log.info("Badges awarded. userId={}, badges={}", userId, badgeCodes);
         }
-        if (highestStreak >= 7) {
-            badges.add(BadgeType.WEEK_WARRIOR);
-        }
-
-        return badges;
     }
 }
-
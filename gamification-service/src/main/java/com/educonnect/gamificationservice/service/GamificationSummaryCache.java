@@ -0,0 +1,186 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.config.RabbitMQConfig;
+import com.educonnect.gamificationservice.dto.event.GamificationSummaryChangedEvent;
+import com.educonnect.gamificationservice.dto.response.GamificationSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kullanici ozeti (GamificationSummaryResponse) icin Redis onbellegi: gamification:summary:{userId}.
+ *
+ * - Yazma tarafi write-through'dur: puan islemi commit olduktan sonra guncel ozet yazilir ve
+ *   gamification.summary.exchange'e GamificationSummaryChangedEvent yayinlanir; user-service kendi kopyasini tutar.
+ * - Yazma, sakli kaydin version'i yeni ozetten kucukse yapilir (Lua); ters sirada gelen commit'ler veya
+ *   okuma yolunun geciken doldurmasi yeni ozeti ezmez.
+ * - Streak sifirlamasi gibi toplu degisikliklerde kayit silinir ve summary'siz bildirim yayinlanir.
+ * - Redis veya RabbitMQ hatalari loglanir; okuma Postgres'e duser, user-service kopyasi TTL/sonraki olayla duzelir.
+ */
+@Service
+public class GamificationSummaryCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GamificationSummaryCache.class);
+
+    private static final String KEY_PREFIX = "gamification:summary:";
+
+    private static final RedisScript<Long> PUT_IF_NEWER = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if current then " +
+                    "  local ok, cached = pcall(cjson.decode, current) " +
+                    "  if ok and cached.version and tonumber(cached.version) >= tonumber(ARGV[1]) then return 0 end " +
+                    "end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RabbitTemplate rabbitTemplate;
+    private final Duration ttl;
+
+    public GamificationSummaryCache(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    RabbitTemplate rabbitTemplate,
+                                    @Value("${gamification.summary-cache.ttl:24h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.rabbitTemplate = rabbitTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Onbellekteki ozet; yoksa veya Redis'e ulasilamazsa null.
+     */
+    public GamificationSummaryResponse get(UUID userId) {
+        try {
+            return read(redisTemplate.opsForValue().get(keyFor(userId)));
+        } catch (Exception ex) {
+            log.warn("Summary cache read failed. userId={}, reason={}", userId, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Verilen kullanicilarin onbellekteki ozetleri; bulunamayanlar sonucta yer almaz.
+     */
+    public Map<UUID, GamificationSummaryResponse> getAll(Collection<UUID> userIds) {
+        Map<UUID, GamificationSummaryResponse> summaries = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return summaries;
+        }
+        List<UUID> ids = new ArrayList<>(userIds);
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::keyFor).toList());
+            for (int i = 0; values != null && i < ids.size(); i++) {
+                GamificationSummaryResponse summary = read(values.get(i));
+                if (summary != null) {
+                    summaries.put(ids.get(i), summary);
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("Summary cache multi read failed. size={}, reason={}", ids.size(), ex.getMessage());
+        }
+        return summaries;
+    }
+
+    /**
+     * Okuma yolunda (cache miss) Postgres'ten kurulan ozeti yazar; bildirim yayinlanmaz.
+     */
+    public void put(UUID userId, GamificationSummaryResponse summary) {
+        putIfNewer(userId, summary);
+    }
+
+    /**
+     * Ozetleri commit sonrasi yazar ve degisiklik bildirimini yayinlar. Transaction yoksa hemen uygular.
+     */
+    public void writeThrough(Map<UUID, GamificationSummaryResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> summaries.forEach((userId, summary) -> {
+            putIfNewer(userId, summary);
+            publish(new GamificationSummaryChangedEvent(userId, summary));
+        }));
+    }
+
+    /**
+     * Kayitlari siler ve summary'siz bildirim yayinlar; aktif transaction varsa commit sonrasina ertelenir.
+     */
+    public void invalidate(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(userIds);
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.delete(ids.stream().map(this::keyFor).toList());
+            } catch (Exception ex) {
+                log.warn("Summary cache eviction failed. size={}, reason={}", ids.size(), ex.getMessage());
+            }
+            ids.forEach(userId -> publish(new GamificationSummaryChangedEvent(userId, null)));
+        });
+    }
+
+    private void putIfNewer(UUID userId, GamificationSummaryResponse summary) {
+        try {
+            redisTemplate.execute(PUT_IF_NEWER, List.of(keyFor(userId)),
+                    Long.toString(summary.version()),
+                    objectMapper.writeValueAsString(summary),
+                    Long.toString(ttl.toMillis()));
+        } catch (Exception ex) {
+            log.warn("Summary cache write failed. userId={}, reason={}", userId, ex.getMessage());
+        }
+    }
+
+    private void publish(GamificationSummaryChangedEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.GAMIFICATION_SUMMARY_EXCHANGE,
+                    RabbitMQConfig.GAMIFICATION_SUMMARY_CHANGED_ROUTING_KEY,
+                    event
+            );
+        } catch (Exception ex) {
+            log.warn("Summary changed event could not be published. userId={}, reason={}",
+                    event.getUserId(), ex.getMessage());
+        }
+    }
+
+    private GamificationSummaryResponse read(String value) throws JsonProcessingException {
+        return value == null ? null : objectMapper.readValue(value, GamificationSummaryResponse.class);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private String keyFor(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,248 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.ActionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Batch idempotency on kontrolunun onundeki bellek ici Bloom filtresi (aksiyon tipi basina bir filtre).
+ *
+ * - Olaylarin cogu yenidir; filtre "kesin yok" dediginde processed_event_key sorgusu atlanir. "Olabilir"
+ *   cevabinda veya filtre henuz hazir degilse sorgu her zamanki gibi calisir.
+ * - ABSENT cevabi yalnizca bir okumayi atlar, karar vermez: yeni anahtar processed_event_key'e yazilir ve
+ *   tablonun PK'si (user_id, action_type, reference_id) olay zamanindan bagimsiz tek hakemdir. Filtre yanilirsa
+ *   (baska instance'in yazdigi veya seed-window'dan eski anahtar) yazim PK'ya takilir, batch olay bazli islemeye
+ *   duser ve olay tekrar puan kazandirmaz. Yanilginin bedeli bir fallback'tir, cift puan degil.
+ * - Filtre bean olusurken bos kurulur, her yazilan anahtar filtreye eklenir; acilista processed_event_key'in
+ *   son seedWindow'luk kismi yuklenir ve filtre ancak yukleme bittikten sonra kullanilir. Boylece yukleme
+ *   sirasinda yazilan anahtarlar kaybolmaz. Pencere yalnizca bellek kullanimini sinirlar.
+ * - Filtre instance'a ozeldir; paylasilmasi (Redis BF) dogruluk icin gerekmez, cunku son karar her zaman
+ *   veritabanindadir.
+ * - Filtre yeniden kurulmadigi icin doluluk arttikca yanlis pozitif orani yukselir (daha fazla sorgu, yanlis
+ *   sonuc degil); expected-insertions instance omru boyunca beklenen yazim sayisina gore ayarlanmalidir.
+ *
+ * Metrikler: gamification.idempotency_filter.skipped_queries, gamification.idempotency_filter.false_positives,
+ * gamification.idempotency_filter.false_positive_rate (gozlenen), gamification.idempotency_filter.estimated_fpp
+ * (aksiyon tipi basina doluluktan hesaplanan).
+ */
+@Service
+public class IdempotencyBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyBloomFilter.class);
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+    private static final int FETCH_SIZE = 10_000;
+
+    public enum Lookup {
+        /** Anahtar kesin olarak islenmemis; veritabani sorgusu gereksiz. */
+        ABSENT,
+        /** Anahtar islenmis olabilir; veritabani karar verir. */
+        MAYBE_PRESENT,
+        /** Filtre henuz yuklenmedi (veya yukleme basarisiz); veritabani karar verir. */
+        NOT_COVERED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration seedWindow;
+    private final Map<ActionType, BitSetFilter> filters = new EnumMap<>(ActionType.class);
+
+    private volatile boolean ready;
+
+    private final Counter skippedQueryCounter;
+    private final Counter falsePositiveCounter;
+
+    public IdempotencyBloomFilter(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${gamification.idempotency-filter.enabled:true}") boolean enabled,
+                                  @Value("${gamification.idempotency-filter.expected-insertions:1000000}") long expectedInsertions,
+                                  @Value("${gamification.idempotency-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${gamification.idempotency-filter.seed-window:30d}") Duration seedWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.seedWindow = seedWindow;
+
+        this.skippedQueryCounter = Counter.builder("gamification.idempotency_filter.skipped_queries")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("gamification.idempotency_filter.false_positives")
+                .register(meterRegistry);
+        Gauge.builder("gamification.idempotency_filter.false_positive_rate", this, IdempotencyBloomFilter::observedFalsePositiveRate)
+                .description("False positives among keys that turned out to be new")
+                .register(meterRegistry);
+
+        if (enabled) {
+            for (ActionType actionType : ActionType.values()) {
+                BitSetFilter filter = new BitSetFilter(expectedInsertions, falsePositiveRate);
+                filters.put(actionType, filter);
+                Gauge.builder("gamification.idempotency_filter.estimated_fpp", filter, BitSetFilter::estimatedFalsePositiveRate)
+                        .tag("actionType", actionType.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * ABSENT cevabi skipped_queries metrigine sayilir.
+     */
+    public Lookup check(UUID userId, ActionType actionType, String referenceId) {
+        if (!ready) {
+            return Lookup.NOT_COVERED;
+        }
+        if (filters.get(actionType).mightContain(userId, referenceId)) {
+            return Lookup.MAYBE_PRESENT;
+        }
+        skippedQueryCounter.increment();
+        return Lookup.ABSENT;
+    }
+
+    /**
+     * MAYBE_PRESENT cevabindan sonra veritabani anahtari bulamadiysa cagrilir.
+     */
+    public void recordFalsePositive() {
+        falsePositiveCounter.increment();
+    }
+
+    /**
+     * processed_event_key'e yazilan anahtari filtreye ekler. Transaction geri alinirsa anahtar filtrede kalir;
+     * bu yalnizca bir yanlis pozitiftir.
+     */
+    public void record(UUID userId, ActionType actionType, String referenceId) {
+        if (enabled) {
+            filters.get(actionType).put(userId, referenceId);
+        }
+    }
+
+    /**
+     * Son seedWindow icinde islenen anahtarlari filtreye yukler ve filtreyi devreye alir.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime from = LocalDateTime.now(ZONE).minus(seedWindow);
+        long startedAt = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        try {
+            // Cursor ile akitilir (fetch size + transaction); gecmis bellege bir seferde alinmaz.
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                "SELECT user_id, action_type, reference_id FROM gamification_db.processed_event_key " +
+                                        "WHERE processed_at >= ?");
+                        statement.setFetchSize(FETCH_SIZE);
+                        statement.setObject(1, from);
+                        return statement;
+                    },
+                    (RowCallbackHandler) resultSet -> {
+                        ActionType actionType = ActionType.valueOf(resultSet.getString("action_type"));
+                        filters.get(actionType).put(resultSet.getObject("user_id", UUID.class),
+                                resultSet.getString("reference_id"));
+                        loaded.incrementAndGet();
+                    }));
+        } catch (Exception ex) {
+            log.warn("Idempotency filter could not be loaded, duplicate checks stay on the database. reason={}",
+                    ex.getMessage(), ex);
+            return;
+        }
+        ready = true;
+        log.info("Idempotency filter loaded. keys={}, from={}, durationMs={}",
+                loaded.get(), from, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double negatives = falsePositives + skippedQueryCounter.count();
+        return negatives == 0 ? 0.0 : falsePositives / negatives;
+    }
+
+    /**
+     * Sabit boyutlu, eszamanli eklemeye uygun Bloom filtresi. Konumlar iki 64-bit hash ile (Kirsch-Mitzenmacher)
+     * uretilir.
+     */
+    private static final class BitSetFilter {
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashCount;
+        private final AtomicLong insertions = new AtomicLong();
+
+        BitSetFilter(long expectedInsertions, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.max(1, (bits + 63) / 64);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitSize = (long) wordCount * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        }
+
+        void put(UUID userId, String referenceId) {
+            long h1 = hash(userId, referenceId);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(UUID userId, String referenceId) {
+            long h1 = hash(userId, referenceId);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double estimatedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitSize), hashCount);
+        }
+
+        private static long hash(UUID userId, String referenceId) {
+            long h = mix(userId.getMostSignificantBits()) ^ Long.rotateLeft(mix(userId.getLeastSignificantBits()), 31);
+            for (int i = 0; i < referenceId.length(); i++) {
+                h = (h ^ referenceId.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
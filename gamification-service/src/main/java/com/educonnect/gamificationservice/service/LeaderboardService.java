@@ -0,0 +1,347 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.LeaderboardPeriod;
+import com.educonnect.gamificationservice.model.UserReputation;
+import com.educonnect.gamificationservice.repository.PointHistoryRepository;
+import com.educonnect.gamificationservice.repository.UserReputationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis sorted set tabanli liderlik tablosu.
+ *
+ * Anahtarlar:
+ * - gamification:leaderboard:all             -> toplam puan (user_reputation.total_points)
+ * - gamification:leaderboard:weekly:2026-W12  -> ISO haftasinda kazanilan puan
+ * - gamification:leaderboard:monthly:2026-03  -> ayda kazanilan puan
+ *
+ * - Puanlar processEventInTransaction commit olduktan sonra artimli yazilir. Genel tabloda
+ *   ZADD GT kullanilir; ayni kullanicinin commit'leri ters sirada gelse de skor geriye gitmez.
+ *   Pencereli tablolarda ZINCRBY kullanilir ve anahtarlar saklama suresi sonunda silinir.
+ * - Ilk N ve kullanicinin sirasi O(log n) ile okunur. Esit puanda userId'si buyuk olan once gelir
+ *   (ZREVRANGE uyeleri ters sozluk sirasiyla dondurur); Postgres yedek sorgulari da user_id DESC kullanir.
+ *   Kucuk harfli UUID metninin sozluk sirasi Postgres uuid sirasiyla aynidir.
+ * - Redis erisilemezse okumalar (ilk N ve sira) Postgres'e duser, yazma hatalari loglanir; tablolar acilista
+ *   (anahtar yoksa) ve her gece Postgres'ten uzlastirilir.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+    private static final String KEY_PREFIX = "gamification:leaderboard:";
+    private static final String ALL_TIME_KEY = KEY_PREFIX + "all";
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    public record RankedUser(UUID userId, int rank, int points) {
+    }
+
+    public record UserRank(Long rank, int points, long participants) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserReputationRepository userReputationRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final Duration weeklyRetention;
+    private final Duration monthlyRetention;
+
+    public LeaderboardService(StringRedisTemplate redisTemplate,
+                              UserReputationRepository userReputationRepository,
+                              PointHistoryRepository pointHistoryRepository,
+                              @Value("${gamification.leaderboard.weekly-retention:35d}") Duration weeklyRetention,
+                              @Value("${gamification.leaderboard.monthly-retention:100d}") Duration monthlyRetention) {
+        this.redisTemplate = redisTemplate;
+        this.userReputationRepository = userReputationRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.weeklyRetention = weeklyRetention;
+        this.monthlyRetention = monthlyRetention;
+    }
+
+    /**
+     * Kullanicinin yeni toplamini ve kazandigi puani tablolara yazar.
+     * Aktif bir transaction varsa yazma commit sonrasina ertelenir; rollback olan denemeler tabloya yansimaz.
+     */
+    public void recordPoints(UUID userId, int totalPoints, int earnedPoints, LocalDate eventDate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyPoints(userId, totalPoints, earnedPoints, eventDate);
+                }
+            });
+            return;
+        }
+        applyPoints(userId, totalPoints, earnedPoints, eventDate);
+    }
+
+    public List<RankedUser> top(LeaderboardPeriod period, int limit) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(keyFor(period, today()), 0, limit - 1L);
+            if (tuples != null && !tuples.isEmpty()) {
+                List<RankedUser> ranked = new ArrayList<>(tuples.size());
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    ranked.add(new RankedUser(
+                            UUID.fromString(tuple.getValue()),
+                            ranked.size() + 1,
+                            tuple.getScore() == null ? 0 : tuple.getScore().intValue()
+                    ));
+                }
+                return ranked;
+            }
+        } catch (Exception ex) {
+            log.warn("Leaderboard read from Redis failed, falling back to database. period={}, reason={}",
+                    period, ex.getMessage());
+        }
+        return topFromDatabase(period, limit);
+    }
+
+    /**
+     * Kullanicinin sirasini dondurur. Tabloda yoksa rank null ve puan 0 doner.
+     * Redis erisilemezse veya tablo bossa sira Postgres'ten hesaplanir.
+     */
+    public UserRank rankOf(LeaderboardPeriod period, UUID userId) {
+        LocalDate today = today();
+        try {
+            String key = keyFor(period, today);
+            String member = userId.toString();
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+
+            Long participants = zSet.zCard(key);
+            if (participants != null && participants > 0) {
+                Long rank = zSet.reverseRank(key, member);
+                Double score = zSet.score(key, member);
+                return new UserRank(
+                        rank == null ? null : rank + 1,
+                        score == null ? 0 : score.intValue(),
+                        participants
+                );
+            }
+        } catch (Exception ex) {
+            log.warn("Leaderboard rank read from Redis failed, falling back to database. period={}, reason={}",
+                    period, ex.getMessage());
+        }
+        return rankFromDatabase(period, userId, today);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(ALL_TIME_KEY))) {
+                rebuild();
+            }
+        } catch (Exception ex) {
+            log.warn("Leaderboard could not be initialized on startup. reason={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Genel ve guncel pencere tablolarini Postgres'ten uzlastirir. Postgres'teki skorlar canli anahtara
+     * sayfa sayfa ZADD GT ile yazilir: Redis'te eksik kalan (yazma hatasi) skorlar yukseltilir, daha yuksek olanlar
+     * korunur. Skorlar yalnizca artar; Redis'teki skorun Postgres'tekinden yuksek olmasi, uzlastirma sirasinda commit
+     * olup sorguya girmemis bir artim demektir. Bu yuzden anahtar degistirilmez (RENAME yok) ve uzlastirma
+     * sirasinda gelen artimlar kaybolmaz.
+     */
+    @Scheduled(cron = "${gamification.leaderboard.reconcile-cron:0 30 4 * * *}", zone = "Europe/Istanbul")
+    public void rebuild() {
+        try {
+            LocalDate today = today();
+            int allTimeCount = rebuildAllTime();
+            int weeklyCount = rebuildWindow(LeaderboardPeriod.WEEKLY, today);
+            int monthlyCount = rebuildWindow(LeaderboardPeriod.MONTHLY, today);
+            log.info("Leaderboard rebuilt. allTime={}, weekly={}, monthly={}", allTimeCount, weeklyCount, monthlyCount);
+        } catch (Exception ex) {
+            log.warn("Leaderboard rebuild failed. reason={}", ex.getMessage(), ex);
+        }
+    }
+
+    private void applyPoints(UUID userId, int totalPoints, int earnedPoints, LocalDate eventDate) {
+        try {
+            byte[] member = userId.toString().getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.zSetCommands().zAdd(
+                    ALL_TIME_KEY.getBytes(StandardCharsets.UTF_8),
+                    totalPoints,
+                    member,
+                    RedisZSetCommands.ZAddArgs.empty().gt()
+            ));
+
+            if (earnedPoints > 0) {
+                incrementWindow(LeaderboardPeriod.WEEKLY, eventDate, userId, earnedPoints);
+                incrementWindow(LeaderboardPeriod.MONTHLY, eventDate, userId, earnedPoints);
+            }
+        } catch (Exception ex) {
+            log.warn("Leaderboard update failed, nightly rebuild will reconcile. userId={}, reason={}",
+                    userId, ex.getMessage());
+        }
+    }
+
+    private void incrementWindow(LeaderboardPeriod period, LocalDate eventDate, UUID userId, int earnedPoints) {
+        String key = keyFor(period, eventDate);
+        redisTemplate.opsForZSet().incrementScore(key, userId.toString(), earnedPoints);
+        redisTemplate.expire(key, retentionOf(period));
+    }
+
+    private int rebuildAllTime() {
+        byte[] key = ALL_TIME_KEY.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("userId"));
+        Slice<UserReputation> page;
+        do {
+            page = userReputationRepository.findAll(pageable);
+            Set<Tuple> tuples = new HashSet<>();
+            for (UserReputation reputation : page.getContent()) {
+                tuples.add(new DefaultTuple(reputation.getUserId().toString().getBytes(StandardCharsets.UTF_8),
+                        reputation.getTotalPoints().doubleValue()));
+            }
+            count += mergeGreater(key, tuples);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        return count;
+    }
+
+    private int rebuildWindow(LeaderboardPeriod period, LocalDate date) {
+        String key = keyFor(period, date);
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        Slice<PointHistoryRepository.UserPointsTotal> page;
+        do {
+            page = pointHistoryRepository.sumPointsPerUserBetween(
+                    windowStart(period, date).atStartOfDay(),
+                    windowEnd(period, date).atStartOfDay(),
+                    pageable
+            );
+            Set<Tuple> tuples = new HashSet<>();
+            for (PointHistoryRepository.UserPointsTotal total : page.getContent()) {
+                tuples.add(new DefaultTuple(total.getUserId().toString().getBytes(StandardCharsets.UTF_8),
+                        total.getPoints().doubleValue()));
+            }
+            count += mergeGreater(rawKey, tuples);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        if (count > 0) {
+            redisTemplate.expire(key, retentionOf(period));
+        }
+        return count;
+    }
+
+    /**
+     * ZADD GT: yeni uyeleri ekler, mevcut uyelerin skorunu yalnizca artiyorsa gunceller.
+     */
+    private int mergeGreater(byte[] key, Set<Tuple> tuples) {
+        if (tuples.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.zSetCommands().zAdd(key, tuples, RedisZSetCommands.ZAddArgs.empty().gt()));
+        return tuples.size();
+    }
+
+    private UserRank rankFromDatabase(LeaderboardPeriod period, UUID userId, LocalDate today) {
+        if (period == LeaderboardPeriod.ALL_TIME) {
+            long participants = userReputationRepository.count();
+            return userReputationRepository.findById(userId)
+                    .map(reputation -> new UserRank(
+                            userReputationRepository.countRankedAhead(reputation.getTotalPoints(), userId) + 1,
+                            reputation.getTotalPoints(),
+                            participants))
+                    .orElseGet(() -> new UserRank(null, 0, participants));
+        }
+
+        PointHistoryRepository.WindowRank windowRank = pointHistoryRepository.findWindowRank(
+                userId,
+                windowStart(period, today).atStartOfDay(),
+                windowEnd(period, today).atStartOfDay()
+        );
+        long participants = windowRank.getParticipants() == null ? 0 : windowRank.getParticipants();
+        if (windowRank.getPoints() == null) {
+            return new UserRank(null, 0, participants);
+        }
+        return new UserRank(windowRank.getAhead() + 1, windowRank.getPoints().intValue(), participants);
+    }
+
+    private List<RankedUser> topFromDatabase(LeaderboardPeriod period, int limit) {
+        List<RankedUser> ranked = new ArrayList<>(limit);
+        if (period == LeaderboardPeriod.ALL_TIME) {
+            for (UserReputation reputation : userReputationRepository.findByOrderByTotalPointsDescUserIdDesc(
+                    PageRequest.of(0, limit))) {
+                ranked.add(new RankedUser(reputation.getUserId(), ranked.size() + 1, reputation.getTotalPoints()));
+            }
+            return ranked;
+        }
+
+        LocalDate today = today();
+        for (PointHistoryRepository.UserPointsTotal total : pointHistoryRepository.sumPointsByUserBetween(
+                windowStart(period, today).atStartOfDay(),
+                windowEnd(period, today).atStartOfDay(),
+                PageRequest.of(0, limit))) {
+            ranked.add(new RankedUser(total.getUserId(), ranked.size() + 1, total.getPoints().intValue()));
+        }
+        return ranked;
+    }
+
+    static String keyFor(LeaderboardPeriod period, LocalDate date) {
+        return switch (period) {
+            case ALL_TIME -> ALL_TIME_KEY;
+            case WEEKLY -> KEY_PREFIX + "weekly:" + date.get(IsoFields.WEEK_BASED_YEAR)
+                    + "-W" + String.format("%02d", date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTHLY -> KEY_PREFIX + "monthly:" + YearMonth.from(date);
+        };
+    }
+
+    private static LocalDate windowStart(LeaderboardPeriod period, LocalDate date) {
+        return switch (period) {
+            case ALL_TIME -> throw new IllegalArgumentException("ALL_TIME leaderboard has no window");
+            case WEEKLY -> date.with(DayOfWeek.MONDAY);
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate windowEnd(LeaderboardPeriod period, LocalDate date) {
+        return switch (period) {
+            case ALL_TIME -> throw new IllegalArgumentException("ALL_TIME leaderboard has no window");
+            case WEEKLY -> date.with(DayOfWeek.MONDAY).plusWeeks(1);
+            case MONTHLY -> date.withDayOfMonth(1).plusMonths(1);
+        };
+    }
+
+    private Duration retentionOf(LeaderboardPeriod period) {
+        return period == LeaderboardPeriod.WEEKLY ? weeklyRetention : monthlyRetention;
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZONE);
+    }
+}
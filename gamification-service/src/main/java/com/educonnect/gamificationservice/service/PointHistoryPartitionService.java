@@ -0,0 +1,165 @@
+package com.educonnect.gamificationservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * point_history aylik partition yonetimi ve saklama penceresi.
+ *
+ * - Arsiv sinirindan bu ay + precreateMonths aya kadar eksik partition'lar olusturulur. DEFAULT partition
+ *   yoktur (satir tuttugu surece ayni aralik icin partition olusturulamaz); bu araligin disina dusen olaylar
+ *   islenmez (isArchived, isBeyondPartitions).
+ * - archiveAfterMonths aydan eski partition'lar once point_history_monthly tablosuna ozetlenir, sonra
+ *   DETACH edilip gamification_archive semasina tasinir (silinmez).
+ * - Idempotency point_history'ye degil, partition'siz processed_event_key tablosuna dayanir; arsivleme
+ *   tekrar kontrolunu etkilemez.
+ *
+ * Bakim islemi transaction icinde advisory lock ile yapilir; birden fazla instance ayni anda calistirmaz.
+ */
+@Service
+public class PointHistoryPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryPartitionService.class);
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+    private static final String SCHEMA = "gamification_db";
+    private static final String ARCHIVE_SCHEMA = "gamification_archive";
+    private static final String TABLE = "point_history";
+    private static final long MAINTENANCE_LOCK_KEY = 0x67616d5f70680001L;
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("point_history_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int archiveAfterMonths;
+    private final int precreateMonths;
+
+    public PointHistoryPartitionService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${gamification.point-history.archive-after-months:12}") int archiveAfterMonths,
+                                        @Value("${gamification.point-history.precreate-months:6}") int precreateMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.precreateMonths = precreateMonths;
+    }
+
+    /**
+     * Olayin ait oldugu ay arsive alinmis (veya alinmak uzere) ise true.
+     */
+    public boolean isArchived(LocalDateTime occurredAt) {
+        return occurredAt.isBefore(archiveHorizon(LocalDate.now(ZONE)).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * Olayin ayi icin partition onceden olusturulmamissa (bu ay + precreateMonths sonrasi, ileri tarihli olay) true.
+     */
+    public boolean isBeyondPartitions(LocalDateTime occurredAt) {
+        return !occurredAt.isBefore(YearMonth.now(ZONE).plusMonths(precreateMonths + 1L).atDay(1).atStartOfDay());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        try {
+            maintain(LocalDate.now(ZONE));
+        } catch (Exception ex) {
+            log.warn("Point history partition maintenance failed on startup. reason={}", ex.getMessage(), ex);
+        }
+    }
+
+    public void maintain(LocalDate today) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("Point history partition maintenance already running on another instance");
+                return;
+            }
+
+            // Arsiv sinirindan itibaren olusturulur; bakimin calismadigi aylarda kalan bosluklar da kapanir.
+            YearMonth current = YearMonth.from(today);
+            YearMonth horizon = archiveHorizon(today);
+            for (YearMonth month = horizon; !month.isAfter(current.plusMonths(precreateMonths)); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+
+            // Kapanan ayin ozeti her calismada tazelenir; gec gelen olaylar da yansir.
+            rollup(current.minusMonths(1));
+
+            for (YearMonth month : attachedMonths()) {
+                if (month.isBefore(horizon)) {
+                    rollup(month);
+                    archive(month);
+                }
+            }
+        });
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s.%s PARTITION OF %s.%s FOR VALUES FROM ('%s') TO ('%s')",
+                SCHEMA, partitionName(month), SCHEMA, TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    private void rollup(YearMonth month) {
+        int rows = jdbcTemplate.update(
+                "INSERT INTO " + SCHEMA + ".point_history_monthly " +
+                        "(user_id, month, action_type, event_count, points_earned) " +
+                        "SELECT user_id, ?, action_type, COUNT(*), SUM(points_earned) " +
+                        "FROM " + SCHEMA + "." + TABLE + " WHERE created_at >= ? AND created_at < ? " +
+                        "GROUP BY user_id, action_type " +
+                        "ON CONFLICT (user_id, month, action_type) DO UPDATE " +
+                        "SET event_count = EXCLUDED.event_count, points_earned = EXCLUDED.points_earned",
+                month.atDay(1),
+                month.atDay(1).atStartOfDay(),
+                month.plusMonths(1).atDay(1).atStartOfDay());
+        log.debug("Point history rolled up. month={}, rows={}", month, rows);
+    }
+
+    private void archive(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute(String.format("ALTER TABLE %s.%s DETACH PARTITION %s.%s", SCHEMA, TABLE, SCHEMA, partition));
+        jdbcTemplate.execute(String.format("ALTER TABLE %s.%s SET SCHEMA %s", SCHEMA, partition, ARCHIVE_SCHEMA));
+        log.info("Point history partition archived. partition={}, schema={}", partition, ARCHIVE_SCHEMA);
+    }
+
+    private List<YearMonth> attachedMonths() {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits i " +
+                        "JOIN pg_class child ON child.oid = i.inhrelid " +
+                        "JOIN pg_class parent ON parent.oid = i.inhparent " +
+                        "JOIN pg_namespace ns ON ns.oid = parent.relnamespace " +
+                        "WHERE ns.nspname = ? AND parent.relname = ?",
+                String.class, SCHEMA, TABLE);
+        return partitions.stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(m -> YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))))
+                .sorted()
+                .toList();
+    }
+
+    private YearMonth archiveHorizon(LocalDate today) {
+        return YearMonth.from(today).minusMonths(archiveAfterMonths);
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_" + PARTITION_SUFFIX.format(month.atDay(1));
+    }
+}
@@ -0,0 +1,205 @@
+package com.educonnect.gamificationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gece streak sifirlama isi; tek bir toplu UPDATE yerine user_id sirasina gore (keyset) parca parca calisir.
+ *
+ * - Her parca ayri ve kisa bir transaction'dir: en fazla batchSize satir kilitlenir, parcalar arasinda pause beklenir.
+ * - Parca lock_timeout ile calisir; processEvent'in tuttugu bir satira takilirsa beklemek yerine geri cekilip
+ *   tekrar dener (maxChunkRetries).
+ * - UPDATE version'i artirir; ayni anda reputation okuyan processEvent optimistic lock ile yeniden dener ve
+ *   sifirlanmis seriyi ezmez. Kosullar UPDATE aninda tekrar kontrol edilir, araya giris yapan kullanici sifirlanmaz.
+ * - Ilerleme streak_reset_run tablosunda (run_date basina son user_id) parca ile ayni transaction'da tutulur;
+ *   coken is acilista kaldigi yerden devam eder. Satir FOR UPDATE ile kilitlendigi icin birden fazla instance
+ *   ayni parcayi iki kez islemez.
+ * - Parca commit olduktan sonra ilgili kullanicilarin ozet onbellegi silinir ve degisiklik bildirimi yayinlanir.
+ *
+ * Metrikler: gamification.streak_reset.rows, gamification.streak_reset.chunks,
+ * gamification.streak_reset.lock_retries, gamification.streak_reset.chunk (parca suresi),
+ * gamification.streak_reset.run.rows (calisan isin su ana kadar sifirladigi satir).
+ */
+@Service
+public class StreakResetService {
+
+    private static final Logger log = LoggerFactory.getLogger(StreakResetService.class);
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+    private static final UUID MIN_USER_ID = new UUID(0L, 0L);
+
+    private record ChunkResult(int reset, boolean completed, List<UUID> userIds) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GamificationSummaryCache summaryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration lockTimeout;
+    private final int maxChunkRetries;
+
+    private final Counter resetCounter;
+    private final Counter chunkCounter;
+    private final Counter lockRetryCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong currentRunResetCount = new AtomicLong();
+
+    public StreakResetService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              GamificationSummaryCache summaryCache,
+                              @Value("${gamification.streak-reset.batch-size:500}") int batchSize,
+                              @Value("${gamification.streak-reset.pause:200ms}") Duration pause,
+                              @Value("${gamification.streak-reset.lock-timeout:2s}") Duration lockTimeout,
+                              @Value("${gamification.streak-reset.max-chunk-retries:5}") int maxChunkRetries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.summaryCache = summaryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.lockTimeout = lockTimeout;
+        this.maxChunkRetries = maxChunkRetries;
+
+        this.resetCounter = Counter.builder("gamification.streak_reset.rows").register(meterRegistry);
+        this.chunkCounter = Counter.builder("gamification.streak_reset.chunks").register(meterRegistry);
+        this.lockRetryCounter = Counter.builder("gamification.streak_reset.lock_retries").register(meterRegistry);
+        this.chunkTimer = Timer.builder("gamification.streak_reset.chunk").register(meterRegistry);
+        Gauge.builder("gamification.streak_reset.run.rows", currentRunResetCount, AtomicLong::get)
+                .description("Rows reset so far by the running streak reset job")
+                .register(meterRegistry);
+    }
+
+    /**
+     * runDate gunu icin son girisi runDate - 1'den once olan aktif serileri sifirlar.
+     * Ayni gun icin tamamlanmis bir is tekrar calistirilirsa hicbir sey yapmaz.
+     *
+     * @return bu cagrida sifirlanan satir sayisi
+     */
+    public long resetInactiveStreaks(LocalDate runDate) {
+        jdbcTemplate.update(
+                "INSERT INTO gamification_db.streak_reset_run (run_date) VALUES (?) ON CONFLICT (run_date) DO NOTHING",
+                runDate);
+        currentRunResetCount.set(0);
+
+        long total = 0;
+        int failures = 0;
+        while (true) {
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> resetChunk(runDate));
+            } catch (PessimisticLockingFailureException ex) {
+                lockRetryCounter.increment();
+                if (++failures > maxChunkRetries) {
+                    throw ex;
+                }
+                log.debug("Streak reset chunk hit a locked row, retrying. runDate={}, attempt={}", runDate, failures);
+                sleep();
+                continue;
+            }
+            failures = 0;
+            if (result.reset() > 0) {
+                summaryCache.invalidate(result.userIds());
+            }
+            total += result.reset();
+            currentRunResetCount.set(total);
+            if (result.completed()) {
+                return total;
+            }
+            sleep();
+        }
+    }
+
+    /**
+     * Bugune ait yarim kalmis bir is varsa (ornegin gece instance coktu) kaldigi yerden tamamlar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncompleteRun() {
+        LocalDate today = LocalDate.now(ZONE);
+        try {
+            List<LocalDate> incomplete = jdbcTemplate.queryForList(
+                    "SELECT run_date FROM gamification_db.streak_reset_run WHERE run_date = ? AND completed_at IS NULL",
+                    LocalDate.class, today);
+            if (!incomplete.isEmpty()) {
+                long resumed = resetInactiveStreaks(today);
+                log.info("Interrupted streak reset resumed. runDate={}, resetCount={}", today, resumed);
+            }
+        } catch (Exception ex) {
+            log.warn("Streak reset could not be resumed on startup. reason={}", ex.getMessage(), ex);
+        }
+    }
+
+    private ChunkResult resetChunk(LocalDate runDate) {
+        Timer.Sample sample = Timer.start();
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+
+        Map<String, Object> run = jdbcTemplate.queryForMap(
+                "SELECT last_user_id, completed_at FROM gamification_db.streak_reset_run WHERE run_date = ? FOR UPDATE",
+                runDate);
+        if (run.get("completed_at") != null) {
+            return new ChunkResult(0, true, List.of());
+        }
+
+        UUID after = run.get("last_user_id") != null ? (UUID) run.get("last_user_id") : MIN_USER_ID;
+        LocalDate yesterday = runDate.minusDays(1);
+        List<UUID> userIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM gamification_db.user_reputation " +
+                        "WHERE user_id > ? AND current_streak > 0 AND last_login_date < ? " +
+                        "ORDER BY user_id LIMIT ?",
+                UUID.class, after, yesterday, batchSize);
+
+        int reset = 0;
+        UUID last = after;
+        if (!userIds.isEmpty()) {
+            last = userIds.get(userIds.size() - 1);
+            reset = jdbcTemplate.update(
+                    "UPDATE gamification_db.user_reputation SET current_streak = 0, version = version + 1 " +
+                            "WHERE user_id > ? AND user_id <= ? AND current_streak > 0 AND last_login_date < ?",
+                    after, last, yesterday);
+        }
+
+        boolean completed = userIds.size() < batchSize;
+        jdbcTemplate.update(
+                "UPDATE gamification_db.streak_reset_run " +
+                        "SET last_user_id = ?, reset_count = reset_count + ?, " +
+                        "completed_at = CASE WHEN ? THEN CURRENT_TIMESTAMP END WHERE run_date = ?",
+                last, reset, completed, runDate);
+
+        chunkCounter.increment();
+        resetCounter.increment(reset);
+        sample.stop(chunkTimer);
+        return new ChunkResult(reset, completed, userIds);
+    }
+
+    private void sleep() {
+        if (pause.isZero() || pause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Streak reset interrupted", ex);
+        }
+    }
+}
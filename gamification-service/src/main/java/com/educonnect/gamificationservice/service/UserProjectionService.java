@@ -0,0 +1,181 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.client.UserServiceClient;
+import com.educonnect.gamificationservice.client.dto.UserProfileClientResponse;
+import com.educonnect.gamificationservice.model.UserProjection;
+import com.educonnect.gamificationservice.repository.UserProjectionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * user_projection tablosu: kullanici ID'sinden gosterim adina yerel izdusum.
+ *
+ * - Kayit mesajlari (auth-services) satiri yoksa ekler; profil guncellemeleri (user-service) occurredAt daha
+ *   yeniyse adi degistirir. Kayit satirlari en eski zamanla yazilir, sonraki her guncelleme onlari gecer.
+ * - Liderlik tablosu adlari yalnizca bu tablodan okur; istek yolunda user-service'e cagri yapilmaz.
+ * - Olaylar oncesinden kalan kullanicilar icin backfill calisir: puani olup satiri olmayan kullanicilar
+ *   user-service'in toplu profil endpoint'inden 200'luk parcalarla cekilir. Ilk calisma acilistan kisa sure
+ *   sonra, sonrakiler backfill-interval araliginda; eksik yoksa tek bir sorgudur.
+ */
+@Service
+public class UserProjectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserProjectionService.class);
+
+    public static final String UNKNOWN_USER_DISPLAY_NAME = "Bilinmeyen Kullanici";
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID MIN_USER_ID = new UUID(0L, 0L);
+    private static final int MAX_BATCH_SIZE = 200;
+
+    private final UserProjectionRepository userProjectionRepository;
+    private final UserServiceClient userServiceClient;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserProjectionService(UserProjectionRepository userProjectionRepository,
+                                 UserServiceClient userServiceClient,
+                                 PlatformTransactionManager transactionManager) {
+        this.userProjectionRepository = userProjectionRepository;
+        this.userServiceClient = userServiceClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Verilen her kullanici icin gosterim adini dondurur; sonuc girdi sirasini korur.
+     * Izdusumu olmayan kullanicilar "Bilinmeyen Kullanici" olarak doner.
+     */
+    public Map<UUID, String> getDisplayNames(Collection<UUID> userIds) {
+        Set<UUID> distinctIds = new LinkedHashSet<>();
+        for (UUID userId : userIds) {
+            if (userId != null) {
+                distinctIds.add(userId);
+            }
+        }
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, String> stored = new LinkedHashMap<>();
+        try {
+            for (UserProjection projection : userProjectionRepository.findAllById(distinctIds)) {
+                stored.put(projection.getUserId(), projection.getDisplayName());
+            }
+        } catch (Exception ex) {
+            log.warn("User projections could not be read for leaderboard. userCount={}", distinctIds.size(), ex);
+        }
+
+        Map<UUID, String> names = new LinkedHashMap<>();
+        for (UUID userId : distinctIds) {
+            names.put(userId, stored.getOrDefault(userId, UNKNOWN_USER_DISPLAY_NAME));
+        }
+        return names;
+    }
+
+    public void applyRegistered(UUID userId, String firstName, String lastName) {
+        String displayName = toDisplayName(firstName, lastName);
+        if (userId == null || displayName == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                userProjectionRepository.insertIfAbsent(userId, displayName, REGISTERED_AT));
+    }
+
+    public void applyProfileUpdated(UUID userId, String firstName, String lastName, OffsetDateTime occurredAt) {
+        String displayName = toDisplayName(firstName, lastName);
+        if (userId == null || displayName == null) {
+            return;
+        }
+        LocalDateTime updatedAt = occurredAt != null
+                ? occurredAt.atZoneSameInstant(ZONE).toLocalDateTime()
+                : LocalDateTime.now(ZONE);
+        transactionTemplate.executeWithoutResult(status ->
+                userProjectionRepository.upsertIfNewer(userId, displayName, updatedAt));
+    }
+
+    /**
+     * Puani olup izdusumu olmayan kullanicilari user-service'ten doldurur.
+     *
+     * @return eklenen satir sayisi
+     */
+    @Scheduled(fixedDelayString = "${gamification.user-projection.backfill-interval:PT1H}",
+            initialDelayString = "${gamification.user-projection.backfill-initial-delay:PT30S}")
+    public int backfillMissing() {
+        int inserted = 0;
+        UUID after = MIN_USER_ID;
+        try {
+            while (true) {
+                List<UUID> missingIds = userProjectionRepository.findUserIdsWithoutProjection(after, MAX_BATCH_SIZE);
+                if (missingIds.isEmpty()) {
+                    break;
+                }
+                inserted += backfillChunk(missingIds);
+                if (missingIds.size() < MAX_BATCH_SIZE) {
+                    break;
+                }
+                after = missingIds.get(missingIds.size() - 1);
+            }
+        } catch (Exception ex) {
+            log.warn("User projection backfill stopped, will retry on next run. inserted={}, reason={}",
+                    inserted, ex.getMessage());
+        }
+        if (inserted > 0) {
+            log.info("User projection backfilled. inserted={}", inserted);
+        }
+        return inserted;
+    }
+
+    private int backfillChunk(List<UUID> userIds) {
+        List<UserProfileClientResponse> profiles = userServiceClient.getProfilesByIds(userIds);
+        if (profiles == null || profiles.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime readAt = LocalDateTime.now(ZONE);
+        Integer inserted = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (UserProfileClientResponse profile : profiles) {
+                String displayName = toDisplayName(profile.getFirstName(), profile.getLastName());
+                if (profile.getId() != null && displayName != null) {
+                    count += userProjectionRepository.insertIfAbsent(profile.getId(), displayName, readAt);
+                }
+            }
+            return count;
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    static String toDisplayName(String firstName, String lastName) {
+        String first = normalizeName(firstName);
+        String last = normalizeName(lastName);
+        if (first == null && last == null) {
+            return null;
+        }
+        return String.join(" ",
+                Objects.requireNonNullElse(first, ""),
+                Objects.requireNonNullElse(last, "")
+        ).trim();
+    }
+
+    private static String normalizeName(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
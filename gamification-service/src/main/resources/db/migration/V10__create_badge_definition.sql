@@ -0,0 +1,34 @@
+-- Rozet kurallari veri olarak tutulur; yeni rozet icin kod degisikligi gerekmez, yeni satir eklenir.
+-- bit_index kullanicinin user_reputation.earned_badges bitmap'indeki yeridir ve bir kez verildikten sonra
+-- baska bir rozete atanmamalidir (pasife alinan rozetin biti bos birakilir).
+CREATE TABLE IF NOT EXISTS gamification_db.badge_definition (
+    code VARCHAR(50) PRIMARY KEY,
+    metric VARCHAR(30) NOT NULL,
+    threshold INTEGER NOT NULL,
+    bit_index INTEGER NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT uq_badge_definition_bit_index UNIQUE (bit_index),
+    CONSTRAINT ck_badge_definition_bit_index CHECK (bit_index BETWEEN 0 AND 62),
+    CONSTRAINT ck_badge_definition_metric CHECK (metric IN ('TOTAL_POINTS', 'HIGHEST_STREAK'))
+);
+
+INSERT INTO gamification_db.badge_definition (code, metric, threshold, bit_index)
+VALUES ('POINTS_EXPLORER', 'TOTAL_POINTS', 250, 0),
+       ('POINTS_MASTER', 'TOTAL_POINTS', 1000, 1),
+       ('WEEK_WARRIOR', 'HIGHEST_STREAK', 7, 2),
+       ('STREAK_LEGEND', 'HIGHEST_STREAK', 30, 3)
+ON CONFLICT (code) DO NOTHING;
+
+ALTER TABLE gamification_db.user_reputation
+    ADD COLUMN IF NOT EXISTS earned_badges BIGINT NOT NULL DEFAULT 0;
+
+-- Mevcut rozetler bitmap'e islenir; kazanilmis rozet tekrar verilmez.
+UPDATE gamification_db.user_reputation r
+SET earned_badges = earned.mask
+FROM (
+    SELECT b.user_id, bit_or(CAST(1 AS BIGINT) << d.bit_index) AS mask
+    FROM gamification_db.user_badges b
+    JOIN gamification_db.badge_definition d ON d.code = b.badge_type
+    GROUP BY b.user_id
+) earned
+WHERE r.user_id = earned.user_id;
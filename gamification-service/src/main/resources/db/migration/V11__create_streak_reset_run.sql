@@ -0,0 +1,13 @@
+-- Gece streak sifirlama isinin ilerleme kaydi; is parca parca (keyset) ilerler ve coktugunde kaldigi yerden devam eder.
+CREATE TABLE IF NOT EXISTS gamification_db.streak_reset_run (
+    run_date DATE PRIMARY KEY,
+    last_user_id UUID,
+    reset_count BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- Yalnizca aktif serisi olan satirlar taranir; tablonun geri kalani parca sorgularina girmez.
+CREATE INDEX IF NOT EXISTS idx_user_reputation_active_streak
+    ON gamification_db.user_reputation (user_id)
+    WHERE current_streak > 0;
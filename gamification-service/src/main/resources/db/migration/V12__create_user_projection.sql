@@ -0,0 +1,7 @@
+-- user-service profillerinin yerel izdusumu (liderlik tablosundaki adlar icin).
+-- Kayit ve profil guncelleme olaylariyla doldurulur; updated_at eski bir olayin yeni adi ezmesini engeller.
+CREATE TABLE IF NOT EXISTS gamification_db.user_projection (
+    user_id UUID PRIMARY KEY,
+    display_name VARCHAR(201) NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
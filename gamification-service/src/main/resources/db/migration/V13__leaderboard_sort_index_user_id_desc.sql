@@ -0,0 +1,6 @@
+-- Redis ZREVRANGE esit puanda uyeleri (userId) azalan sirada dondurur; Postgres yedek sorgulari da
+-- ayni sirayi (total_points DESC, user_id DESC) kullanir. Eski (user_id ASC) indeks bu siralamayi karsilamaz.
+DROP INDEX IF EXISTS gamification_db.idx_user_reputation_total_points_user_id;
+
+CREATE INDEX IF NOT EXISTS idx_user_reputation_total_points_user_id_desc
+    ON gamification_db.user_reputation (total_points DESC, user_id DESC);
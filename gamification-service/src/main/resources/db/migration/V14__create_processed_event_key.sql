@@ -0,0 +1,67 @@
+-- Olay idempotency'sinin hakemi: (user_id, action_type, reference_id) basina tek satir.
+-- point_history created_at ile partition'landigi icin unique key'i occurredAt'i icerir ve
+-- farkli zamanla yeniden yayinlanan ayni olayi yakalayamaz. Bu tablo partition'siz ve zamandan
+-- bagimsizdir; arsive alinan aylarin anahtarlari da burada kalir.
+CREATE TABLE IF NOT EXISTS gamification_db.processed_event_key (
+    user_id UUID NOT NULL,
+    action_type VARCHAR(40) NOT NULL,
+    reference_id VARCHAR(150) NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_processed_event_key PRIMARY KEY (user_id, action_type, reference_id)
+);
+
+INSERT INTO gamification_db.processed_event_key (user_id, action_type, reference_id, processed_at)
+SELECT user_id, action_type, reference_id, MIN(created_at)
+FROM gamification_db.point_history
+GROUP BY user_id, action_type, reference_id
+ON CONFLICT DO NOTHING;
+
+-- Arsive alinmis (DETACH edilmis) partition'larin anahtarlari.
+DO $$
+DECLARE
+    archived RECORD;
+BEGIN
+    FOR archived IN
+        SELECT tablename FROM pg_tables
+        WHERE schemaname = 'gamification_archive' AND tablename LIKE 'point\_history\_y%'
+    LOOP
+        EXECUTE format(
+            'INSERT INTO gamification_db.processed_event_key (user_id, action_type, reference_id, processed_at) '
+                || 'SELECT user_id, action_type, reference_id, MIN(created_at) FROM gamification_archive.%I '
+                || 'GROUP BY user_id, action_type, reference_id ON CONFLICT DO NOTHING',
+            archived.tablename
+        );
+    END LOOP;
+END $$;
+
+-- DEFAULT partition kaldirilir: satir tuttugu surece ayni aralik icin CREATE TABLE ... PARTITION OF
+-- basarisiz olur ve bakim transaction'i (arsivleme dahil) geri alinir. Satirlari once kendi aylik
+-- partition'larina tasinir; onceden olusturulmamis aylara dusen olaylar artik serviste reddedilir.
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    IF to_regclass('gamification_db.point_history_default') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE gamification_db.point_history DETACH PARTITION gamification_db.point_history_default;
+
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', created_at)::date FROM gamification_db.point_history_default
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS gamification_db.%I PARTITION OF gamification_db.point_history '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+            'point_history_' || to_char(month_start, '"y"YYYY"m"MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date
+        );
+    END LOOP;
+
+    INSERT INTO gamification_db.point_history (id, user_id, action_type, reference_id, points_earned, created_at)
+    SELECT id, user_id, action_type, reference_id, points_earned, created_at
+    FROM gamification_db.point_history_default;
+
+    DROP TABLE gamification_db.point_history_default;
+END $$;
@@ -0,0 +1,22 @@
+-- Kullanici/aksiyon/gun bazinda puan kazandiran olay sayaci.
+-- Gunluk limit kontrolu point_history uzerinde COUNT yerine bu tablodaki PK okumasi ile yapilir.
+CREATE TABLE IF NOT EXISTS gamification_db.daily_action_counter (
+    user_id UUID NOT NULL,
+    action_type VARCHAR(40) NOT NULL,
+    action_date DATE NOT NULL,
+    earned_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_daily_action_counter PRIMARY KEY (user_id, action_type, action_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_daily_action_counter_action_date
+    ON gamification_db.daily_action_counter (action_date);
+
+-- Saklama penceresindeki (35 gun) gunler mevcut gecmisten doldurulur.
+INSERT INTO gamification_db.daily_action_counter (user_id, action_type, action_date, earned_count)
+SELECT user_id, action_type, CAST(created_at AS DATE), COUNT(*)
+FROM gamification_db.point_history
+WHERE points_earned > 0
+  AND created_at >= CURRENT_DATE - INTERVAL '35 days'
+GROUP BY user_id, action_type, CAST(created_at AS DATE)
+ON CONFLICT (user_id, action_type, action_date)
+    DO UPDATE SET earned_count = EXCLUDED.earned_count;
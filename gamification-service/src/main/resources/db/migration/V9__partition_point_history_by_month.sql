@@ -0,0 +1,72 @@
+-- point_history aylik RANGE partition'lara bolunur.
+-- Partition anahtari created_at oldugu icin PK ve idempotency unique key'i created_at'i icerir;
+-- ayni olayin tekrar teslimi (ayni occurredAt) yine unique ihlali ile engellenir.
+
+ALTER TABLE gamification_db.point_history RENAME TO point_history_legacy;
+ALTER TABLE gamification_db.point_history_legacy DROP CONSTRAINT IF EXISTS uq_point_history_user_action_reference;
+DROP INDEX IF EXISTS gamification_db.idx_point_history_user_id;
+DROP INDEX IF EXISTS gamification_db.idx_point_history_created_at;
+DROP INDEX IF EXISTS gamification_db.idx_point_history_user_action_created_at;
+
+CREATE TABLE gamification_db.point_history (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    action_type VARCHAR(40) NOT NULL,
+    reference_id VARCHAR(150) NOT NULL,
+    points_earned INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_point_history PRIMARY KEY (id, created_at),
+    CONSTRAINT uq_point_history_user_action_reference
+        UNIQUE (user_id, action_type, reference_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_point_history_user_action_created_at
+    ON gamification_db.point_history (user_id, action_type, created_at);
+
+CREATE INDEX idx_point_history_created_at
+    ON gamification_db.point_history (created_at);
+
+-- Mevcut verinin ilk ayindan itibaren, bu ay + 3 aya kadar aylik partition'lar.
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at))::date, date_trunc('month', CURRENT_DATE)::date)
+    INTO month_start
+    FROM gamification_db.point_history_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS gamification_db.%I PARTITION OF gamification_db.point_history '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+            'point_history_' || to_char(month_start, '"y"YYYY"m"MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date
+        );
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Onceden olusturulmamis bir aya dusen (ornegin ileri tarihli) olaylar icin.
+CREATE TABLE IF NOT EXISTS gamification_db.point_history_default
+    PARTITION OF gamification_db.point_history DEFAULT;
+
+INSERT INTO gamification_db.point_history (id, user_id, action_type, reference_id, points_earned, created_at)
+SELECT id, user_id, action_type, reference_id, points_earned, created_at
+FROM gamification_db.point_history_legacy;
+
+DROP TABLE gamification_db.point_history_legacy;
+
+-- Kullanici/ay/aksiyon bazinda ozet; arsive alinan partition'larin kalici ozeti.
+CREATE TABLE IF NOT EXISTS gamification_db.point_history_monthly (
+    user_id UUID NOT NULL,
+    month DATE NOT NULL,
+    action_type VARCHAR(40) NOT NULL,
+    event_count INTEGER NOT NULL,
+    points_earned INTEGER NOT NULL,
+    CONSTRAINT pk_point_history_monthly PRIMARY KEY (user_id, month, action_type)
+);
+
+-- Ayrilan (detach) eski partition'lar bu semaya tasinir.
+CREATE SCHEMA IF NOT EXISTS gamification_archive;
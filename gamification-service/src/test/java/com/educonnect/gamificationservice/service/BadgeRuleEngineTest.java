@@ -0,0 +1,98 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.BadgeDefinition;
+import com.educonnect.gamificationservice.model.BadgeMetric;
+import com.educonnect.gamificationservice.model.UserReputation;
+import com.educonnect.gamificationservice.repository.BadgeDefinitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BadgeRuleEngineTest {
+
+    private BadgeDefinitionRepository badgeDefinitionRepository;
+    private BadgeRuleEngine badgeRuleEngine;
+
+    @BeforeEach
+    void setUp() {
+        badgeDefinitionRepository = mock(BadgeDefinitionRepository.class);
+        when(badgeDefinitionRepository.findByActiveTrue()).thenReturn(List.of(
+                badge("POINTS_MASTER", BadgeMetric.TOTAL_POINTS, 1000, 1),
+                badge("POINTS_EXPLORER", BadgeMetric.TOTAL_POINTS, 250, 0),
+                badge("WEEK_WARRIOR", BadgeMetric.HIGHEST_STREAK, 7, 2)
+        ));
+        badgeRuleEngine = new BadgeRuleEngine(badgeDefinitionRepository);
+    }
+
+    @Test
+    void shouldAwardEveryReachedThresholdOnce() {
+        UserReputation reputation = reputation(1000, 7);
+
+        assertEquals(List.of("POINTS_EXPLORER", "POINTS_MASTER", "WEEK_WARRIOR"),
+                badgeRuleEngine.awardNewBadges(reputation));
+        assertEquals(0b111L, reputation.getEarnedBadges());
+
+        assertTrue(badgeRuleEngine.awardNewBadges(reputation).isEmpty());
+        verify(badgeDefinitionRepository, times(1)).findByActiveTrue();
+    }
+
+    @Test
+    void shouldNotAwardBelowThreshold() {
+        UserReputation reputation = reputation(249, 6);
+
+        assertTrue(badgeRuleEngine.awardNewBadges(reputation).isEmpty());
+        assertEquals(0L, reputation.getEarnedBadges());
+    }
+
+    @Test
+    void shouldPickUpNewDefinitionsOnRefresh() {
+        UserReputation reputation = reputation(300, 0);
+        assertEquals(List.of("POINTS_EXPLORER"), badgeRuleEngine.awardNewBadges(reputation));
+
+        when(badgeDefinitionRepository.findByActiveTrue()).thenReturn(List.of(
+                badge("POINTS_EXPLORER", BadgeMetric.TOTAL_POINTS, 250, 0),
+                badge("POINTS_ROOKIE", BadgeMetric.TOTAL_POINTS, 100, 5)
+        ));
+        badgeRuleEngine.refresh();
+
+        assertEquals(List.of("POINTS_ROOKIE"), badgeRuleEngine.awardNewBadges(reputation));
+        assertEquals(1L | (1L << 5), reputation.getEarnedBadges());
+    }
+
+    @Test
+    void shouldSkipDefinitionWithDuplicateBitIndex() {
+        when(badgeDefinitionRepository.findByActiveTrue()).thenReturn(List.of(
+                badge("POINTS_EXPLORER", BadgeMetric.TOTAL_POINTS, 250, 0),
+                badge("STREAK_CLASH", BadgeMetric.HIGHEST_STREAK, 1, 0)
+        ));
+        badgeRuleEngine.refresh();
+
+        assertEquals(List.of("POINTS_EXPLORER"), badgeRuleEngine.awardNewBadges(reputation(250, 10)));
+    }
+
+    private static UserReputation reputation(int totalPoints, int highestStreak) {
+        UserReputation reputation = UserReputation.initialize(UUID.randomUUID());
+        reputation.setTotalPoints(totalPoints);
+        reputation.setHighestStreak(highestStreak);
+        return reputation;
+    }
+
+    private static BadgeDefinition badge(String code, BadgeMetric metric, int threshold, int bitIndex) {
+        BadgeDefinition definition = new BadgeDefinition();
+        definition.setCode(code);
+        definition.setMetric(metric);
+        definition.setThreshold(threshold);
+        definition.setBitIndex(bitIndex);
+        definition.setActive(true);
+        return definition;
+    }
+}
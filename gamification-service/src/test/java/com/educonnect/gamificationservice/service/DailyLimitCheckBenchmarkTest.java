@@ -0,0 +1,158 @@
+package com.educonnect.gamificationservice.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Gunluk limit kontrolunun gecmis buyudukce nasil davrandigini olcen benchmark.
+ *
+ * Gercek bir PostgreSQL gerektirir; varsayilan test kosusunda atlanir:
+ *
+ *   mvn -pl gamification-service test -Dtest=DailyLimitCheckBenchmarkTest \
+ *       -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/educonnect \
+ *       -Dbenchmark.jdbc.user=postgres -Dbenchmark.jdbc.password=postgres
+ *
+ * Gecici bir sema (daily_limit_bench) olusturulur ve point_history adim adim milyonlarca satira buyutulur.
+ * Her adimda eski COUNT sorgusu ile daily_action_counter PK okumasinin p50 gecikmesi olculur; sayac okumasinin
+ * gecmisle buyumedigi ve en buyuk gecmiste COUNT sorgusundan yavas olmadigi dogrulanir. Sema sonunda silinir.
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class DailyLimitCheckBenchmarkTest {
+
+    private static final String SCHEMA = "daily_limit_bench";
+    private static final int USERS = 20_000;
+    private static final long[] HISTORY_SIZES = {100_000, 1_000_000, 3_000_000};
+    private static final int SAMPLES = 2_000;
+
+    private static Connection connection;
+    private static UUID[] userIds;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres")
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("CREATE TABLE " + SCHEMA + ".point_history (" +
+                    "id UUID PRIMARY KEY DEFAULT gen_random_uuid(), user_id UUID NOT NULL, " +
+                    "action_type VARCHAR(40) NOT NULL, reference_id VARCHAR(150) NOT NULL, " +
+                    "points_earned INTEGER NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX ON " + SCHEMA + ".point_history (user_id, action_type, created_at)");
+            statement.execute("CREATE TABLE " + SCHEMA + ".daily_action_counter (" +
+                    "user_id UUID NOT NULL, action_type VARCHAR(40) NOT NULL, action_date DATE NOT NULL, " +
+                    "earned_count INTEGER NOT NULL, PRIMARY KEY (user_id, action_type, action_date))");
+
+            userIds = new UUID[USERS];
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT md5('user-' || g)::uuid FROM generate_series(0, " + (USERS - 1) + ") AS g ORDER BY g")) {
+                for (int i = 0; resultSet.next(); i++) {
+                    userIds[i] = resultSet.getObject(1, UUID.class);
+                }
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void counterLookupStaysFlatWhileHistoryGrows() throws SQLException {
+        long loaded = 0;
+        double firstCounterP50 = 0;
+        double lastCounterP50 = 0;
+        double lastCountP50 = 0;
+
+        for (long target : HISTORY_SIZES) {
+            grow(loaded, target);
+            loaded = target;
+
+            double[] countLatencies = measure(
+                    "SELECT COUNT(*) FROM " + SCHEMA + ".point_history " +
+                            "WHERE user_id = ? AND action_type = 'POST_PUBLISHED' " +
+                            "AND created_at BETWEEN CURRENT_DATE AND CURRENT_DATE + INTERVAL '1 day' " +
+                            "AND points_earned > 0");
+            double[] counterLatencies = measure(
+                    "SELECT earned_count FROM " + SCHEMA + ".daily_action_counter " +
+                            "WHERE user_id = ? AND action_type = 'POST_PUBLISHED' AND action_date = CURRENT_DATE");
+
+            if (firstCounterP50 == 0) {
+                firstCounterP50 = percentile(counterLatencies, 0.50);
+            }
+            lastCounterP50 = percentile(counterLatencies, 0.50);
+            lastCountP50 = percentile(countLatencies, 0.50);
+        }
+
+        assertTrue(lastCounterP50 < Math.max(firstCounterP50 * 3, firstCounterP50 + 200),
+                "counter lookup should not grow with history size");
+        assertTrue(lastCounterP50 <= lastCountP50,
+                "counter lookup should not be slower than counting point_history");
+    }
+
+    /**
+     * Gecmisi USERS kullanici arasinda, son 400 gune yayilmis satirlarla buyutur ve sayaclari yeniden hesaplar.
+     */
+    private void grow(long from, long to) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO " + SCHEMA + ".point_history (user_id, action_type, reference_id, points_earned, created_at) " +
+                    "SELECT md5('user-' || (g % " + USERS + "))::uuid, " +
+                    "(ARRAY['POST_PUBLISHED','ANSWER_ACCEPTED','DAILY_LOGIN','VALID_REPORT'])[1 + g % 4], " +
+                    "'ref-' || g, 10, CURRENT_DATE - ((g / " + USERS + ") % 400) * INTERVAL '1 day' " +
+                    "FROM generate_series(" + from + ", " + (to - 1) + ") AS g");
+            statement.execute("TRUNCATE " + SCHEMA + ".daily_action_counter");
+            statement.execute("INSERT INTO " + SCHEMA + ".daily_action_counter " +
+                    "SELECT user_id, action_type, CAST(created_at AS DATE), COUNT(*) FROM " + SCHEMA + ".point_history " +
+                    "WHERE points_earned > 0 AND created_at >= CURRENT_DATE - INTERVAL '35 days' " +
+                    "GROUP BY user_id, action_type, CAST(created_at AS DATE)");
+            statement.execute("ANALYZE " + SCHEMA + ".point_history");
+            statement.execute("ANALYZE " + SCHEMA + ".daily_action_counter");
+        }
+    }
+
+    private double[] measure(String sql) throws SQLException {
+        Random random = new Random(42);
+        double[] latencies = new double[SAMPLES];
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = -SAMPLES / 10; i < SAMPLES; i++) {
+                statement.setObject(1, userIds[random.nextInt(USERS)]);
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                }
+                if (i >= 0) {
+                    latencies[i] = (System.nanoTime() - start) / 1_000.0;
+                }
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.floor(percentile * sorted.length))];
+    }
+}
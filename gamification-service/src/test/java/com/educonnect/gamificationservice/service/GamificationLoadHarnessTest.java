@@ -0,0 +1,313 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.dto.event.GamificationEvent;
+import com.educonnect.gamificationservice.model.ActionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * processEvent / processEvents icin yuk testi: sentetik olay akisini gercek PostgreSQL ve Redis uzerinde
+ * tekrar oynatir ve olay basina maliyeti raporlar.
+ *
+ * Docker gerektirir; varsayilan test kosusunda atlanir:
+ *
+ *   mvn -pl gamification-service test -Dtest=GamificationLoadHarnessTest -Dloadtest.enabled=true \
+ *       -Dloadtest.events=20000 -Dloadtest.users=5000 -Dloadtest.skew=1.1 -Dloadtest.threads=8 \
+ *       -Dloadtest.duplicate-ratio=0.05 -Dloadtest.batch-size=100
+ *
+ * - Kullanicilar Zipf dagilimiyla secilir (loadtest.skew; 0 esit dagilim, buyudukce az sayida sicak kullanici
+ *   olaylarin cogunu alir ve optimistic lock cakismalari artar).
+ * - Olaylarin loadtest.duplicate-ratio kadari daha once gonderilmis bir olayin tekraridir (idempotency yolu).
+ * - RabbitMQ yerine olaylar worker thread'lerden dogrudan servise verilir; listener baslatilmaz ve ozet bildirimi
+ *   icin RabbitTemplate mock'tur.
+ * - Rapor: olay/sn, cagri basina p50/p99 gecikme, optimistic retry ve batch fallback sayilari, hatali olaylar ve
+ *   olay basina JDBC statement sayisi (executeBatch tek statement sayilir; arka plan isleri de dahildir).
+ *
+ * Sonunda her olayin en fazla bir kez yazildigi ve puan toplamlarinin point_history ile tuttugu kontrol edilir;
+ * esanli yukte kayip guncelleme olmamalidir.
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.cloud.config.enabled=false",
+                "spring.cloud.discovery.enabled=false",
+                "eureka.client.enabled=false",
+                "spring.jpa.hibernate.ddl-auto=validate",
+                "gamification.listener.auto-startup=false",
+                "logging.level.com.educonnect.gamificationservice=WARN"
+        }
+)
+class GamificationLoadHarnessTest {
+
+    private static final int EVENTS = Integer.getInteger("loadtest.events", 20_000);
+    private static final int USERS = Integer.getInteger("loadtest.users", 5_000);
+    private static final double SKEW = Double.parseDouble(System.getProperty("loadtest.skew", "1.1"));
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 8);
+    private static final double DUPLICATE_RATIO =
+            Double.parseDouble(System.getProperty("loadtest.duplicate-ratio", "0.05"));
+    private static final int BATCH_SIZE = Integer.getInteger("loadtest.batch-size", 100);
+
+    private static final ActionType[] ACTION_TYPES = {
+            ActionType.POST_PUBLISHED, ActionType.ANSWER_ACCEPTED, ActionType.VALID_REPORT, ActionType.DAILY_LOGIN
+    };
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private GamificationService gamificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void singleEventReplay() throws Exception {
+        String run = "single-" + UUID.randomUUID();
+        List<GamificationEvent> events = generate(run);
+        List<List<GamificationEvent>> calls = events.stream().map(List::of).toList();
+
+        report("single", run, events, replay(calls, call -> gamificationService.processEvent(call.get(0))));
+    }
+
+    @Test
+    void batchReplay() throws Exception {
+        String run = "batch-" + UUID.randomUUID();
+        List<GamificationEvent> events = generate(run);
+        List<List<GamificationEvent>> calls = new ArrayList<>();
+        for (int i = 0; i < events.size(); i += BATCH_SIZE) {
+            calls.add(events.subList(i, Math.min(events.size(), i + BATCH_SIZE)));
+        }
+
+        report("batch", run, events, replay(calls, gamificationService::processEvents));
+    }
+
+    private interface Call {
+        void apply(List<GamificationEvent> events);
+    }
+
+    private record Result(long elapsedNanos, double[] latenciesMicros, int failedEvents,
+                          double retries, double fallbacks, long statements) {
+    }
+
+    /**
+     * Cagrilari THREADS worker'a paylastirir; her worker siradaki cagriyi alir.
+     */
+    private Result replay(List<List<GamificationEvent>> calls, Call call) throws Exception {
+        double retriesBefore = retries();
+        double fallbacksBefore = fallbacks();
+        STATEMENTS.set(0);
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failedEvents = new AtomicInteger();
+        double[] latencies = new double[calls.size()];
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < calls.size(); i = next.getAndIncrement()) {
+                        long callStart = System.nanoTime();
+                        try {
+                            call.apply(calls.get(i));
+                        } catch (Exception ex) {
+                            failedEvents.addAndGet(calls.get(i).size());
+                        }
+                        latencies[i] = (System.nanoTime() - callStart) / 1_000.0;
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(elapsed, latencies, failedEvents.get(),
+                retries() - retriesBefore, fallbacks() - fallbacksBefore, STATEMENTS.get());
+    }
+
+    private void report(String mode, String run, List<GamificationEvent> events, Result result) {
+        Set<String> distinctKeys = new HashSet<>();
+        events.forEach(event -> distinctKeys.add(event.getUserId() + "|" + event.getActionType() + "|" + event.getReferenceId()));
+
+        System.out.printf("%-7s | %8s %6s %5s %7s | %10s | %12s %12s | %8s %9s %7s | %10s%n",
+                "mode", "events", "users", "skew", "threads", "events/s", "call p50 us", "call p99 us",
+                "retries", "fallbacks", "failed", "stmt/event");
+        System.out.printf("%-7s | %,8d %,6d %5.2f %7d | %,10.0f | %,12.1f %,12.1f | %,8.0f %,9.0f %,7d | %10.2f%n",
+                mode, events.size(), USERS, SKEW, THREADS,
+                events.size() / (result.elapsedNanos() / 1_000_000_000.0),
+                percentile(result.latenciesMicros(), 0.50), percentile(result.latenciesMicros(), 0.99),
+                result.retries(), result.fallbacks(), result.failedEvents(),
+                (double) result.statements() / events.size());
+
+        Long storedEvents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM gamification_db.point_history WHERE reference_id LIKE ?",
+                Long.class, run + "-%");
+        Long historyPoints = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(points_earned), 0) FROM gamification_db.point_history WHERE reference_id LIKE ?",
+                Long.class, run + "-%");
+        Long reputationPoints = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(total_points), 0) FROM gamification_db.user_reputation WHERE user_id IN " +
+                        "(SELECT DISTINCT user_id FROM gamification_db.point_history WHERE reference_id LIKE ?)",
+                Long.class, run + "-%");
+
+        assertTrue(storedEvents <= distinctKeys.size() && storedEvents >= distinctKeys.size() - result.failedEvents(),
+                "every distinct event should be stored at most once");
+        assertEquals(historyPoints, reputationPoints, "no lost updates on user_reputation under concurrency");
+    }
+
+    /**
+     * Zipf dagilimli kullanicilar icin olay akisi; tekrarlar en az bir batch/worker turu onceki olaylardan secilir.
+     */
+    private static List<GamificationEvent> generate(String run) {
+        Random random = new Random(42);
+        UUID[] userIds = new UUID[USERS];
+        double[] cumulative = new double[USERS];
+        double total = 0;
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = UUID.nameUUIDFromBytes((run + "-user-" + i).getBytes());
+            total += 1.0 / Math.pow(i + 1, SKEW);
+            cumulative[i] = total;
+        }
+
+        int replayDistance = THREADS * BATCH_SIZE;
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<GamificationEvent> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            if (i > replayDistance && random.nextDouble() < DUPLICATE_RATIO) {
+                GamificationEvent original = events.get(random.nextInt(i - replayDistance));
+                events.add(new GamificationEvent(original.getUserId(), original.getActionType(),
+                        original.getReferenceId(), original.getOccurredAt()));
+                continue;
+            }
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            UUID userId = userIds[index >= 0 ? index : Math.min(USERS - 1, -index - 1)];
+            events.add(new GamificationEvent(userId, ACTION_TYPES[random.nextInt(ACTION_TYPES.length)],
+                    run + "-" + i, now.minusSeconds(random.nextInt(3_600))));
+        }
+        return events;
+    }
+
+    private double retries() {
+        return meterRegistry.find("gamification.events.optimistic_retries").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+
+    private double fallbacks() {
+        return meterRegistry.counter("gamification.events.batch_fallbacks").count();
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.floor(percentile * sorted.length))];
+    }
+
+    /**
+     * DataSource'u, calistirilan her JDBC statement'i sayan bir proxy ile sarar.
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? countingProxy(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+
+        private static <T> T countingProxy(T target, Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getTargetException();
+                }
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    STATEMENTS.incrementAndGet();
+                }
+                if (result instanceof CallableStatement callable) {
+                    return countingProxy(callable, CallableStatement.class);
+                }
+                if (result instanceof PreparedStatement prepared) {
+                    return countingProxy(prepared, PreparedStatement.class);
+                }
+                if (result instanceof Statement statement && target instanceof Connection) {
+                    return countingProxy(statement, Statement.class);
+                }
+                if (result instanceof Connection connection) {
+                    return countingProxy(connection, Connection.class);
+                }
+                return result;
+            }));
+        }
+    }
+}
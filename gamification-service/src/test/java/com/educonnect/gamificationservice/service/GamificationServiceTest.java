@@ -1,37 +1,57 @@
 package com.educonnect.gamificationservice.service;
 
 import com.educonnect.gamificationservice.client.UserServiceClient;
-import com.educonnect.gamificationservice.client.dto.UserProfileClientResponse;
 import com.educonnect.gamificationservice.dto.event.GamificationEvent;
+import com.educonnect.gamificationservice.dto.response.GamificationSummaryResponse;
 import com.educonnect.gamificationservice.model.ActionType;
+import com.educonnect.gamificationservice.model.BadgeDefinition;
+import com.educonnect.gamificationservice.model.BadgeMetric;
+import com.educonnect.gamificationservice.model.DailyActionCounter;
+import com.educonnect.gamificationservice.model.LeaderboardPeriod;
 import com.educonnect.gamificationservice.model.PointHistory;
+import com.educonnect.gamificationservice.model.ProcessedEventKey;
+import com.educonnect.gamificationservice.model.UserProjection;
 import com.educonnect.gamificationservice.model.UserReputation;
+import com.educonnect.gamificationservice.repository.BadgeDefinitionRepository;
+import com.educonnect.gamificationservice.repository.DailyActionCounterRepository;
 import com.educonnect.gamificationservice.repository.PointHistoryRepository;
+import com.educonnect.gamificationservice.repository.ProcessedEventKeyRepository;
 import com.educonnect.gamificationservice.repository.UserBadgeRepository;
+import com.educonnect.gamificationservice.repository.UserProjectionRepository;
 import com.educonnect.gamificationservice.repository.UserReputationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.SimpleTransactionStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,23 +60,68 @@ class GamificationServiceTest {
 
     private UserReputationRepository userReputationRepository;
     private PointHistoryRepository pointHistoryRepository;
+    private ProcessedEventKeyRepository processedEventKeyRepository;
     private UserServiceClient userServiceClient;
+    private UserProjectionRepository userProjectionRepository;
     private UserBadgeRepository userBadgeRepository;
+    private LeaderboardService leaderboardService;
+    private DailyActionCounterRepository dailyActionCounterRepository;
+    private GamificationSummaryCache summaryCache;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyBloomFilter idempotencyFilter;
     private GamificationService gamificationService;
 
     @BeforeEach
     void setUp() {
         userReputationRepository = mock(UserReputationRepository.class);
         pointHistoryRepository = mock(PointHistoryRepository.class);
+        processedEventKeyRepository = mock(ProcessedEventKeyRepository.class);
         userServiceClient = mock(UserServiceClient.class);
+        userProjectionRepository = mock(UserProjectionRepository.class);
         userBadgeRepository = mock(UserBadgeRepository.class);
+        leaderboardService = mock(LeaderboardService.class);
+        dailyActionCounterRepository = mock(DailyActionCounterRepository.class);
+        summaryCache = mock(GamificationSummaryCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(userReputationRepository.saveAndFlush(any(UserReputation.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(processedEventKeyRepository.claim(any(), anyString(), anyString())).thenReturn(1);
+        BadgeDefinitionRepository badgeDefinitionRepository = mock(BadgeDefinitionRepository.class);
         when(userBadgeRepository.findByUserIdOrderByEarnedAtAsc(any())).thenReturn(List.of());
+        when(badgeDefinitionRepository.findByActiveTrue()).thenReturn(List.of(
+                badge("POINTS_EXPLORER", BadgeMetric.TOTAL_POINTS, 250, 0),
+                badge("POINTS_MASTER", BadgeMetric.TOTAL_POINTS, 1000, 1),
+                badge("WEEK_WARRIOR", BadgeMetric.HIGHEST_STREAK, 7, 2),
+                badge("STREAK_LEGEND", BadgeMetric.HIGHEST_STREAK, 30, 3)
+        ));
+        PointHistoryPartitionService pointHistoryPartitionService = new PointHistoryPartitionService(
+                mock(JdbcTemplate.class),
+                new NoOpTransactionManager(),
+                12,
+                3
+        );
+        idempotencyFilter = new IdempotencyBloomFilter(mock(JdbcTemplate.class), new NoOpTransactionManager(),
+                meterRegistry, true, 10_000, 0.01, Duration.ofDays(30));
         gamificationService = new GamificationService(
                 userReputationRepository,
                 pointHistoryRepository,
-                userServiceClient,
+                processedEventKeyRepository,
+                new UserProjectionService(userProjectionRepository, userServiceClient, new NoOpTransactionManager()),
                 new NoOpTransactionManager(),
-                userBadgeRepository
+                userBadgeRepository,
+                leaderboardService,
+                new DailyActionCounterService(
+                        dailyActionCounterRepository,
+                        pointHistoryRepository,
+                        new NoOpTransactionManager(),
+                        35,
+                        2
+                ),
+                pointHistoryPartitionService,
+                new BadgeRuleEngine(badgeDefinitionRepository),
+                summaryCache,
+                idempotencyFilter,
+                meterRegistry
         );
     }
 
@@ -65,13 +130,83 @@ class GamificationServiceTest {
         UUID userId = UUID.randomUUID();
         GamificationEvent event = new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-1", OffsetDateTime.now());
 
-        when(pointHistoryRepository.existsByUserIdAndActionTypeAndReferenceId(userId, ActionType.POST_PUBLISHED, "post-1"))
-                .thenReturn(true);
+        when(processedEventKeyRepository.claim(userId, "POST_PUBLISHED", "post-1")).thenReturn(0);
 
         gamificationService.processEvent(event);
 
         verify(userReputationRepository, never()).saveAndFlush(any(UserReputation.class));
         verify(pointHistoryRepository, never()).saveAndFlush(any(PointHistory.class));
+        verify(leaderboardService, never()).recordPoints(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void shouldNotRewardOneTimeEventReemittedWithNewTimestamp() {
+        UUID userId = UUID.randomUUID();
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(UserReputation.initialize(userId)));
+        when(processedEventKeyRepository.claim(userId, "PROFILE_COMPLETED", "PROFILE_COMPLETED:" + userId))
+                .thenReturn(1, 0);
+
+        gamificationService.processEvent(new GamificationEvent(userId, ActionType.PROFILE_COMPLETED,
+                "PROFILE_COMPLETED:" + userId, OffsetDateTime.now().minusDays(45)));
+        gamificationService.processEvent(new GamificationEvent(userId, ActionType.PROFILE_COMPLETED,
+                "PROFILE_COMPLETED:" + userId, null));
+
+        verify(pointHistoryRepository, times(1)).saveAndFlush(any(PointHistory.class));
+        verify(userReputationRepository, times(1)).saveAndFlush(any(UserReputation.class));
+    }
+
+    @Test
+    void shouldSkipBatchIdempotencyQueryWhenFilterRulesOutKey() {
+        idempotencyFilter.loadOnStartup();
+        UUID userId = UUID.randomUUID();
+        when(userReputationRepository.findAllById(any())).thenReturn(List.of());
+
+        gamificationService.processEvents(List.of(
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-1", OffsetDateTime.now())));
+
+        verify(processedEventKeyRepository, never()).findByUserIdInAndReferenceIdIn(any(), any());
+        verify(processedEventKeyRepository).saveAll(any());
+        assertEquals(1.0, meterRegistry.counter("gamification.idempotency_filter.skipped_queries").count());
+    }
+
+    @Test
+    void shouldTreatUniqueConstraintViolationAsDuplicate() {
+        UUID userId = UUID.randomUUID();
+        GamificationEvent event = new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-1", OffsetDateTime.now());
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.empty());
+        when(processedEventKeyRepository.existsByUserIdAndActionTypeAndReferenceId(
+                userId, ActionType.POST_PUBLISHED, "post-1")).thenReturn(true);
+        when(pointHistoryRepository.saveAndFlush(any(PointHistory.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_point_history_user_action_reference"));
+
+        gamificationService.processEvent(event);
+
+        verify(pointHistoryRepository, times(1)).saveAndFlush(any(PointHistory.class));
+    }
+
+    @Test
+    void shouldSkipEventOlderThanArchivedPartitions() {
+        UUID userId = UUID.randomUUID();
+        GamificationEvent event = new GamificationEvent(
+                userId, ActionType.POST_PUBLISHED, "post-old", OffsetDateTime.now().minusMonths(14));
+
+        gamificationService.processEvent(event);
+
+        verify(processedEventKeyRepository, never()).claim(any(), anyString(), anyString());
+        verify(userReputationRepository, never()).saveAndFlush(any(UserReputation.class));
+        verify(pointHistoryRepository, never()).saveAndFlush(any(PointHistory.class));
+    }
+
+    @Test
+    void shouldSkipEventBeyondPrecreatedPartitions() {
+        UUID userId = UUID.randomUUID();
+        GamificationEvent event = new GamificationEvent(
+                userId, ActionType.POST_PUBLISHED, "post-future", OffsetDateTime.now().plusMonths(6));
+
+        gamificationService.processEvent(event);
+
+        verify(processedEventKeyRepository, never()).claim(any(), anyString(), anyString());
+        verify(pointHistoryRepository, never()).saveAndFlush(any(PointHistory.class));
     }
 
     @Test
@@ -82,8 +217,6 @@ class GamificationServiceTest {
 
         GamificationEvent event = new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-42", OffsetDateTime.now());
 
-        when(pointHistoryRepository.existsByUserIdAndActionTypeAndReferenceId(userId, ActionType.POST_PUBLISHED, "post-42"))
-                .thenReturn(false);
         when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
 
         gamificationService.processEvent(event);
@@ -95,6 +228,8 @@ class GamificationServiceTest {
         ArgumentCaptor<PointHistory> historyCaptor = ArgumentCaptor.forClass(PointHistory.class);
         verify(pointHistoryRepository).saveAndFlush(historyCaptor.capture());
         assertEquals(10, historyCaptor.getValue().getPointsEarned());
+
+        verify(leaderboardService).recordPoints(eq(userId), eq(30), eq(10), any(LocalDate.class));
     }
 
     @Test
@@ -112,8 +247,6 @@ class GamificationServiceTest {
                 OffsetDateTime.of(2026, 3, 24, 8, 30, 0, 0, ZoneOffset.UTC)
         );
 
-        when(pointHistoryRepository.existsByUserIdAndActionTypeAndReferenceId(eq(userId), eq(ActionType.DAILY_LOGIN), anyString()))
-                .thenReturn(false);
         when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
 
         gamificationService.processEvent(event);
@@ -142,8 +275,34 @@ class GamificationServiceTest {
                 OffsetDateTime.now()
         );
 
-        when(pointHistoryRepository.existsByUserIdAndActionTypeAndReferenceId(userId, ActionType.POST_PUBLISHED, "post-999"))
-                .thenReturn(false);
+        when(dailyActionCounterRepository.findEarnedCount(eq(userId), eq(ActionType.POST_PUBLISHED), any()))
+                .thenReturn(Optional.of(3));
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
+
+        gamificationService.processEvent(event);
+
+        ArgumentCaptor<UserReputation> reputationCaptor = ArgumentCaptor.forClass(UserReputation.class);
+        verify(userReputationRepository).saveAndFlush(reputationCaptor.capture());
+        assertEquals(120, reputationCaptor.getValue().getTotalPoints());
+
+        ArgumentCaptor<PointHistory> historyCaptor = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).saveAndFlush(historyCaptor.capture());
+        assertEquals(0, historyCaptor.getValue().getPointsEarned());
+        verify(dailyActionCounterRepository, never()).increment(any(), anyString(), any(), anyInt());
+        verify(pointHistoryRepository, never()).countByUserIdAndActionTypeAndCreatedAtBetweenAndPointsEarnedGreaterThan(
+                any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldFallBackToHistoryCountForDaysOutsideCounterRetention() {
+        UUID userId = UUID.randomUUID();
+        GamificationEvent event = new GamificationEvent(
+                userId,
+                ActionType.POST_PUBLISHED,
+                "post-late",
+                OffsetDateTime.now().minusDays(60)
+        );
+
         when(pointHistoryRepository.countByUserIdAndActionTypeAndCreatedAtBetweenAndPointsEarnedGreaterThan(
                 eq(userId),
                 eq(ActionType.POST_PUBLISHED),
@@ -151,17 +310,14 @@ class GamificationServiceTest {
                 any(),
                 eq(0)
         )).thenReturn(3L);
-        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(UserReputation.initialize(userId)));
 
         gamificationService.processEvent(event);
 
-        ArgumentCaptor<UserReputation> reputationCaptor = ArgumentCaptor.forClass(UserReputation.class);
-        verify(userReputationRepository).saveAndFlush(reputationCaptor.capture());
-        assertEquals(120, reputationCaptor.getValue().getTotalPoints());
-
         ArgumentCaptor<PointHistory> historyCaptor = ArgumentCaptor.forClass(PointHistory.class);
         verify(pointHistoryRepository).saveAndFlush(historyCaptor.capture());
         assertEquals(0, historyCaptor.getValue().getPointsEarned());
+        verify(dailyActionCounterRepository, never()).findEarnedCount(any(), any(), any());
     }
 
     @Test
@@ -177,18 +333,8 @@ class GamificationServiceTest {
                 OffsetDateTime.now()
         );
 
-        when(pointHistoryRepository.existsByUserIdAndActionTypeAndReferenceId(
-                userId,
-                ActionType.PROFILE_COMPLETED,
-                "PROFILE_COMPLETED:" + userId
-        )).thenReturn(false);
-        when(pointHistoryRepository.countByUserIdAndActionTypeAndCreatedAtBetweenAndPointsEarnedGreaterThan(
-                eq(userId),
-                eq(ActionType.PROFILE_COMPLETED),
-                any(),
-                any(),
-                eq(0)
-        )).thenReturn(0L);
+        when(dailyActionCounterRepository.findEarnedCount(eq(userId), eq(ActionType.PROFILE_COMPLETED), any()))
+                .thenReturn(Optional.of(0));
         when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
 
         gamificationService.processEvent(event);
@@ -200,6 +346,151 @@ class GamificationServiceTest {
         ArgumentCaptor<PointHistory> historyCaptor = ArgumentCaptor.forClass(PointHistory.class);
         verify(pointHistoryRepository).saveAndFlush(historyCaptor.capture());
         assertEquals(20, historyCaptor.getValue().getPointsEarned());
+        verify(dailyActionCounterRepository).increment(eq(userId), eq("PROFILE_COMPLETED"), any(), eq(1));
+    }
+
+    @Test
+    void shouldAwardBadgeOnlyWhenThresholdIsCrossed() {
+        UUID userId = UUID.randomUUID();
+        UserReputation reputation = UserReputation.initialize(userId);
+        reputation.setTotalPoints(245);
+        reputation.setHighestStreak(8);
+        reputation.setEarnedBadges(1L << 2);
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
+
+        gamificationService.processEvent(
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-250", OffsetDateTime.now()));
+
+        verify(userBadgeRepository).insertIfAbsent(eq(userId), eq("POINTS_EXPLORER"), any());
+        verify(userBadgeRepository, never()).insertIfAbsent(eq(userId), eq("WEEK_WARRIOR"), any());
+        assertEquals((1L << 2) | 1L, reputation.getEarnedBadges());
+
+        gamificationService.processEvent(
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-260", OffsetDateTime.now()));
+
+        verify(userBadgeRepository, times(1)).insertIfAbsent(any(), anyString(), any());
+    }
+
+    @Test
+    void shouldServeSummaryFromCacheWithoutDatabase() {
+        UUID userId = UUID.randomUUID();
+        GamificationSummaryResponse cached = new GamificationSummaryResponse(120, 2, 5, List.of("WEEK_WARRIOR"), 7L);
+        when(summaryCache.get(userId)).thenReturn(cached);
+
+        assertEquals(cached, gamificationService.getUserSummary(userId));
+        verify(userReputationRepository, never()).findById(any());
+        verify(userBadgeRepository, never()).findByUserIdOrderByEarnedAtAsc(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteThroughSummaryAppendingNewBadgesToCachedList() {
+        UUID userId = UUID.randomUUID();
+        UserReputation reputation = UserReputation.initialize(userId);
+        reputation.setTotalPoints(245);
+        reputation.setVersion(4L);
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
+        when(summaryCache.getAll(any())).thenReturn(Map.of(userId,
+                new GamificationSummaryResponse(245, 0, 0, List.of("FIRST_STEP"), 4L)));
+
+        gamificationService.processEvent(
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-cache", OffsetDateTime.now()));
+
+        ArgumentCaptor<Map<UUID, GamificationSummaryResponse>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(summaryCache).writeThrough(captor.capture());
+        GamificationSummaryResponse summary = captor.getValue().get(userId);
+        assertEquals(255, summary.totalPoints());
+        assertEquals(List.of("FIRST_STEP", "POINTS_EXPLORER"), summary.badges());
+        verify(userBadgeRepository, never()).findByUserIdInOrderByEarnedAtAsc(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldProcessBatchWithSetBasedLookupsAndSingleFlush() {
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        UserReputation firstReputation = UserReputation.initialize(firstUser);
+        firstReputation.setTotalPoints(100);
+
+        when(processedEventKeyRepository.findByUserIdInAndReferenceIdIn(any(), any())).thenReturn(List.of(
+                new ProcessedEventKey(firstUser, ActionType.POST_PUBLISHED, "post-1", LocalDateTime.now())));
+        when(userReputationRepository.findAllById(any())).thenReturn(List.of(firstReputation));
+
+        gamificationService.processEvents(List.of(
+                new GamificationEvent(firstUser, ActionType.POST_PUBLISHED, "post-1", now),
+                new GamificationEvent(secondUser, ActionType.ANSWER_ACCEPTED, "answer-1", now),
+                new GamificationEvent(firstUser, ActionType.POST_PUBLISHED, "post-2", now),
+                new GamificationEvent(firstUser, ActionType.POST_PUBLISHED, "post-2", now)
+        ));
+
+        ArgumentCaptor<List<UserReputation>> reputationCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userReputationRepository).saveAll(reputationCaptor.capture());
+        assertEquals(2, reputationCaptor.getValue().size());
+        assertEquals(110, reputationCaptor.getValue().get(0).getTotalPoints());
+        assertEquals(20, reputationCaptor.getValue().get(1).getTotalPoints());
+
+        ArgumentCaptor<List<PointHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryRepository).saveAll(historyCaptor.capture());
+        assertEquals(List.of("post-2", "answer-1"),
+                historyCaptor.getValue().stream().map(PointHistory::getReferenceId).toList());
+
+        ArgumentCaptor<List<ProcessedEventKey>> keyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(processedEventKeyRepository).saveAll(keyCaptor.capture());
+        assertEquals(List.of("post-2", "answer-1"),
+                keyCaptor.getValue().stream().map(ProcessedEventKey::getReferenceId).toList());
+
+        verify(userReputationRepository).flush();
+        verify(userReputationRepository, never()).saveAndFlush(any(UserReputation.class));
+        verify(processedEventKeyRepository, never()).claim(any(), anyString(), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyDailyLimitAcrossEventsInSameBatch() {
+        UUID userId = UUID.randomUUID();
+        OffsetDateTime occurredAt = OffsetDateTime.now(ZoneId.of("Europe/Istanbul"));
+
+        DailyActionCounter earnedToday = new DailyActionCounter();
+        earnedToday.setUserId(userId);
+        earnedToday.setActionType(ActionType.POST_PUBLISHED);
+        earnedToday.setActionDate(occurredAt.toLocalDate());
+        earnedToday.setEarnedCount(1);
+        when(dailyActionCounterRepository.findByUserIdInAndActionDateBetween(any(), any(), any()))
+                .thenReturn(List.of(earnedToday));
+        when(userReputationRepository.findAllById(any())).thenReturn(List.of());
+
+        gamificationService.processEvents(List.of(
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-1", occurredAt),
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-2", occurredAt),
+                new GamificationEvent(userId, ActionType.POST_PUBLISHED, "post-3", occurredAt)
+        ));
+
+        ArgumentCaptor<List<PointHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryRepository).saveAll(historyCaptor.capture());
+        assertEquals(List.of(10, 10, 0),
+                historyCaptor.getValue().stream().map(PointHistory::getPointsEarned).toList());
+        verify(dailyActionCounterRepository)
+                .increment(userId, "POST_PUBLISHED", occurredAt.toLocalDate(), 2);
+        verify(pointHistoryRepository, never()).countEarnedPerDay(any(), any(), any());
+    }
+
+    @Test
+    void shouldRetryBatchOnOptimisticLockingFailure() {
+        UUID userId = UUID.randomUUID();
+        when(userReputationRepository.findAllById(any())).thenReturn(List.of());
+        doThrow(new ObjectOptimisticLockingFailureException(UserReputation.class, userId))
+                .doNothing()
+                .when(userReputationRepository).flush();
+
+        gamificationService.processEvents(List.of(
+                new GamificationEvent(userId, ActionType.VALID_REPORT, "report-1", OffsetDateTime.now())
+        ));
+
+        verify(userReputationRepository, times(2)).flush();
+        verify(pointHistoryRepository, never()).saveAndFlush(any(PointHistory.class));
+        assertEquals(1.0, meterRegistry.counter("gamification.events.optimistic_retries", "mode", "batch").count());
     }
 
     @Test
@@ -215,18 +506,16 @@ class GamificationServiceTest {
         second.setTotalPoints(180);
         second.setCurrentStreak(5);
 
-        when(userReputationRepository.findByOrderByTotalPointsDescUserIdAsc(any()))
-                .thenReturn(List.of(first, second));
+        when(leaderboardService.top(LeaderboardPeriod.ALL_TIME, 2)).thenReturn(List.of(
+                new LeaderboardService.RankedUser(firstId, 1, 250),
+                new LeaderboardService.RankedUser(secondId, 2, 180)
+        ));
+        when(userReputationRepository.findAllById(List.of(firstId, secondId))).thenReturn(List.of(second, first));
 
-        UserProfileClientResponse firstProfile = new UserProfileClientResponse();
-        firstProfile.setFirstName("Ali");
-        firstProfile.setLastName("Yilmaz");
-        when(userServiceClient.getProfileById(firstId)).thenReturn(firstProfile);
-
-        UserProfileClientResponse secondProfile = new UserProfileClientResponse();
-        secondProfile.setFirstName("Ayse");
-        secondProfile.setLastName("Demir");
-        when(userServiceClient.getProfileById(secondId)).thenReturn(secondProfile);
+        when(userProjectionRepository.findAllById(any())).thenReturn(List.of(
+                new UserProjection(secondId, "Ayse Demir", LocalDateTime.now()),
+                new UserProjection(firstId, "Ali Yilmaz", LocalDateTime.now())
+        ));
 
         var leaderboard = gamificationService.getLeaderboard(2);
 
@@ -234,8 +523,12 @@ class GamificationServiceTest {
         assertEquals(1, leaderboard.get(0).rank());
         assertEquals("Ali Yilmaz", leaderboard.get(0).fullName());
         assertEquals(250, leaderboard.get(0).totalPoints());
+        assertEquals(3, leaderboard.get(0).currentStreak());
         assertEquals(2, leaderboard.get(1).rank());
         assertEquals("Ayse Demir", leaderboard.get(1).fullName());
+        assertEquals(5, leaderboard.get(1).currentStreak());
+        verify(userServiceClient, never()).getProfilesByIds(any());
+        verify(userServiceClient, never()).getProfileById(any());
     }
 
     @Test
@@ -249,16 +542,17 @@ class GamificationServiceTest {
     }
 
     @Test
-    void shouldReturnFallbackNameWhenUserServiceFails() {
+    void shouldReturnFallbackNameWhenProjectionIsMissing() {
         UUID userId = UUID.randomUUID();
 
         UserReputation reputation = UserReputation.initialize(userId);
         reputation.setTotalPoints(90);
         reputation.setCurrentStreak(2);
 
-        when(userReputationRepository.findByOrderByTotalPointsDescUserIdAsc(any()))
-                .thenReturn(List.of(reputation));
-        doThrow(new RuntimeException("downstream error")).when(userServiceClient).getProfileById(userId);
+        when(leaderboardService.top(LeaderboardPeriod.ALL_TIME, 1))
+                .thenReturn(List.of(new LeaderboardService.RankedUser(userId, 1, 90)));
+        when(userReputationRepository.findAllById(List.of(userId))).thenReturn(List.of(reputation));
+        when(userProjectionRepository.findAllById(any())).thenReturn(List.of());
 
         var leaderboard = gamificationService.getLeaderboard(1);
 
@@ -266,6 +560,16 @@ class GamificationServiceTest {
         assertEquals("Bilinmeyen Kullanici", leaderboard.get(0).fullName());
     }
 
+    private static BadgeDefinition badge(String code, BadgeMetric metric, int threshold, int bitIndex) {
+        BadgeDefinition definition = new BadgeDefinition();
+        definition.setCode(code);
+        definition.setMetric(metric);
+        definition.setThreshold(threshold);
+        definition.setBitIndex(bitIndex);
+        definition.setActive(true);
+        return definition;
+    }
+
     private static class NoOpTransactionManager implements PlatformTransactionManager {
 
         @Override
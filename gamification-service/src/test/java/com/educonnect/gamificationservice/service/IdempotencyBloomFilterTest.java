@@ -0,0 +1,116 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.ActionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyBloomFilterTest {
+
+    private static final UUID STORED_USER_ID = new UUID(0L, 42L);
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyBloomFilter(jdbcTemplate, new NoOpTransactionManager(), meterRegistry,
+                true, 10_000, 0.01, Duration.ofDays(30));
+    }
+
+    @Test
+    void shouldNotAnswerBeforeHistoryIsLoaded() {
+        assertEquals(IdempotencyBloomFilter.Lookup.NOT_COVERED,
+                filter.check(UUID.randomUUID(), ActionType.POST_PUBLISHED, "post-1"));
+        assertEquals(0.0, meterRegistry.counter("gamification.idempotency_filter.skipped_queries").count());
+    }
+
+    @Test
+    void shouldAnswerFromLoadedHistoryAndRecordedKeys() throws Exception {
+        stubStoredHistoryRow();
+        filter.loadOnStartup();
+        UUID newUserId = new UUID(0L, 7L);
+
+        assertEquals(IdempotencyBloomFilter.Lookup.MAYBE_PRESENT,
+                filter.check(STORED_USER_ID, ActionType.POST_PUBLISHED, "post-1"));
+        assertEquals(IdempotencyBloomFilter.Lookup.ABSENT,
+                filter.check(newUserId, ActionType.POST_PUBLISHED, "post-1"));
+
+        filter.record(newUserId, ActionType.POST_PUBLISHED, "post-1");
+
+        assertEquals(IdempotencyBloomFilter.Lookup.MAYBE_PRESENT,
+                filter.check(newUserId, ActionType.POST_PUBLISHED, "post-1"));
+        assertEquals(1.0, meterRegistry.counter("gamification.idempotency_filter.skipped_queries").count());
+    }
+
+    @Test
+    void shouldStayOnDatabaseWhenLoadFails() {
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.loadOnStartup();
+
+        assertEquals(IdempotencyBloomFilter.Lookup.NOT_COVERED,
+                filter.check(UUID.randomUUID(), ActionType.POST_PUBLISHED, "post-1"));
+    }
+
+    @Test
+    void shouldReportObservedFalsePositiveRate() {
+        filter.loadOnStartup();
+        filter.check(new UUID(0L, 1L), ActionType.POST_PUBLISHED, "post-1");
+        filter.check(new UUID(0L, 2L), ActionType.POST_PUBLISHED, "post-1");
+        filter.check(new UUID(0L, 3L), ActionType.POST_PUBLISHED, "post-1");
+        filter.recordFalsePositive();
+
+        assertEquals(0.25, meterRegistry.get("gamification.idempotency_filter.false_positive_rate").gauge().value());
+    }
+
+    private void stubStoredHistoryRow() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString("action_type")).thenReturn(ActionType.POST_PUBLISHED.name());
+        when(resultSet.getObject("user_id", UUID.class)).thenReturn(STORED_USER_ID);
+        when(resultSet.getString("reference_id")).thenReturn("post-1");
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.model.LeaderboardPeriod;
+import com.educonnect.gamificationservice.model.UserReputation;
+import com.educonnect.gamificationservice.repository.PointHistoryRepository;
+import com.educonnect.gamificationservice.repository.UserReputationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private UserReputationRepository userReputationRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        userReputationRepository = mock(UserReputationRepository.class);
+        pointHistoryRepository = mock(PointHistoryRepository.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        leaderboardService = new LeaderboardService(
+                redisTemplate,
+                userReputationRepository,
+                pointHistoryRepository,
+                Duration.ofDays(35),
+                Duration.ofDays(100)
+        );
+    }
+
+    @Test
+    void shouldBuildWindowKeysFromIsoWeekAndMonth() {
+        LocalDate date = LocalDate.of(2027, 1, 1);
+
+        assertEquals("gamification:leaderboard:all", LeaderboardService.keyFor(LeaderboardPeriod.ALL_TIME, date));
+        assertEquals("gamification:leaderboard:weekly:2026-W53", LeaderboardService.keyFor(LeaderboardPeriod.WEEKLY, date));
+        assertEquals("gamification:leaderboard:monthly:2027-01", LeaderboardService.keyFor(LeaderboardPeriod.MONTHLY, date));
+    }
+
+    @Test
+    void shouldReadTopEntriesFromSortedSet() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>(firstId.toString(), 300.0));
+        tuples.add(new DefaultTypedTuple<>(secondId.toString(), 120.0));
+        when(zSetOperations.reverseRangeWithScores("gamification:leaderboard:all", 0, 1)).thenReturn(tuples);
+
+        List<LeaderboardService.RankedUser> top = leaderboardService.top(LeaderboardPeriod.ALL_TIME, 2);
+
+        assertEquals(List.of(
+                new LeaderboardService.RankedUser(firstId, 1, 300),
+                new LeaderboardService.RankedUser(secondId, 2, 120)
+        ), top);
+        verify(userReputationRepository, never()).findByOrderByTotalPointsDescUserIdDesc(any());
+    }
+
+    @Test
+    void shouldFallBackToDatabaseWhenRedisIsUnavailable() {
+        UUID userId = UUID.randomUUID();
+        UserReputation reputation = UserReputation.initialize(userId);
+        reputation.setTotalPoints(75);
+        when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(userReputationRepository.findByOrderByTotalPointsDescUserIdDesc(any())).thenReturn(List.of(reputation));
+
+        List<LeaderboardService.RankedUser> top = leaderboardService.top(LeaderboardPeriod.ALL_TIME, 10);
+
+        assertEquals(List.of(new LeaderboardService.RankedUser(userId, 1, 75)), top);
+    }
+
+    @Test
+    void shouldResolveRankFromDatabaseWhenRedisIsUnavailable() {
+        UUID userId = UUID.randomUUID();
+        UserReputation reputation = UserReputation.initialize(userId);
+        reputation.setTotalPoints(75);
+        when(zSetOperations.zCard(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(userReputationRepository.count()).thenReturn(10L);
+        when(userReputationRepository.findById(userId)).thenReturn(Optional.of(reputation));
+        when(userReputationRepository.countRankedAhead(75, userId)).thenReturn(3L);
+
+        LeaderboardService.UserRank rank = leaderboardService.rankOf(LeaderboardPeriod.ALL_TIME, userId);
+
+        assertEquals(new LeaderboardService.UserRank(4L, 75, 10), rank);
+    }
+
+    @Test
+    void shouldResolveWindowRankFromDatabaseWhenBoardIsEmpty() {
+        UUID userId = UUID.randomUUID();
+        PointHistoryRepository.WindowRank windowRank = mock(PointHistoryRepository.WindowRank.class);
+        when(windowRank.getPoints()).thenReturn(null);
+        when(windowRank.getParticipants()).thenReturn(5L);
+        when(zSetOperations.zCard(anyString())).thenReturn(0L);
+        when(pointHistoryRepository.findWindowRank(eq(userId), any(), any())).thenReturn(windowRank);
+
+        LeaderboardService.UserRank rank = leaderboardService.rankOf(LeaderboardPeriod.WEEKLY, userId);
+
+        assertEquals(new LeaderboardService.UserRank(null, 0, 5), rank);
+    }
+
+    @Test
+    void shouldReconcileWithoutReplacingLiveBoard() {
+        when(userReputationRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+        when(pointHistoryRepository.sumPointsPerUserBetween(any(), any(), any())).thenReturn(new SliceImpl<>(List.of()));
+
+        leaderboardService.rebuild();
+
+        verify(pointHistoryRepository, times(2)).sumPointsPerUserBetween(any(), any(), any());
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void shouldIncrementWindowsOnlyWhenPointsWereEarned() {
+        UUID userId = UUID.randomUUID();
+        LocalDate date = LocalDate.of(2026, 3, 24);
+
+        leaderboardService.recordPoints(userId, 40, 0, date);
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+
+        leaderboardService.recordPoints(userId, 50, 10, date);
+        verify(zSetOperations).incrementScore("gamification:leaderboard:weekly:2026-W13", userId.toString(), 10);
+        verify(zSetOperations).incrementScore("gamification:leaderboard:monthly:2026-03", userId.toString(), 10);
+    }
+}
@@ -0,0 +1,108 @@
+package com.educonnect.gamificationservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PointHistoryPartitionServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PointHistoryPartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        partitionService = new PointHistoryPartitionService(
+                jdbcTemplate,
+                new NoOpTransactionManager(),
+                12,
+                3
+        );
+    }
+
+    @Test
+    void shouldNamePartitionsByYearAndMonth() {
+        assertEquals("point_history_y2026m03", PointHistoryPartitionService.partitionName(YearMonth.of(2026, 3)));
+    }
+
+    @Test
+    void shouldBoundAcceptedEventsToPartitionedMonths() {
+        assertTrue(partitionService.isArchived(LocalDateTime.now().minusMonths(14)));
+        assertFalse(partitionService.isArchived(LocalDateTime.now().minusMonths(2)));
+        assertFalse(partitionService.isBeyondPartitions(LocalDateTime.now().plusMonths(2)));
+        assertTrue(partitionService.isBeyondPartitions(YearMonth.now().plusMonths(4).atDay(1).atStartOfDay()));
+    }
+
+    @Test
+    void shouldPrecreatePartitionsAndArchiveExpiredMonths() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of(
+                "point_history_y2025m08",
+                "point_history_y2025m09",
+                "point_history_y2026m10"
+        ));
+
+        partitionService.maintain(LocalDate.of(2026, 10, 18));
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS gamification_db.point_history_y2025m10 PARTITION OF "
+                + "gamification_db.point_history FOR VALUES FROM ('2025-10-01') TO ('2025-11-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS gamification_db.point_history_y2026m10 PARTITION OF "
+                + "gamification_db.point_history FOR VALUES FROM ('2026-10-01') TO ('2026-11-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS gamification_db.point_history_y2027m01 PARTITION OF "
+                + "gamification_db.point_history FOR VALUES FROM ('2027-01-01') TO ('2027-02-01')");
+        verify(jdbcTemplate, never()).execute("CREATE TABLE IF NOT EXISTS gamification_db.point_history_y2025m09 PARTITION OF "
+                + "gamification_db.point_history FOR VALUES FROM ('2025-09-01') TO ('2025-10-01')");
+        verify(jdbcTemplate).execute("ALTER TABLE gamification_db.point_history DETACH PARTITION "
+                + "gamification_db.point_history_y2025m08");
+        verify(jdbcTemplate).execute("ALTER TABLE gamification_db.point_history_y2025m08 SET SCHEMA gamification_archive");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE gamification_db.point_history DETACH PARTITION "
+                + "gamification_db.point_history_y2025m10");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE gamification_db.point_history DETACH PARTITION "
+                + "gamification_db.point_history_y2026m10");
+    }
+
+    @Test
+    void shouldSkipMaintenanceWhenAnotherInstanceHoldsTheLock() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(false);
+
+        partitionService.maintain(LocalDate.of(2026, 10, 18));
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
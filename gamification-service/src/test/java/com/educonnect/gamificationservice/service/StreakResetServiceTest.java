@@ -0,0 +1,125 @@
+package com.educonnect.gamificationservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreakResetServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 10, 18);
+    private static final LocalDate YESTERDAY = RUN_DATE.minusDays(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private GamificationSummaryCache summaryCache;
+    private StreakResetService streakResetService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        summaryCache = mock(GamificationSummaryCache.class);
+        streakResetService = new StreakResetService(jdbcTemplate, new NoOpTransactionManager(), meterRegistry,
+                summaryCache, 2, Duration.ZERO, Duration.ofSeconds(2), 2);
+    }
+
+    @Test
+    void shouldResetInKeysetOrderedChunksAndCheckpointEachChunk() {
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+        when(jdbcTemplate.queryForMap(contains("FOR UPDATE"), eq(RUN_DATE)))
+                .thenReturn(run(null), run(second));
+        when(jdbcTemplate.queryForList(startsWith("SELECT user_id"), eq(UUID.class), any(), any(), any()))
+                .thenReturn(List.of(first, second), List.of(third));
+        when(jdbcTemplate.update(startsWith("UPDATE gamification_db.user_reputation"), any(), any(), any()))
+                .thenReturn(2, 1);
+
+        long reset = streakResetService.resetInactiveStreaks(RUN_DATE);
+
+        assertEquals(3, reset);
+        verify(jdbcTemplate).update(startsWith("UPDATE gamification_db.user_reputation"),
+                eq(new UUID(0L, 0L)), eq(second), eq(YESTERDAY));
+        verify(jdbcTemplate).update(startsWith("UPDATE gamification_db.user_reputation"),
+                eq(second), eq(third), eq(YESTERDAY));
+        verify(jdbcTemplate).update(startsWith("UPDATE gamification_db.streak_reset_run"),
+                eq(second), eq(2), eq(false), eq(RUN_DATE));
+        verify(jdbcTemplate).update(startsWith("UPDATE gamification_db.streak_reset_run"),
+                eq(third), eq(1), eq(true), eq(RUN_DATE));
+        verify(summaryCache).invalidate(List.of(first, second));
+        verify(summaryCache).invalidate(List.of(third));
+        assertEquals(2.0, meterRegistry.counter("gamification.streak_reset.chunks").count());
+        assertEquals(3.0, meterRegistry.counter("gamification.streak_reset.rows").count());
+    }
+
+    @Test
+    void shouldSkipRunAlreadyCompleted() {
+        Map<String, Object> completed = run(null);
+        completed.put("completed_at", Timestamp.valueOf("2026-10-18 00:00:05"));
+        when(jdbcTemplate.queryForMap(contains("FOR UPDATE"), eq(RUN_DATE))).thenReturn(completed);
+
+        assertEquals(0, streakResetService.resetInactiveStreaks(RUN_DATE));
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE gamification_db.user_reputation"), any(), any(), any());
+    }
+
+    @Test
+    void shouldRetryChunkWhenRowIsLocked() {
+        when(jdbcTemplate.queryForMap(contains("FOR UPDATE"), eq(RUN_DATE)))
+                .thenThrow(new CannotAcquireLockException("lock timeout"))
+                .thenReturn(run(null));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, streakResetService.resetInactiveStreaks(RUN_DATE));
+        assertEquals(1.0, meterRegistry.counter("gamification.streak_reset.lock_retries").count());
+        verify(jdbcTemplate).update(startsWith("UPDATE gamification_db.streak_reset_run"),
+                eq(new UUID(0L, 0L)), eq(0), eq(true), eq(RUN_DATE));
+    }
+
+    private static Map<String, Object> run(UUID lastUserId) {
+        Map<String, Object> run = new HashMap<>();
+        run.put("last_user_id", lastUserId);
+        run.put("completed_at", null);
+        return run;
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.educonnect.gamificationservice.service;
+
+import com.educonnect.gamificationservice.client.UserServiceClient;
+import com.educonnect.gamificationservice.client.dto.UserProfileClientResponse;
+import com.educonnect.gamificationservice.model.UserProjection;
+import com.educonnect.gamificationservice.repository.UserProjectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProjectionServiceTest {
+
+    private UserProjectionRepository userProjectionRepository;
+    private UserServiceClient userServiceClient;
+    private UserProjectionService userProjectionService;
+
+    @BeforeEach
+    void setUp() {
+        userProjectionRepository = mock(UserProjectionRepository.class);
+        userServiceClient = mock(UserServiceClient.class);
+        userProjectionService = new UserProjectionService(
+                userProjectionRepository, userServiceClient, new NoOpTransactionManager());
+    }
+
+    @Test
+    void shouldReturnProjectedNamesInInputOrderWithFallback() {
+        UUID known = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(userProjectionRepository.findAllById(any()))
+                .thenReturn(List.of(new UserProjection(known, "Ali Yilmaz", LocalDateTime.now())));
+
+        Map<UUID, String> names = userProjectionService.getDisplayNames(List.of(missing, known));
+
+        assertEquals(List.of(missing, known), new ArrayList<>(names.keySet()));
+        assertEquals("Bilinmeyen Kullanici", names.get(missing));
+        assertEquals("Ali Yilmaz", names.get(known));
+    }
+
+    @Test
+    void shouldProjectProfileUpdateWithEventTime() {
+        UUID userId = UUID.randomUUID();
+        OffsetDateTime occurredAt = OffsetDateTime.of(2026, 10, 18, 9, 30, 0, 0, ZoneOffset.UTC);
+
+        userProjectionService.applyProfileUpdated(userId, " Ayse ", "Demir", occurredAt);
+
+        verify(userProjectionRepository).upsertIfNewer(userId, "Ayse Demir", LocalDateTime.of(2026, 10, 18, 12, 30));
+    }
+
+    @Test
+    void shouldIgnoreRegistrationWithoutName() {
+        userProjectionService.applyRegistered(UUID.randomUUID(), " ", null);
+
+        verify(userProjectionRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void shouldBackfillMissingUsersInKeysetChunks() {
+        List<UUID> firstChunk = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            firstChunk.add(new UUID(0L, i));
+        }
+        UUID last = new UUID(0L, 201L);
+        when(userProjectionRepository.findUserIdsWithoutProjection(new UUID(0L, 0L), 200)).thenReturn(firstChunk);
+        when(userProjectionRepository.findUserIdsWithoutProjection(new UUID(0L, 200L), 200)).thenReturn(List.of(last));
+        when(userServiceClient.getProfilesByIds(firstChunk)).thenReturn(List.of(profile(firstChunk.get(0), "Ali", "Yilmaz")));
+        when(userServiceClient.getProfilesByIds(List.of(last))).thenReturn(List.of(profile(last, "Ayse", null)));
+        when(userProjectionRepository.insertIfAbsent(any(), any(), any())).thenReturn(1);
+
+        assertEquals(2, userProjectionService.backfillMissing());
+        verify(userProjectionRepository).insertIfAbsent(eq(firstChunk.get(0)), eq("Ali Yilmaz"), any());
+        verify(userProjectionRepository).insertIfAbsent(eq(last), eq("Ayse"), any());
+    }
+
+    @Test
+    void shouldStopBackfillWhenUserServiceFails() {
+        UUID userId = UUID.randomUUID();
+        when(userProjectionRepository.findUserIdsWithoutProjection(any(), anyInt())).thenReturn(List.of(userId));
+        when(userServiceClient.getProfilesByIds(any())).thenThrow(new RuntimeException("downstream error"));
+
+        assertEquals(0, userProjectionService.backfillMissing());
+        verify(userProjectionRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    private static UserProfileClientResponse profile(UUID userId, String firstName, String lastName) {
+        UserProfileClientResponse profile = new UserProfileClientResponse();
+        profile.setId(userId);
+        profile.setFirstName(firstName);
+        profile.setLastName(lastName);
+        return profile;
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
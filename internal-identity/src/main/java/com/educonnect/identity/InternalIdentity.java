@@ -0,0 +1,12 @@
+package com.educonnect.identity;
+
+/**
+ * Gateway'in JWT'yi doğruladıktan sonra servislere ilettiği kimlik.
+ *
+ * @param userId    kullanıcı id'si (token'da yoksa null)
+ * @param email     kullanıcı e-postası (principal)
+ * @param roles     virgülle ayrılmış roller, örn. "ROLE_ADMIN,ROLE_STUDENT" (yoksa null)
+ * @param expiresAt zarfın geçerlilik sonu (epoch saniye)
+ */
+public record InternalIdentity(String userId, String email, String roles, long expiresAt) {
+}
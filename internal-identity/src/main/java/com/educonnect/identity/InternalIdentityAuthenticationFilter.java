@@ -0,0 +1,102 @@
+package com.educonnect.identity;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gateway'in imzaladığı X-Internal-Identity zarfını doğrulayıp Spring Security context'ine ekler.
+ *
+ * - Principal e-posta, details userId'dir; roller "ROLE_" önekiyle authority olur.
+ * - Aynı rol dizisi için authority listesi bir kez oluşturulup paylaşılır (rol kombinasyonu sayısı küçüktür).
+ * - Zarf yoksa veya geçersizse istek kimliksiz devam eder; erişim kararını SecurityFilterChain verir.
+ *
+ * Bean olarak değil, SecurityConfig içinde addFilterBefore ile eklenmelidir; aksi halde servlet filtresi olarak
+ * ikinci kez kaydedilir.
+ */
+public class InternalIdentityAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(InternalIdentityAuthenticationFilter.class);
+
+    private static final int MAX_CACHED_ROLE_SETS = 256;
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final InternalIdentityCodec codec;
+    private final ConcurrentMap<String, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
+
+    public InternalIdentityAuthenticationFilter(InternalIdentityCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String envelope = request.getHeader(InternalIdentityCodec.HEADER);
+        if (envelope != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            InternalIdentity identity = codec.verify(envelope, Instant.now().getEpochSecond());
+            if (identity != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(identity.email(), null, authoritiesOf(identity.roles()));
+                authentication.setDetails(identity.userId());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else {
+                log.warn("Invalid or expired internal identity for request: {} {}", request.getMethod(), request.getRequestURI());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Actuator endpoint'lerine filter uygulanmasın
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    List<GrantedAuthority> authoritiesOf(String roles) {
+        if (roles == null) {
+            return List.of();
+        }
+        List<GrantedAuthority> cached = authoritiesByRoles.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> authorities = parseAuthorities(roles);
+        if (authoritiesByRoles.size() < MAX_CACHED_ROLE_SETS) {
+            authoritiesByRoles.putIfAbsent(roles, authorities);
+        }
+        return authorities;
+    }
+
+    private static List<GrantedAuthority> parseAuthorities(String roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        int start = 0;
+        while (start <= roles.length()) {
+            int comma = roles.indexOf(',', start);
+            int end = comma < 0 ? roles.length() : comma;
+            String role = roles.substring(start, end).trim();
+            if (!role.isEmpty()) {
+                authorities.add(new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role));
+            }
+            start = end + 1;
+        }
+        return List.copyOf(authorities);
+    }
+}
@@ -0,0 +1,151 @@
+package com.educonnect.identity;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Gateway ile servisler arasında taşınan imzalı iç kimlik zarfını üretir ve doğrular.
+ *
+ * Biçim: {@code v1.<base64url(payload)>.<base64url(HMAC-SHA256(payload))>}, payload ise
+ * {@code expiresAt \n userId \n email \n roles}. JWT'ye göre çok daha küçüktür; doğrulama tek HMAC,
+ * sabit zamanlı karşılaştırma ve ayraç taramasıyla yapılır (JSON/regex/split yok).
+ *
+ * Mac örnekleri thread başına bir kez oluşturulur; sınıf thread-safe'tir.
+ */
+public final class InternalIdentityCodec {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private static final String VERSION = "v1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final byte SEPARATOR = '\n';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public InternalIdentityCodec(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("internal-identity.secret property is missing or blank");
+        }
+        byte[] secretBytes = secret.trim().getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("internal-identity.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String mint(InternalIdentity identity) {
+        if (identity.email() == null || identity.email().isEmpty()) {
+            throw new IllegalArgumentException("Internal identity requires an email");
+        }
+        String payload = identity.expiresAt()
+                + "\n" + field(identity.userId())
+                + "\n" + field(identity.email())
+                + "\n" + field(identity.roles());
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return VERSION + ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * Zarfı doğrular; imza geçersizse, biçim bozuksa veya süresi dolmuşsa null döner.
+     */
+    public InternalIdentity verify(String envelope, long nowEpochSecond) {
+        if (envelope == null || !envelope.startsWith(VERSION)) {
+            return null;
+        }
+        int dot = envelope.indexOf('.', VERSION.length());
+        if (dot < 0 || envelope.indexOf('.', dot + 1) >= 0) {
+            return null;
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(envelope.substring(VERSION.length(), dot));
+            signature = DECODER.decode(envelope.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            return null;
+        }
+
+        int first = indexOf(payload, 0);
+        int second = first < 0 ? -1 : indexOf(payload, first + 1);
+        int third = second < 0 ? -1 : indexOf(payload, second + 1);
+        if (third < 0 || third == second + 1) {
+            return null;
+        }
+        long expiresAt = parseLong(payload, first);
+        if (expiresAt <= nowEpochSecond) {
+            return null;
+        }
+        return new InternalIdentity(
+                text(payload, first + 1, second),
+                text(payload, second + 1, third),
+                text(payload, third + 1, payload.length),
+                expiresAt);
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static String field(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Internal identity fields must not contain line breaks");
+        }
+        return value;
+    }
+
+    private static int indexOf(byte[] payload, int from) {
+        for (int i = from; i < payload.length; i++) {
+            if (payload[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Sadece rakamlardan oluşan, taşmayan pozitif sayı; aksi halde -1
+    private static long parseLong(byte[] payload, int end) {
+        if (end <= 0 || end > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < end; i++) {
+            int digit = payload[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static String text(byte[] payload, int start, int end) {
+        return start == end ? null : new String(payload, start, end - start, StandardCharsets.UTF_8);
+    }
+}
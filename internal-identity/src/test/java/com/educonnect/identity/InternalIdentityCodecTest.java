@@ -0,0 +1,73 @@
+package com.educonnect.identity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InternalIdentityCodecTest {
+
+    private static final String SECRET = "educonnect-internal-test-secret-0123456789";
+    private static final long NOW = 1_760_000_000L;
+
+    private final InternalIdentityCodec codec = new InternalIdentityCodec(SECRET);
+
+    @Test
+    void shouldRoundTripIdentity() {
+        InternalIdentity identity = new InternalIdentity(
+                "3f2b8c1e-4d5a-4e6f-9a7b-1c2d3e4f5a6b", "öğrenci@educonnect.com", "ROLE_ADMIN,ROLE_STUDENT", NOW + 60);
+
+        assertEquals(identity, codec.verify(codec.mint(identity), NOW));
+    }
+
+    @Test
+    void shouldKeepMissingOptionalFieldsAsNull() {
+        InternalIdentity identity = new InternalIdentity(null, "student@educonnect.com", null, NOW + 60);
+
+        InternalIdentity verified = codec.verify(codec.mint(identity), NOW);
+
+        assertNull(verified.userId());
+        assertNull(verified.roles());
+        assertEquals("student@educonnect.com", verified.email());
+    }
+
+    @Test
+    void shouldRejectExpiredEnvelope() {
+        String envelope = codec.mint(new InternalIdentity("user-1", "student@educonnect.com", "ROLE_STUDENT", NOW));
+
+        assertNull(codec.verify(envelope, NOW));
+    }
+
+    @Test
+    void shouldRejectEnvelopeSignedWithAnotherSecret() {
+        InternalIdentityCodec other = new InternalIdentityCodec("another-internal-test-secret-0123456789");
+        String envelope = other.mint(new InternalIdentity("user-1", "student@educonnect.com", "ROLE_ADMIN", NOW + 60));
+
+        assertNull(codec.verify(envelope, NOW));
+    }
+
+    @Test
+    void shouldRejectTamperedOrMalformedEnvelope() {
+        String envelope = codec.mint(new InternalIdentity("user-1", "student@educonnect.com", "ROLE_STUDENT", NOW + 60));
+        String payload = envelope.substring(3, envelope.lastIndexOf('.'));
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ((NOW + 60) + "\nuser-1\nstudent@educonnect.com\nROLE_ADMIN").getBytes(StandardCharsets.UTF_8));
+
+        assertNull(codec.verify(envelope.replace(payload, forged), NOW));
+        assertNull(codec.verify(envelope + ".x", NOW));
+        assertNull(codec.verify("v1.%%%.%%%", NOW));
+        assertNull(codec.verify("Bearer " + envelope, NOW));
+        assertNull(codec.verify(null, NOW));
+    }
+
+    @Test
+    void shouldRejectShortSecretAndLineBreaksInFields() {
+        assertThrows(IllegalStateException.class, () -> new InternalIdentityCodec("too-short"));
+        assertThrows(IllegalArgumentException.class, () -> codec.mint(
+                new InternalIdentity("user-1", "student@educonnect.com\nROLE_ADMIN", "ROLE_STUDENT", NOW + 60)));
+    }
+}
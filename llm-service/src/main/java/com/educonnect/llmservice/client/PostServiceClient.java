@@ -1,11 +1,14 @@
 package com.educonnect.llmservice.client;
 
 import com.educonnect.llmservice.dto.moderation.ModerationDecisionRequest;
+import com.educonnect.llmservice.dto.moderation.PostModerationDecisionRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @FeignClient(name = "post-service", path = "/api/posts")
 public interface PostServiceClient {
 
@@ -14,5 +17,8 @@ public interface PostServiceClient {
             @PathVariable("postId") String postId,
             @RequestBody ModerationDecisionRequest request
     );
+
+    @PutMapping("/moderation/batch")
+    void applyModerationDecisions(@RequestBody List<PostModerationDecisionRequest> requests);
 }
 
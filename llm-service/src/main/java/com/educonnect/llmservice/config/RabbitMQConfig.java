@@ -10,6 +10,7 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.DefaultClassMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -65,5 +66,29 @@ public class RabbitMQConfig {
         factory.setDefaultRequeueRejected(false);
         return factory;
     }
+
+    /**
+     * Moderasyon kuyruğu için batch listener factory.
+     * Consumer en fazla batchSize mesaj biriktirir veya receiveTimeout dolunca eldekileri tek liste olarak teslim eder.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory moderationBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter jsonMessageConverter,
+            @Value("${moderation.batch.size:16}") int batchSize,
+            @Value("${moderation.batch.receive-timeout-ms:2000}") long receiveTimeoutMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize * 2);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(2);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
 }
 
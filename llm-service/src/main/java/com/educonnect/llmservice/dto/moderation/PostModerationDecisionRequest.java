@@ -0,0 +1,10 @@
+package com.educonnect.llmservice.dto.moderation;
+
+import java.util.UUID;
+
+public record PostModerationDecisionRequest(
+        UUID postId,
+        String decision,
+        String eventId
+) {
+}
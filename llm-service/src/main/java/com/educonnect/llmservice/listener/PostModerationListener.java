@@ -4,15 +4,27 @@ import com.educonnect.llmservice.client.PostServiceClient;
 import com.educonnect.llmservice.config.RabbitMQConfig;
 import com.educonnect.llmservice.dto.event.PostModerationEvent;
 import com.educonnect.llmservice.dto.moderation.ModerationDecision;
-import com.educonnect.llmservice.dto.moderation.ModerationDecisionRequest;
+import com.educonnect.llmservice.dto.moderation.PostModerationDecisionRequest;
 import com.educonnect.llmservice.service.AiModerationService;
+import com.educonnect.llmservice.service.ModerationMetrics;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Moderasyon kuyruğunu batch halinde tüketir.
+ *
+ * - Container en fazla moderation.batch.size mesajı tek liste olarak teslim eder.
+ * - Postlar AiModerationService.classifyAll ile paralel (sınırlı virtual thread) sınıflandırılır.
+ * - Kararlar post-service'e tek bir toplu çağrı ile bildirilir.
+ * - Karar çıkarılamayan postlar bildirilmez ve PENDING kalır (tekil akıştaki davranış ile aynı).
+ */
 @Component
 public class PostModerationListener {
 
@@ -20,35 +32,51 @@ public class PostModerationListener {
 
     private final AiModerationService aiModerationService;
     private final PostServiceClient postServiceClient;
+    private final ModerationMetrics moderationMetrics;
 
     public PostModerationListener(AiModerationService aiModerationService,
-                                  PostServiceClient postServiceClient) {
+                                  PostServiceClient postServiceClient,
+                                  ModerationMetrics moderationMetrics) {
         this.aiModerationService = aiModerationService;
         this.postServiceClient = postServiceClient;
+        this.moderationMetrics = moderationMetrics;
     }
 
-    @RabbitListener(queues = RabbitMQConfig.POST_MODERATION_LLM_QUEUE)
-    public void handleModerationEvent(PostModerationEvent event) {
-        log.info("Moderation event received. postId={}, eventId={}", event.postId(), event.eventId());
+    @RabbitListener(queues = RabbitMQConfig.POST_MODERATION_LLM_QUEUE,
+            containerFactory = "moderationBatchContainerFactory")
+    public void handleModerationBatch(List<PostModerationEvent> events) {
+        log.info("Moderation batch received. size={}", events.size());
+        Timer.Sample sample = moderationMetrics.startBatch(events.size());
 
         try {
-            Optional<ModerationDecision> decision =
-                    aiModerationService.classify(event.title(), event.content());
+            List<Optional<ModerationDecision>> decisions = aiModerationService.classifyAll(events);
 
-            if (decision.isEmpty()) {
-                log.warn("Moderation decision missing, leaving post pending. postId={}", event.postId());
-                return;
-            }
+            List<PostModerationDecisionRequest> resolved = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                PostModerationEvent event = events.get(i);
+                Optional<ModerationDecision> decision = decisions.get(i);
+                moderationMetrics.recordDecision(decision);
+
+                if (decision.isEmpty()) {
+                    log.warn("Moderation decision missing, leaving post pending. postId={}", event.postId());
+                    continue;
+                }
 
-            log.info("Moderation decision resolved. postId={}, decision={}", event.postId(), decision.get());
+                log.info("Moderation decision resolved. postId={}, decision={}", event.postId(), decision.get());
+                resolved.add(new PostModerationDecisionRequest(
+                        event.postId(),
+                        decision.get().name(),
+                        event.eventId() == null ? null : event.eventId().toString()
+                ));
+            }
 
-            postServiceClient.applyModerationDecision(
-                    event.postId().toString(),
-                    new ModerationDecisionRequest(decision.get().name(),
-                            event.eventId() == null ? null : event.eventId().toString())
-            );
+            if (!resolved.isEmpty()) {
+                postServiceClient.applyModerationDecisions(resolved);
+            }
         } catch (Exception ex) {
-            log.error("Failed to notify post-service moderation result. postId={}", event.postId(), ex);
+            log.error("Failed to notify post-service moderation results. batchSize={}", events.size(), ex);
+        } finally {
+            moderationMetrics.stopBatch(sample);
         }
     }
 }
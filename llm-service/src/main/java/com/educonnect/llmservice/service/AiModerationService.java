@@ -1,14 +1,33 @@
 package com.educonnect.llmservice.service;
 
+import com.educonnect.llmservice.dto.event.PostModerationEvent;
 import com.educonnect.llmservice.dto.moderation.ModerationDecision;
 import com.educonnect.llmservice.util.ModerationDecisionParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Kademeli (tiered) post moderasyonu. Her post en ucuz aşamadan başlar:
+ *
+ * 1. lexical: LexicalPreFilter — kesin hakaret → ZORBA, kısa ve tamamen bilinen kelimelerden oluşan metin → TEMIZ.
+ * 2. cache: ModerationVerdictCache — aynı içerik için daha önce verilmiş LLM kararı.
+ * 3. llm: Ollama sınıflandırması — ön filtrenin olumlu karar veremediği (ESCALATE) tüm postlar.
+ *
+ * Her aşamanın karar sayısı ve süresi ModerationMetrics ile kaydedilir.
+ */
 @Service
 public class AiModerationService {
 
@@ -19,17 +38,106 @@ public class AiModerationService {
             Return exactly one label: ZORBA or TEMIZ.
             Output must be a single token with no punctuation, no explanation, no extra words.
             If there is any insult, harassment, humiliation, threat, profanity, or targeted abuse, return ZORBA.
-            If the text includes any of these words, return ZORBA: pislik, dengesiz, salak, aptal, gerizekali.
             Otherwise return TEMIZ.
             """;
 
     private final ChatClient chatClient;
+    private final LexicalPreFilter lexicalPreFilter;
+    private final ModerationVerdictCache verdictCache;
+    private final ModerationMetrics moderationMetrics;
+    /** Ollama'ya aynı anda yapılabilecek moderasyon çağrısı sınırı (tüm batch'ler için ortak). */
+    private final Semaphore llmPermits;
 
-    public AiModerationService(ChatClient chatClient) {
+    private final boolean preFilterEnabled;
+
+    public AiModerationService(ChatClient chatClient,
+                               LexicalPreFilter lexicalPreFilter,
+                               ModerationVerdictCache verdictCache,
+                               ModerationMetrics moderationMetrics,
+                               @Value("${moderation.batch.max-parallel-calls:4}") int maxParallelCalls,
+                               @Value("${moderation.prefilter.enabled:true}") boolean preFilterEnabled) {
         this.chatClient = chatClient;
+        this.lexicalPreFilter = lexicalPreFilter;
+        this.verdictCache = verdictCache;
+        this.moderationMetrics = moderationMetrics;
+        this.llmPermits = new Semaphore(maxParallelCalls);
+        this.preFilterEnabled = preFilterEnabled;
+    }
+
+    /**
+     * Bir batch'teki postları paralel olarak sınıflandırır.
+     * Her post bir virtual thread'de çalışır; eşzamanlı LLM çağrısı sayısı llmPermits ile sınırlanır.
+     * Aynı batch'te içeriği aynı olan postlar (ör. kopyalanmış spam) tek kez sınıflandırılır.
+     * Sonuç listesi girdi sırasıyla aynıdır; karar çıkarılamayan postlar için Optional.empty() döner.
+     */
+    public List<Optional<ModerationDecision>> classifyAll(List<PostModerationEvent> events) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<String, Future<Optional<ModerationDecision>>> byContent = new HashMap<>();
+            List<Future<Optional<ModerationDecision>>> futures = events.stream()
+                    .map(event -> byContent.computeIfAbsent(
+                            ModerationVerdictCache.keyFor(event.title(), event.content()),
+                            key -> executor.submit(() -> classify(key, event.title(), event.content()))))
+                    .toList();
+
+            return futures.stream()
+                    .map(this::awaitDecision)
+                    .toList();
+        }
     }
 
+    /**
+     * Postu kademeli hattan geçirir; LLM sadece önceki aşamalar karar veremezse çağrılır.
+     */
     public Optional<ModerationDecision> classify(String title, String content) {
+        return classify(ModerationVerdictCache.keyFor(title, content), title, content);
+    }
+
+    private Optional<ModerationDecision> classify(String cacheKey, String title, String content) {
+        if (preFilterEnabled) {
+            long start = System.nanoTime();
+            LexicalPreFilter.Outcome outcome = lexicalPreFilter.evaluate(title, content);
+            moderationMetrics.recordStage("lexical", outcome.name(), System.nanoTime() - start);
+
+            if (outcome == LexicalPreFilter.Outcome.ZORBA) {
+                return Optional.of(ModerationDecision.ZORBA);
+            }
+            if (outcome == LexicalPreFilter.Outcome.TEMIZ) {
+                return Optional.of(ModerationDecision.TEMIZ);
+            }
+        }
+
+        long cacheStart = System.nanoTime();
+        Optional<ModerationDecision> cached = verdictCache.get(cacheKey);
+        moderationMetrics.recordStage("cache", cached.map(Enum::name).orElse("MISS"), System.nanoTime() - cacheStart);
+        if (cached.isPresent()) {
+            moderationMetrics.recordCacheHit();
+            log.debug("Moderation verdict cache hit. decision={}", cached.get());
+            return cached;
+        }
+        moderationMetrics.recordCacheMiss();
+
+        long llmStart = System.nanoTime();
+        Optional<ModerationDecision> decision = classifyWithPermit(title, content);
+        moderationMetrics.recordStage("llm", decision.map(Enum::name).orElse("UNRESOLVED"), System.nanoTime() - llmStart);
+        decision.ifPresent(value -> verdictCache.put(cacheKey, value));
+        return decision;
+    }
+
+    private Optional<ModerationDecision> classifyWithPermit(String title, String content) {
+        try {
+            llmPermits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return moderationMetrics.timeLlmCall(() -> callLlm(title, content));
+        } finally {
+            llmPermits.release();
+        }
+    }
+
+    private Optional<ModerationDecision> callLlm(String title, String content) {
         String safeTitle = title == null ? "" : title.trim();
         String safeContent = content == null ? "" : content.trim();
         String userPrompt = "TITLE: " + safeTitle + "\nCONTENT: " + safeContent;
@@ -54,4 +162,16 @@ public class AiModerationService {
             return Optional.empty();
         }
     }
+
+    private Optional<ModerationDecision> awaitDecision(Future<Optional<ModerationDecision>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException ex) {
+            log.error("LLM moderation task failed.", ex.getCause());
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,182 @@
+package com.educonnect.llmservice.service;
+
+import com.educonnect.text.AhoCorasickMatcher;
+import com.educonnect.text.TurkishText;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Moderasyon hattının ilk aşaması: süreç içi (in-process) sözlük tabanlı ön filtre.
+ *
+ * Metin TurkishText kurallarıyla katlanarak kelimelere ayrılır ve her kelime sözlüklerle karşılaştırılır:
+ * - ABUSIVE: kelime kesin bir hakaretle başlıyorsa ("salaksın" → "salak") doğrudan ZORBA, LLM çağrılmaz.
+ * - ABUSIVE veya SUSPICIOUS bir terim kelimenin herhangi bir yerinde geçiyorsa ("hocasalak") → ESCALATE.
+ *   Kelime içi arama AhoCorasickMatcher ile yapılır; kelime içi eşleşme masum bir kelimenin parçası
+ *   olabileceğinden doğrudan ZORBA verilmez, karar LLM'e bırakılır.
+ * - Büyük harf ağırlıklı ("bağıran") uzun metinler → ESCALATE.
+ * - TEMIZ olumlu bir karardır: metin en fazla MAX_CLEAN_WORDS kelimedir ve her kelime BENIGN sözlüğünde
+ *   birebir bulunur ya da en az MIN_TERM_LENGTH harfli bir BENIGN kök ile SUFFIXES listesindeki bir ekten
+ *   oluşur ("dersleri" → "ders" + "leri"). Kökten sonra listede olmayan bir şey gelirse ("bilgisiz") kelime bilinmez.
+ * - Diğer her durumda (sözlükte olmayan tek bir kelime bile) → ESCALATE; karar LLM'e bırakılır.
+ *
+ * Sözlükte olmayan argo, kısaltma, yeni veya bilinen bir köke yapıştırılmış hakaretler bu yüzden LLM'i atlayamaz;
+ * ön filtre yalnızca kısa ve tamamen bilinen kelimelerden oluşan duyuru/ders postlarında LLM çağrısını keser.
+ * Tarama metin uzunluğunda doğrusaldır ve mikrosaniyeler sürer.
+ */
+@Component
+public class LexicalPreFilter {
+
+    public enum Outcome {
+        ZORBA,
+        TEMIZ,
+        ESCALATE
+    }
+
+    private static final Set<String> ABUSIVE = Set.of(
+            "pislik", "dengesiz", "salak", "aptal", "gerizekali",
+            "ahmak", "serefsiz", "yavsak", "orospu", "kahpe"
+    );
+
+    private static final Set<String> SUSPICIOUS = Set.of(
+            "nefret", "oldur", "gebert", "gebere", "tehdit", "rezil", "yalanci",
+            "beyinsiz", "kafasiz", "ezik", "zavalli", "defol", "gerzek", "embesil",
+            "cahil", "kahrol", "kufur", "hakaret", "taciz", "dover", "doverim"
+    );
+
+    /**
+     * Zararsız olduğu bilinen kelimeler ve kökler (katlanmış). MIN_TERM_LENGTH ve üzeri olanlar SUFFIXES ile
+     * birlikte de eşleşir; daha kısa olanlar (ör. "not", "gun") yalnızca birebir eşleşir ki argo kelimeleri örtmesin.
+     * Katlandığında zararlı bir kelimeyle aynı yazılan kökler ("katıl" → "katil") listeye alınmaz.
+     */
+    private static final Set<String> BENIGN = Set.of(
+            // Bağlaçlar, zamirler, sık kullanılan kelimeler
+            "ve", "veya", "ile", "ama", "fakat", "bu", "su", "o", "bir", "da", "de", "ki", "mi", "mu",
+            "ne", "en", "her", "cok", "az", "daha", "icin", "gibi", "kadar", "sonra", "once", "var", "yok",
+            "biz", "siz", "tum", "hep", "evet", "hayir", "lutfen", "merhaba", "selam", "tesekkur",
+            "arkadas", "herkes", "yeni", "ilk", "son", "onemli", "guncel", "kisa", "uzun", "iyi", "guzel",
+            "harika", "tebrik", "basari", "kolay", "zor", "ornek", "bekli", "gelin", "paylas",
+            // Zaman
+            "hafta", "gun", "saat", "bugun", "yarin", "dun", "pazartesi", "sali", "carsamba", "persembe",
+            "cuma", "cumartesi", "pazar", "donem", "yari", "tarih",
+            // Akademik ve kampüs hayatı
+            "ders", "not", "notu", "notlari", "sinav", "vize", "final", "odev", "proje", "kulup", "etkinlik",
+            "duyuru", "hoca", "ogrenci", "ogretmen", "bolum", "fakulte", "universite", "kampus", "kutuphane",
+            "labor", "sunum", "rapor", "kayit", "basvuru", "toplanti", "seminer", "konferans", "atolye", "kurs",
+            "kaynak", "kitap", "makale", "soru", "cevap", "cozum", "yardim", "bilgi", "konu", "sayfa",
+            "grup", "takim", "calisma", "arastirma", "staj", "burs", "program", "yazilim", "kod", "veri",
+            "yapi", "algoritma", "matematik", "fizik", "kimya", "biyoloji", "edebiyat", "ingilizce", "turkce",
+            "analiz", "istatistik", "muhendis", "bilgisayar", "agac", "arama", "ikili", "denge", "sinif",
+            "salon", "amfi", "online", "slayt", "ozet", "aciklama", "ekte", "link"
+    );
+
+    /**
+     * BENIGN köklerinden sonra gelebilecek ekler (katlanmış; ünlü uyumu varyantları katlamayla birleşir).
+     * Kapalı bir listedir: "-siz", "-ci" gibi anlamı değiştiren yapım ekleri bilerek yoktur.
+     */
+    private static final Set<String> SUFFIXES = Set.of(
+            "i", "u", "a", "e", "in", "un", "nin", "nun", "im", "um", "imiz", "umuz", "iniz", "unuz",
+            "ya", "ye", "yi", "yu", "yla", "yle", "la", "le", "da", "de", "ta", "te",
+            "dan", "den", "tan", "ten", "daki", "deki", "taki", "teki",
+            "ler", "lar", "leri", "lari", "lerin", "larin", "lere", "lara", "lerde", "larda", "lerden", "lardan",
+            "si", "su", "sin", "sun", "sini", "sunu", "sina", "sine", "suna", "sinda", "sinde", "sunda",
+            "ini", "unu", "ina", "ine", "una", "inda", "inde", "unda",
+            "dir", "dur", "tir", "tur", "leme", "lama", "lemek", "lamak"
+    );
+
+    /** ABUSIVE ve SUSPICIOUS terimlerinin kelime içinde herhangi bir yerde aranması için. */
+    private static final AhoCorasickMatcher FLAGGED =
+            AhoCorasickMatcher.compile(Stream.concat(ABUSIVE.stream(), SUSPICIOUS.stream()).toList());
+
+    private static final int MIN_TERM_LENGTH = 4;
+    private static final int MAX_BENIGN_LENGTH = 20;
+    private static final int MAX_CLEAN_WORDS = 40;
+    private static final int SHOUTING_MIN_LETTERS = 20;
+    private static final double SHOUTING_UPPERCASE_RATIO = 0.7;
+
+    public Outcome evaluate(String title, String content) {
+        Scan scan = new Scan();
+        if (scan.text(title) || scan.text(content)) {
+            return Outcome.ZORBA;
+        }
+        return scan.escalate || scan.words > MAX_CLEAN_WORDS ? Outcome.ESCALATE : Outcome.TEMIZ;
+    }
+
+    /**
+     * Başlık ve içerik için ortak tarama durumu.
+     */
+    private static final class Scan {
+
+        private int words;
+        private boolean escalate;
+
+        /**
+         * Metni tarar; kesin hakaret bulunursa true döner.
+         */
+        boolean text(String text) {
+            if (text == null) {
+                return false;
+            }
+            int letters = 0;
+            int uppercase = 0;
+
+            StringBuilder token = new StringBuilder();
+            for (int i = 0; i <= text.length(); i++) {
+                char c = i < text.length() ? text.charAt(i) : ' ';
+                if (Character.isLetter(c)) {
+                    letters++;
+                    if (Character.isUpperCase(c)) {
+                        uppercase++;
+                    }
+                    token.append(TurkishText.fold(c));
+                    continue;
+                }
+
+                if (!token.isEmpty()) {
+                    words++;
+                    Outcome outcome = classify(token.toString());
+                    if (outcome == Outcome.ZORBA) {
+                        return true;
+                    }
+                    escalate |= outcome == Outcome.ESCALATE;
+                    token.setLength(0);
+                }
+            }
+
+            escalate |= letters >= SHOUTING_MIN_LETTERS && uppercase >= letters * SHOUTING_UPPERCASE_RATIO;
+            return false;
+        }
+    }
+
+    /**
+     * Kelimeyi sınıflandırır: hakaretle başlıyorsa ZORBA; içinde hakaret/şüpheli terim geçiyorsa veya
+     * bilinen bir kök + ek olarak tamamen açıklanamıyorsa ESCALATE; aksi halde TEMIZ.
+     */
+    private static Outcome classify(String token) {
+        for (String term : ABUSIVE) {
+            if (token.startsWith(term)) {
+                return Outcome.ZORBA;
+            }
+        }
+        if (FLAGGED.containsAny(token)) {
+            return Outcome.ESCALATE;
+        }
+        return isBenign(token) ? Outcome.TEMIZ : Outcome.ESCALATE;
+    }
+
+    private static boolean isBenign(String token) {
+        if (BENIGN.contains(token)) {
+            return true;
+        }
+        if (token.length() > MAX_BENIGN_LENGTH) {
+            return false;
+        }
+        for (int length = MIN_TERM_LENGTH; length < token.length(); length++) {
+            if (BENIGN.contains(token.substring(0, length)) && SUFFIXES.contains(token.substring(length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,153 @@
+package com.educonnect.llmservice.service;
+
+import com.educonnect.llmservice.config.RabbitMQConfig;
+import com.educonnect.llmservice.dto.moderation.ModerationDecision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Moderasyon batch consumer'ı için Micrometer metrikleri.
+ *
+ * - moderation.queue.depth: post.moderation.llm.queue'da bekleyen mesaj sayısı (scrape anında broker'dan okunur).
+ * - moderation.batch.latency: bir batch'in alınmasından post-service'e bildirilmesine kadar geçen süre.
+ * - moderation.batch.size: batch başına mesaj sayısı.
+ * - moderation.decisions: karar sayacı (decision=ZORBA|TEMIZ|UNRESOLVED).
+ * - moderation.llm.latency: tek bir LLM sınıflandırma çağrısının süresi.
+ * - moderation.verdict.cache (result=hit|miss) ve moderation.verdict.cache.hit.ratio: karar cache'i isabeti.
+ * - moderation.verdict.cache.saved: cache isabetleri ile kaçınılan tahmini LLM süresi (saniye);
+ *   her isabette o ana kadarki ortalama LLM süresi eklenir.
+ * - moderation.stage.decisions (stage=lexical|cache|llm, outcome=...) ve moderation.stage.latency (stage=...):
+ *   kademeli hattın her aşamasında verilen karar sayısı ve aşama süresi.
+ */
+@Component
+public class ModerationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer batchLatency;
+    private final DistributionSummary batchSize;
+    private final Counter zorbaDecisions;
+    private final Counter temizDecisions;
+    private final Counter unresolvedDecisions;
+    private final Timer llmLatency;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter savedLatencySeconds;
+    /** Aşama meter'ları ilk kullanımda bir kez kaydedilir; stage ve outcome değerleri sınırlı bir kümedir. */
+    private final ConcurrentMap<String, Counter> stageDecisions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> stageLatencies = new ConcurrentHashMap<>();
+
+    public ModerationMetrics(MeterRegistry meterRegistry, AmqpAdmin amqpAdmin) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("moderation.queue.depth", amqpAdmin, ModerationMetrics::queueDepth)
+                .description("Messages waiting in the LLM moderation queue")
+                .register(meterRegistry);
+
+        this.batchLatency = Timer.builder("moderation.batch.latency")
+                .description("Time to classify a moderation batch and report it to post-service")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("moderation.batch.size")
+                .description("Number of events per moderation batch")
+                .register(meterRegistry);
+        this.zorbaDecisions = decisionCounter(meterRegistry, "ZORBA");
+        this.temizDecisions = decisionCounter(meterRegistry, "TEMIZ");
+        this.unresolvedDecisions = decisionCounter(meterRegistry, "UNRESOLVED");
+
+        this.llmLatency = Timer.builder("moderation.llm.latency")
+                .description("Latency of a single LLM moderation call")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.cacheHits = Counter.builder("moderation.verdict.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("moderation.verdict.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.savedLatencySeconds = Counter.builder("moderation.verdict.cache.saved")
+                .description("Estimated LLM time avoided by verdict cache hits")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("moderation.verdict.cache.hit.ratio", this, ModerationMetrics::cacheHitRatio)
+                .description("Verdict cache hits / lookups since startup")
+                .register(meterRegistry);
+    }
+
+    public <T> T timeLlmCall(Supplier<T> call) {
+        return llmLatency.record(call);
+    }
+
+    public void recordCacheHit() {
+        cacheHits.increment();
+        savedLatencySeconds.increment(llmLatency.mean(TimeUnit.SECONDS));
+    }
+
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    /**
+     * Kademeli moderasyon hattındaki bir aşamanın sonucunu ve süresini kaydeder.
+     */
+    public void recordStage(String stage, String outcome, long elapsedNanos) {
+        stageDecisions.computeIfAbsent(stage + ':' + outcome, key -> Counter.builder("moderation.stage.decisions")
+                        .tag("stage", stage)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+        stageLatencies.computeIfAbsent(stage, key -> Timer.builder("moderation.stage.latency")
+                        .tag("stage", stage)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Timer.Sample startBatch(int size) {
+        batchSize.record(size);
+        return Timer.start();
+    }
+
+    public void stopBatch(Timer.Sample sample) {
+        sample.stop(batchLatency);
+    }
+
+    public void recordDecision(Optional<ModerationDecision> decision) {
+        if (decision.isEmpty()) {
+            unresolvedDecisions.increment();
+        } else if (decision.get() == ModerationDecision.ZORBA) {
+            zorbaDecisions.increment();
+        } else {
+            temizDecisions.increment();
+        }
+    }
+
+    private double cacheHitRatio() {
+        double lookups = cacheHits.count() + cacheMisses.count();
+        return lookups == 0 ? 0.0 : cacheHits.count() / lookups;
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("moderation.decisions")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    private static double queueDepth(AmqpAdmin amqpAdmin) {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(RabbitMQConfig.POST_MODERATION_LLM_QUEUE);
+            return info == null ? Double.NaN : info.getMessageCount();
+        } catch (Exception ex) {
+            return Double.NaN;
+        }
+    }
+}
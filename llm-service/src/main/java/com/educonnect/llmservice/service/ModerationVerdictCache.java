@@ -0,0 +1,89 @@
+package com.educonnect.llmservice.service;
+
+import com.educonnect.llmservice.dto.moderation.ModerationDecision;
+import com.educonnect.text.TurkishText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * İçerik hash'ine göre moderasyon kararı cache'i (Redis).
+ *
+ * - Anahtar: normalize edilmiş başlık + içeriğin SHA-256 özeti. Normalizasyon Unicode NFKC,
+ *   TurkishText katlaması ("DERSİ", "dersi", "DERSI" aynı) ve boşlukların tek boşluğa indirgenmesidir;
+ *   metni değiştirmeyen düzenlemeler ve birebir kopyalanan spam postlar aynı anahtara düşer.
+ *   Kara liste ve ön filtre gibi cache de Türkçe harfleri ASCII karşılığıyla aynı kabul eder.
+ * - Anahtara prompt sürümü eklenir; SYSTEM_PROMPT değiştiğinde PROMPT_VERSION artırılarak eski kararlar devre dışı kalır.
+ * - Redis erişilemezse cache miss kabul edilir, moderasyon LLM ile devam eder.
+ */
+@Component
+public class ModerationVerdictCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationVerdictCache.class);
+
+    static final String PROMPT_VERSION = "v3";
+    private static final String KEY_PREFIX = "moderation:verdict:" + PROMPT_VERSION + ":";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public ModerationVerdictCache(StringRedisTemplate redisTemplate,
+                                  @Value("${moderation.verdict-cache.ttl:7d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Başlık ve içerikten cache anahtarını üretir.
+     */
+    public static String keyFor(String title, String content) {
+        String normalized = normalize(title) + '\u0000' + normalize(content);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public Optional<ModerationDecision> get(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(ModerationDecision.valueOf(value));
+        } catch (Exception ex) {
+            log.warn("Moderation verdict cache GET failed, falling back to LLM. reason={}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, ModerationDecision decision) {
+        try {
+            redisTemplate.opsForValue().set(key, decision.name(), ttl);
+        } catch (Exception ex) {
+            log.warn("Moderation verdict cache PUT failed. reason={}", ex.getMessage());
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = TurkishText.fold(Normalizer.normalize(text, Normalizer.Form.NFKC));
+        return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+    }
+}
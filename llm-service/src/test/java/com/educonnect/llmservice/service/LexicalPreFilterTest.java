@@ -0,0 +1,78 @@
+package com.educonnect.llmservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LexicalPreFilterTest {
+
+    private final LexicalPreFilter filter = new LexicalPreFilter();
+
+    @Test
+    void abusiveTermWithSuffixIsRejectedWithoutLlm() {
+        assertEquals(LexicalPreFilter.Outcome.ZORBA, filter.evaluate("Soru", "Sen gerçekten SALAKSIN"));
+        assertEquals(LexicalPreFilter.Outcome.ZORBA, filter.evaluate("Gerizekalı", "başlıkta hakaret"));
+    }
+
+    @Test
+    void suspiciousTermIsEscalated() {
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Duyuru", "Bu hocadan nefret ediyorum"));
+    }
+
+    @Test
+    void shoutingTextIsEscalated() {
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE,
+                filter.evaluate("Duyuru", "BU DERSİ ALAN HERKES HEMEN BURAYA GELSİN"));
+    }
+
+    @Test
+    void shortPostWithKnownVocabularyIsAcceptedWithoutLlm() {
+        assertEquals(LexicalPreFilter.Outcome.TEMIZ,
+                filter.evaluate("Veri Yapıları ders notu", "Hafta 5: ikili arama ağaçları ve dengeleme."));
+        assertEquals(LexicalPreFilter.Outcome.TEMIZ, filter.evaluate(null, null));
+    }
+
+    @Test
+    void unknownWordsAreEscalatedByDefault() {
+        // Sözlükte olmayan argo veya kısaltmalar TEMIZ sayılmaz
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Ders notu", "hoca tam bir dangalak"));
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Vize", "aq"));
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE,
+                filter.evaluate("Veri Yapıları ders notu", "Hafta 5: AVL ağaçları"));
+    }
+
+    @Test
+    void shortBenignWordsDoNotMatchAsPrefix() {
+        // "kod" yalnızca birebir eşleşir; "kodumun" bilinmeyen kelimedir
+        assertEquals(LexicalPreFilter.Outcome.TEMIZ, filter.evaluate("Proje", "kod ekte"));
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Proje", "kodumun kodu"));
+    }
+
+    @Test
+    void insultGluedOntoKnownRootIsEscalated() {
+        // Kök bilinse bile kelime içinde geçen hakaret TEMIZ sayılmaz
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Duyuru", "hocasalak"));
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Ders", "Sınav notları hocaaptal"));
+    }
+
+    @Test
+    void knownRootWithUnlistedSuffixIsEscalated() {
+        // "-siz" kapalı ek listesinde yok; "bilgi" kökü kelimeyi tek başına açıklamaz
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Ders", "bilgisiz hoca"));
+        assertEquals(LexicalPreFilter.Outcome.TEMIZ, filter.evaluate("Ders", "bilgileri hocaya"));
+    }
+
+    @Test
+    void foldedHomographOfHarmfulWordIsNotBenign() {
+        // "katıl" katlandığında "katil" ile aynı yazılır
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Duyuru", "katil"));
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Duyuru", "Etkinliğe katıl"));
+    }
+
+    @Test
+    void longPostIsEscalatedEvenWithKnownVocabulary() {
+        String content = "ders notu ".repeat(21);
+
+        assertEquals(LexicalPreFilter.Outcome.ESCALATE, filter.evaluate("Duyuru", content));
+    }
+}
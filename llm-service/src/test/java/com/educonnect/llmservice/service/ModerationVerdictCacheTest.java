@@ -0,0 +1,51 @@
+package com.educonnect.llmservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModerationVerdictCacheTest {
+
+    @Test
+    void sameTextWithDifferentWhitespaceAndCaseProducesSameKey() {
+        assertEquals(
+                ModerationVerdictCache.keyFor("Ders Notu", "Final  konuları\n burada"),
+                ModerationVerdictCache.keyFor("  ders notu ", "final konuları burada")
+        );
+    }
+
+    @Test
+    void turkishCaseVariantsProduceSameKey() {
+        String key = ModerationVerdictCache.keyFor("Ders", "dersi ile ilgili");
+
+        assertEquals(key, ModerationVerdictCache.keyFor("DERS", "DERSİ İLE İLGİLİ"));
+        assertEquals(key, ModerationVerdictCache.keyFor("ders", "DERSI ILE ILGILI"));
+        assertEquals(key, ModerationVerdictCache.keyFor("Ders", "dersı ıle ılgılı"));
+        // Ayrıştırılmış (I + birleşik nokta) yazım da NFKC sonrası aynı anahtara düşer
+        assertEquals(key, ModerationVerdictCache.keyFor("Ders", "DERSI\u0307 ile ilgili"));
+    }
+
+    @Test
+    void keyCarriesPromptVersion() {
+        assertTrue(ModerationVerdictCache.keyFor("Ders", "notlar")
+                .startsWith("moderation:verdict:" + ModerationVerdictCache.PROMPT_VERSION + ":"));
+    }
+
+    @Test
+    void titleAndContentBoundaryIsPartOfKey() {
+        assertNotEquals(
+                ModerationVerdictCache.keyFor("ab", "c"),
+                ModerationVerdictCache.keyFor("a", "bc")
+        );
+    }
+
+    @Test
+    void nullFieldsAreTreatedAsEmpty() {
+        assertEquals(
+                ModerationVerdictCache.keyFor(null, null),
+                ModerationVerdictCache.keyFor("", " ")
+        );
+    }
+}
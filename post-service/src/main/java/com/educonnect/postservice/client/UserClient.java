@@ -4,7 +4,11 @@ import com.educonnect.postservice.dto.UserSummaryDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "user-service", path = "/api/users")
@@ -12,5 +16,11 @@ public interface UserClient {
 
     @GetMapping("/profile/{userId}")
     UserSummaryDto getUserById(@PathVariable("userId") UUID userId);
-}
 
+    /**
+     * Birden fazla kullanıcının özet bilgisini tek istekte çeker.
+     * Bulunamayan ID'ler cevapta yer almaz.
+     */
+    @PostMapping("/profile/batch")
+    List<UserSummaryDto> getUsersByIds(@RequestBody Collection<UUID> userIds);
+}
@@ -0,0 +1,96 @@
+package com.educonnect.postservice.client;
+
+import com.educonnect.postservice.dto.UserSummaryDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * user-service'ten çekilen yazar özetleri için kısa ömürlü yerel cache.
+ *
+ * Feed ve yorum sayfalarındaki benzersiz yazarlar tek seferde istenir:
+ * - Cache'te olanlar doğrudan döner.
+ * - Eksik olanlar toplu (batch) Feign çağrısı ile, 200'erli parçalar halinde çekilir.
+ * Böylece normal bir sayfa en fazla bir user-service çağrısına mal olur.
+ *
+ * user-service erişilemezse hata fırlatılmaz; cache'te bulunanlar ile devam edilir,
+ * yazar bilgisi eksik kalan post/yorumlar yine de listelenir.
+ */
+@Component
+public class UserSummaryCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSummaryCache.class);
+
+    // user-service /profile/batch en fazla bu kadar ID'yi çözer; daha fazlası parçalara bölünür
+    static final int MAX_BATCH_SIZE = 200;
+
+    private final UserClient userClient;
+    private final Cache<UUID, UserSummaryDto> cache;
+
+    public UserSummaryCache(UserClient userClient,
+                            @Value("${post.user-cache.ttl:60s}") Duration ttl,
+                            @Value("${post.user-cache.max-size:10000}") long maxSize) {
+        this.userClient = userClient;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Tek bir kullanıcının özetini döndürür. Bulunamazsa veya servis erişilemezse null döner.
+     */
+    public UserSummaryDto getUser(UUID userId) {
+        if (userId == null) {
+            return null;
+        }
+        return getUsers(List.of(userId)).get(userId);
+    }
+
+    /**
+     * Verilen kullanıcıların özetlerini döndürür.
+     * Cache'te olmayan ID'ler için en fazla bir toplu user-service çağrısı yapılır.
+     */
+    public Map<UUID, UserSummaryDto> getUsers(Collection<UUID> userIds) {
+        Set<UUID> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return cache.getAll(distinctIds, this::loadUsers);
+        } catch (Exception e) {
+            log.warn("⚠️ Kullanıcı bilgileri alınamadı (user-service erişilemez olabilir) — userIds: {}", distinctIds);
+            return cache.getAllPresent(distinctIds);
+        }
+    }
+
+    private Map<UUID, UserSummaryDto> loadUsers(Set<? extends UUID> missingIds) {
+        log.debug("user-service toplu çağrı — {} kullanıcı", missingIds.size());
+        List<UUID> ids = List.copyOf(missingIds);
+        Map<UUID, UserSummaryDto> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + MAX_BATCH_SIZE, ids.size()));
+            userClient.getUsersByIds(chunk).stream()
+                    .filter(user -> user.getId() != null)
+                    .forEach(user -> loaded.putIfAbsent(user.getId(), user));
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,53 @@
+package com.educonnect.postservice.config;
+
+import com.educonnect.postservice.dto.FeedPageSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class RedisCacheConfig {
+
+    public static final String PUBLISHED_FEED_CACHE = "publishedFeed";
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     @Value("${post.feed-cache.ttl:30s}") Duration feedCacheTtl) {
+        // Java 8 tarih/zaman tiplerini destekleyen ObjectMapper oluştur
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(5)) // TTL: 5 dakika
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .disableCachingNullValues();
+
+        // Feed sayfaları tipli serializer ile saklanır (record'lar final olduğu için tip bilgisi gömülmez)
+        RedisCacheConfiguration feedConfig = defaults
+                .entryTtl(feedCacheTtl)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, FeedPageSnapshot.class)));
+
+        // transactionAware kullanılmaz: ertelenen put/clear hataları çağıran tarafa commit sonrasında fırlar.
+        // Feed temizliği PublishedFeedCache içinde kendi afterCommit callback'i ile yapılır.
+        return RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withCacheConfiguration(PUBLISHED_FEED_CACHE, feedConfig)
+                .build();
+    }
+}
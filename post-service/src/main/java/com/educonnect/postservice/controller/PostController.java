@@ -1,6 +1,7 @@
 package com.educonnect.postservice.controller;
 
 import com.educonnect.postservice.dto.CreatePostRequest;
+import com.educonnect.postservice.dto.PostFeedResponse;
 import com.educonnect.postservice.dto.PostResponse;
 import com.educonnect.postservice.dto.RecentPostDto;
 import com.educonnect.postservice.dto.UpdatePostRequest;
@@ -20,6 +21,8 @@ import java.util.UUID;
 @RequestMapping("/api/posts")
 public class PostController {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final PostService postService;
 
     public PostController(PostService postService) {
@@ -93,6 +96,24 @@ public class PostController {
         return ResponseEntity.ok(postService.getPublishedPosts(pageable, currentUserId));
     }
 
+    /**
+     * Yayınlanmış postları cursor (keyset) tabanlı olarak listeler.
+     * İlk istekte cursor gönderilmez; sonraki sayfalar için yanıttaki nextCursor kullanılır.
+     * Sadece ROLE_STUDENT ve ROLE_CLUB_OFFICIAL rolleri erişebilir.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<PostFeedResponse> getPublishedPostFeed(
+            @RequestHeader("X-Authenticated-User-Id") String authenticatedUserId,
+            @RequestHeader("X-Authenticated-User-Roles") String roles,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        postService.validatePostAccess(roles);
+        UUID currentUserId = UUID.fromString(authenticatedUserId);
+        int boundedSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        return ResponseEntity.ok(postService.getPublishedPostsByCursor(cursor, boundedSize, currentUserId));
+    }
+
     /**
      * Kullanıcının kaydettiği (bookmark) postları sayfalayarak listeler.
      * Sadece ROLE_STUDENT ve ROLE_CLUB_OFFICIAL rolleri erişebilir.
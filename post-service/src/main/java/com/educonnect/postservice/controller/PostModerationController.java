@@ -2,6 +2,7 @@ package com.educonnect.postservice.controller;
 
 import com.educonnect.postservice.dto.ModerationDecision;
 import com.educonnect.postservice.dto.ModerationDecisionRequest;
+import com.educonnect.postservice.dto.PostModerationDecisionRequest;
 import com.educonnect.postservice.service.PostModerationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +24,9 @@ public class PostModerationController {
 
     private static final Logger log = LoggerFactory.getLogger(PostModerationController.class);
 
+    /** Tek bir toplu istekte kabul edilen en fazla karar sayısı. */
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final PostModerationService postModerationService;
 
     public PostModerationController(PostModerationService postModerationService) {
@@ -38,17 +44,50 @@ public class PostModerationController {
             return ResponseEntity.badRequest().build();
         }
 
-        UUID eventId = null;
-        if (request.eventId() != null && !request.eventId().isBlank()) {
-            try {
-                eventId = UUID.fromString(request.eventId());
-            } catch (IllegalArgumentException ex) {
-                log.warn("Invalid eventId received, ignoring. postId={}, eventId={}", postId, request.eventId());
+        UUID eventId = parseEventId(postId, request.eventId());
+        postModerationService.applyModeration(postId, decision.get(), eventId);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Toplu moderasyon kararı (llm-service batch consumer'ı için).
+     * Geçersiz kararlar loglanıp atlanır; geçerli olanlar tek transaction içinde uygulanır.
+     */
+    @PutMapping("/moderation/batch")
+    public ResponseEntity<Void> applyModerationDecisions(
+            @RequestBody List<PostModerationDecisionRequest> requests) {
+
+        if (requests.size() > MAX_BATCH_SIZE) {
+            log.warn("Moderation batch too large. size={}, max={}", requests.size(), MAX_BATCH_SIZE);
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<PostModerationService.Decision> decisions = new ArrayList<>(requests.size());
+        for (PostModerationDecisionRequest request : requests) {
+            Optional<ModerationDecision> decision = ModerationDecision.from(request.decision());
+            if (request.postId() == null || decision.isEmpty()) {
+                log.warn("Invalid moderation decision in batch, skipping. postId={}, decision={}",
+                        request.postId(), request.decision());
+                continue;
             }
+            decisions.add(new PostModerationService.Decision(
+                    request.postId(), decision.get(), parseEventId(request.postId(), request.eventId())));
         }
 
-        postModerationService.applyModeration(postId, decision.get(), eventId);
+        postModerationService.applyModerationDecisions(decisions);
         return ResponseEntity.accepted().build();
     }
+
+    private UUID parseEventId(UUID postId, String rawEventId) {
+        if (rawEventId == null || rawEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(rawEventId);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Invalid eventId received, ignoring. postId={}, eventId={}", postId, rawEventId);
+            return null;
+        }
+    }
 }
 
@@ -0,0 +1,17 @@
+package com.educonnect.postservice.dto;
+
+import java.util.List;
+
+/**
+ * Cache'lenen feed sayfası.
+ * İçerikteki liked/bookmarked bayrakları kullanıcıdan bağımsızdır (false);
+ * gerçek değerler okuma anında kullanıcıya göre uygulanır.
+ *
+ * totalElements sadece offset sayfaları için, nextCursor/hasNext sadece cursor feed'i için anlamlıdır.
+ */
+public record FeedPageSnapshot(
+        List<PostResponse> content,
+        long totalElements,
+        String nextCursor,
+        boolean hasNext
+) {}
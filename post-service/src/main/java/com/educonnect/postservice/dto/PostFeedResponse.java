@@ -0,0 +1,13 @@
+package com.educonnect.postservice.dto;
+
+import java.util.List;
+
+/**
+ * Cursor tabanlı feed yanıtı.
+ * nextCursor, sonraki sayfayı istemek için aynen geri gönderilir; son sayfada null'dır.
+ */
+public record PostFeedResponse(
+        List<PostResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {}
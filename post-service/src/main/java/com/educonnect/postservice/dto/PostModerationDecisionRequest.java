@@ -0,0 +1,13 @@
+package com.educonnect.postservice.dto;
+
+import java.util.UUID;
+
+/**
+ * Toplu moderasyon isteğindeki tek bir karar (llm-service → post-service).
+ */
+public record PostModerationDecisionRequest(
+        UUID postId,
+        String decision,
+        String eventId
+) {
+}
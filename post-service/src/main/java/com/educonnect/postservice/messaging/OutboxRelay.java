@@ -0,0 +1,208 @@
+package com.educonnect.postservice.messaging;
+
+import com.educonnect.postservice.model.OutboxEvent;
+import com.educonnect.postservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox_events tablosunu RabbitMQ'ya boşaltan relay.
+ *
+ * - Her turda en fazla batchSize kayıt FOR UPDATE SKIP LOCKED ile kilitlenir; birden fazla
+ *   instance çalışsa bile bir kayıt aynı anda tek relay tarafından işlenir.
+ * - Batch'teki tüm mesajlar gönderilir, ardından publisher confirm'ler toplu olarak beklenir.
+ * - ACK alınan kayıtlar silinir; NACK / timeout / bağlantı hatası alanlar attempts artırılarak
+ *   üstel geri çekilme (en fazla maxBackoff) ile tekrar planlanır. Kayıtlar hiçbir zaman atılmaz.
+ * - Teslim en az bir kez (at-least-once) garantilidir; consumer'lar eventId / referenceId ile idempotent'tir.
+ *
+ * Metrikler: outbox.pending, outbox.lag (en eski kaydın yaşı, saniye), outbox.published,
+ * outbox.publish.failures, outbox.relay.batch (batch süresi).
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final Duration maxBackoff;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       RabbitTemplate rabbitTemplate,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${post.outbox.batch-size:100}") int batchSize,
+                       @Value("${post.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${post.outbox.max-backoff:5m}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.maxBackoff = maxBackoff;
+
+        this.publishedCounter = Counter.builder("outbox.published").register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.publish.failures").register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch").register(meterRegistry);
+        Gauge.builder("outbox.pending", this, OutboxRelay::pendingCount)
+                .description("Outbox rows waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest unpublished outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bekleyen kayıtları boşaltır. Batch dolu geldiği sürece (en fazla MAX_BATCHES_PER_RUN) devam eder.
+     */
+    @Scheduled(fixedDelayString = "${post.outbox.relay-interval-ms:500}")
+    public void relay() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Integer processed;
+            try {
+                processed = transactionTemplate.execute(status -> relayBatch());
+            } catch (Exception e) {
+                log.warn("⚠️ Outbox relay turu başarısız, bir sonraki turda tekrar denenecek — reason: {}", e.getMessage());
+                return;
+            }
+            if (processed == null || processed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Timer.Sample sample = Timer.start();
+
+        List<CorrelationData> confirms = new ArrayList<>(batch.size());
+        List<String> sendErrors = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CorrelationData correlationData = new CorrelationData(event.getId().toString());
+            String sendError = null;
+            try {
+                rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlationData);
+            } catch (Exception e) {
+                sendError = "send failed: " + e.getMessage();
+            }
+            confirms.add(correlationData);
+            sendErrors.add(sendError);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        List<UUID> published = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            String error = sendErrors.get(i) != null ? sendErrors.get(i) : awaitConfirm(confirms.get(i), deadline);
+            if (error == null) {
+                published.add(event.getId());
+            } else {
+                scheduleRetry(event, error);
+            }
+        }
+
+        if (!published.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(published);
+            publishedCounter.increment(published.size());
+        }
+        if (published.size() < batch.size()) {
+            failureCounter.increment(batch.size() - published.size());
+            log.warn("⚠️ Outbox batch kısmen yayınlandı — published: {}, retry: {}",
+                    published.size(), batch.size() - published.size());
+        } else {
+            log.debug("Outbox batch yayınlandı — count: {}", published.size());
+        }
+        sample.stop(batchTimer);
+        return batch.size();
+    }
+
+    /**
+     * @return onay alındıysa null, aksi halde hata açıklaması
+     */
+    private String awaitConfirm(CorrelationData correlationData, long deadlineNanos) {
+        long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+        try {
+            CorrelationData.Confirm confirm = correlationData.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            return confirm.isAck() ? null : "nack: " + confirm.getReason();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } catch (Exception e) {
+            return "confirm not received: " + e.getClass().getSimpleName();
+        }
+    }
+
+    private void scheduleRetry(OutboxEvent event, String error) {
+        int attempts = event.getAttempts() + 1;
+        long backoffSeconds = Math.min(maxBackoff.toSeconds(), 1L << Math.min(attempts, 20));
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(event.getId().toString());
+        if (event.getTypeId() != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+        }
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private double pendingCount() {
+        try {
+            return outboxEventRepository.count();
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private double lagSeconds() {
+        try {
+            LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+            return oldest == null ? 0.0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0);
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
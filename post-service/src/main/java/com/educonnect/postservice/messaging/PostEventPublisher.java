@@ -1,38 +1,73 @@
 package com.educonnect.postservice.messaging;
 
 import com.educonnect.postservice.config.RabbitMQConfig;
+import com.educonnect.postservice.event.GamificationEvent;
 import com.educonnect.postservice.event.PostModerationEvent;
+import com.educonnect.postservice.model.OutboxEvent;
+import com.educonnect.postservice.repository.OutboxEventRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
- * Post moderasyon olaylarını RabbitMQ'ya yayınlar.
+ * Post moderasyon ve gamification olaylarını transactional outbox'a yazar.
  *
  * Mesaj kaybı önlemi:
- * - Service katmanı event'i transaction commit olduktan sonra publish edecek şekilde çağırır.
- * - Jackson2JsonMessageConverter ile JSON serileştirme kullanılır.
- * - Kuyruk durable olduğu için broker yeniden başlasa bile mesaj korunur.
+ * - Olay, iş verisi (post durumu) ile aynı transaction içinde outbox_events tablosuna yazılır;
+ *   ikisi birlikte commit olur veya birlikte geri alınır.
+ * - OutboxRelay kayıtları publisher confirm ile RabbitMQ'ya iletir, onay gelmezse tekrar dener.
+ * - Mesaj gövdesi ve __TypeId__ header'ı yazma anında aynı Jackson2JsonMessageConverter ile
+ *   üretilir; consumer'lar doğrudan publish ile aynı mesajı alır.
+ * - Request akışında broker'a senkron çağrı yapılmaz.
  */
 @Service
 public class PostEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(PostEventPublisher.class);
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageConverter messageConverter;
 
-    public PostEventPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public PostEventPublisher(OutboxEventRepository outboxEventRepository, MessageConverter messageConverter) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.messageConverter = messageConverter;
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishModerationEvent(PostModerationEvent event) {
-        log.info("📤 Moderasyon olayı yayınlanıyor — postId: {}, eventId: {}", event.getPostId(), event.getEventId());
-        rabbitTemplate.convertAndSend(
-                RabbitMQConfig.POST_MODERATION_EXCHANGE,
-                RabbitMQConfig.POST_MODERATION_ROUTING_KEY,
-                event
-        );
+        log.info("📤 Moderasyon olayı outbox'a yazılıyor — postId: {}, eventId: {}", event.getPostId(), event.getEventId());
+        enqueue(RabbitMQConfig.POST_MODERATION_EXCHANGE, RabbitMQConfig.POST_MODERATION_ROUTING_KEY,
+                event.getPostId(), event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishGamificationEvent(String routingKey, UUID aggregateId, GamificationEvent event) {
+        log.info("📤 Gamification olayı outbox'a yazılıyor — aggregateId: {}, actionType: {}",
+                aggregateId, event.getActionType());
+        enqueue(RabbitMQConfig.GAMIFICATION_EXCHANGE, routingKey, aggregateId, event);
     }
-}
 
+    private void enqueue(String exchange, String routingKey, UUID aggregateId, Object payload) {
+        Message message = messageConverter.toMessage(payload, new MessageProperties());
+        Object typeId = message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateId(aggregateId);
+        outboxEvent.setExchange(exchange);
+        outboxEvent.setRoutingKey(routingKey);
+        outboxEvent.setTypeId(typeId == null ? null : typeId.toString());
+        outboxEvent.setPayload(new String(message.getBody(), StandardCharsets.UTF_8));
+        outboxEvent.setNextAttemptAt(LocalDateTime.now());
+        outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 /**
  * RabbitMQ'dan PostModerationEvent'leri tüketen ve içerik moderasyonu yapan consumer.
  *
@@ -57,9 +59,12 @@ public class PostModerationConsumer {
         log.info("Moderation event received (mock). postId={}, eventId={}", event.getPostId(), event.getEventId());
 
         String combinedText = event.getTitle() + " " + event.getContent();
-        boolean containsBadWord = blacklistProvider.containsBadWord(combinedText);
+        Set<String> badWords = blacklistProvider.findBadWords(combinedText);
+        if (!badWords.isEmpty()) {
+            log.info("Blacklist match. postId={}, matched={}", event.getPostId(), badWords);
+        }
 
-        ModerationDecision decision = containsBadWord ? ModerationDecision.ZORBA : ModerationDecision.TEMIZ;
+        ModerationDecision decision = badWords.isEmpty() ? ModerationDecision.TEMIZ : ModerationDecision.ZORBA;
         postModerationService.applyModeration(event.getPostId(), decision, event.getEventId());
     }
 }
@@ -0,0 +1,43 @@
+package com.educonnect.postservice.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Moderasyon kara listesindeki tek bir kelime.
+ * BlacklistProvider aktif kelimeleri periyodik olarak yükleyip eşleştiriciyi yeniden derler.
+ */
+@Entity
+@Table(name = "blacklist_words", schema = "post_db",
+        uniqueConstraints = @UniqueConstraint(name = "uq_blacklist_word", columnNames = "word"))
+public class BlacklistWord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String word;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BlacklistWord() {}
+
+    // Getter & Setter
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getWord() { return word; }
+    public void setWord(String word) { this.word = word; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
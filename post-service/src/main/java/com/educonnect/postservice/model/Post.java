@@ -12,7 +12,8 @@ import java.util.UUID;
 @Table(name = "posts", schema = "post_db", indexes = {
         @Index(name = "idx_post_title", columnList = "title"),
         @Index(name = "idx_post_status", columnList = "status"),
-        @Index(name = "idx_post_author_id", columnList = "author_id")
+        @Index(name = "idx_post_author_id", columnList = "author_id"),
+        @Index(name = "idx_post_feed_keyset", columnList = "status, created_at DESC, id DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
@@ -38,6 +39,16 @@ public class Post {
     @Column(name = "author_id", nullable = false)
     private UUID authorId;
 
+    /**
+     * Denormalize sayaçlar. Sadece repository'deki atomik UPDATE sorguları ile değiştirilir;
+     * entity save edilirken eski değerin üzerine yazılmaması için insertable/updatable=false.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private long likeCount;
+
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -67,6 +78,12 @@ public class Post {
     public UUID getAuthorId() { return authorId; }
     public void setAuthorId(UUID authorId) { this.authorId = authorId; }
 
+    public long getLikeCount() { return likeCount; }
+    public void setLikeCount(long likeCount) { this.likeCount = likeCount; }
+
+    public long getCommentCount() { return commentCount; }
+    public void setCommentCount(long commentCount) { this.commentCount = commentCount; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
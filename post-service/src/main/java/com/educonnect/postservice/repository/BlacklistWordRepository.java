@@ -0,0 +1,19 @@
+package com.educonnect.postservice.repository;
+
+import com.educonnect.postservice.model.BlacklistWord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BlacklistWordRepository extends JpaRepository<BlacklistWord, UUID> {
+
+    /**
+     * Aktif kara liste kelimelerini döndürür (sadece kelime kolonu okunur).
+     */
+    @Query("SELECT w.word FROM BlacklistWord w WHERE w.active = true")
+    List<String> findActiveWords();
+}
@@ -29,5 +29,10 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
      * Bir post'a ait yayınlanmış yorum sayısını döndürür (üst + yanıt dahil).
      */
     long countByPostIdAndStatus(UUID postId, CommentStatus status);
-}
 
+    /**
+     * Bir üst yoruma ait belirli statüdeki yanıt sayısını döndürür.
+     * Üst yorum silindiğinde (cascade) post sayacından düşülecek yanıtları hesaplamak için kullanılır.
+     */
+    long countByParentCommentIdAndStatus(UUID parentCommentId, CommentStatus status);
+}
@@ -0,0 +1,34 @@
+package com.educonnect.postservice.repository;
+
+import com.educonnect.postservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Zamanı gelmiş en eski kayıtları kilitleyerek döndürür.
+     * SKIP LOCKED sayesinde birden fazla instance aynı satırları iki kez yayınlamaz.
+     */
+    @Query(value = """
+            SELECT * FROM post_db.outbox_events
+            WHERE next_attempt_at <= :now
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Yayınlanmayı bekleyen en eski kaydın oluşturulma zamanı (lag hesabı için). Tablo boşsa null.
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
@@ -4,9 +4,13 @@ import com.educonnect.postservice.model.PostBookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -26,5 +30,11 @@ public interface PostBookmarkRepository extends JpaRepository<PostBookmark, UUID
      * Kullanıcının kaydettiği post'ları sayfalayarak döndürür.
      */
     Page<PostBookmark> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
-}
 
+    /**
+     * Verilen post'lardan kullanıcının kaydettiklerinin ID'lerini döndürür.
+     * Feed sayfasındaki "bookmarked" bayrakları için sayfa başına tek sorgu çalışır.
+     */
+    @Query("SELECT b.postId FROM PostBookmark b WHERE b.userId = :userId AND b.postId IN :postIds")
+    Set<UUID> findBookmarkedPostIds(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+}
@@ -2,9 +2,14 @@ package com.educonnect.postservice.repository;
 
 import com.educonnect.postservice.model.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -24,5 +29,32 @@ public interface PostLikeRepository extends JpaRepository<PostLike, UUID> {
      * Bir post'un toplam beğeni sayısını döndürür.
      */
     long countByPostId(UUID postId);
-}
 
+    /**
+     * Verilen post'lardan kullanıcının beğendiklerinin ID'lerini döndürür.
+     * Feed sayfasındaki "liked" bayrakları için sayfa başına tek sorgu çalışır.
+     */
+    @Query("SELECT l.postId FROM PostLike l WHERE l.userId = :userId AND l.postId IN :postIds")
+    Set<UUID> findLikedPostIds(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * Beğeniyi idempotent olarak ekler. Aynı (post_id, user_id) zaten varsa hiçbir şey yapmaz.
+     * Eşzamanlı çift tıklamalarda unique constraint hatası yerine 0 döner.
+     *
+     * @return eklenen satır sayısı (1 veya 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_db.post_likes (id, post_id, user_id, created_at) " +
+            "VALUES (gen_random_uuid(), :postId, :userId, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (post_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") UUID postId, @Param("userId") UUID userId);
+
+    /**
+     * Kullanıcının beğenisini siler.
+     *
+     * @return silinen satır sayısı (1 veya 0)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") UUID postId, @Param("userId") UUID userId);
+}
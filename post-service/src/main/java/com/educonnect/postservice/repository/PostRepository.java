@@ -4,9 +4,15 @@ import com.educonnect.postservice.model.Post;
 import com.educonnect.postservice.model.PostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +26,25 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
      */
     Page<Post> findByStatus(PostStatus status, Pageable pageable);
 
+    /**
+     * Cursor tabanlı feed'in ilk sayfası.
+     * Slice döndüğü için COUNT(*) sorgusu çalışmaz; idx_post_feed_keyset index'i kullanılır.
+     */
+    @Query("SELECT p FROM Post p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedFirstSlice(@Param("status") PostStatus status, Pageable pageable);
+
+    /**
+     * Cursor tabanlı feed'in sonraki sayfaları: (createdAt, id) ikilisinden kesinlikle "eski" olan postlar.
+     * OFFSET kullanılmadığından sayfa derinliği sorgu maliyetini etkilemez.
+     */
+    @Query("SELECT p FROM Post p WHERE p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedSliceAfter(@Param("status") PostStatus status,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") UUID id,
+                                   Pageable pageable);
+
     List<Post> findTop5ByAuthorIdAndStatusOrderByCreatedAtDesc(UUID authorId, PostStatus status);
 
     /**
@@ -27,5 +52,61 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
      * Service katmanında yetki doğrulaması için kullanılır.
      */
     boolean existsByIdAndAuthorId(UUID id, UUID authorId);
-}
 
+    /**
+     * Beğeni sayacını atomik olarak artırır/azaltır.
+     * Sayaç sıfırın altına düşürülmez. updated_at değişmez (auditing tetiklenmez).
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta " +
+            "WHERE p.id = :postId AND p.likeCount + :delta >= 0")
+    int adjustLikeCount(@Param("postId") UUID postId, @Param("delta") long delta);
+
+    /**
+     * Yayınlanmış yorum sayacını atomik olarak artırır/azaltır.
+     * Sayaç sıfırın altına düşürülmez. updated_at değişmez (auditing tetiklenmez).
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta " +
+            "WHERE p.id = :postId AND p.commentCount + :delta >= 0")
+    int adjustCommentCount(@Param("postId") UUID postId, @Param("delta") long delta);
+
+    /**
+     * Post'un güncel beğeni sayacını döndürür (COUNT(*) yerine tek kolon okuması).
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    long findLikeCountById(@Param("postId") UUID postId);
+
+    /**
+     * like_count değeri post_likes satır sayısından sapmış post'ları döndürür (sayaç uzlaştırması için).
+     */
+    @Query(value = "SELECT p.id FROM post_db.posts p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_db.post_likes GROUP BY post_id) l " +
+            "ON l.post_id = p.id " +
+            "WHERE p.like_count <> COALESCE(l.cnt, 0)", nativeQuery = true)
+    List<UUID> findPostIdsWithLikeCountDrift();
+
+    /**
+     * Post'un beğeni sayacını post_likes satırlarından yeniden hesaplar.
+     */
+    @Modifying
+    @Query(value = "UPDATE post_db.posts SET like_count = " +
+            "(SELECT COUNT(*) FROM post_db.post_likes WHERE post_id = :postId) " +
+            "WHERE id = :postId", nativeQuery = true)
+    int recountLikeCount(@Param("postId") UUID postId);
+
+    /**
+     * Verilen post'ların güncel sayaçları (feed cache snapshot'ları üzerine okuma anında uygulanır).
+     */
+    @Query("SELECT p.id AS id, p.likeCount AS likeCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.id IN :postIds")
+    List<PostCounters> findCountersByIdIn(@Param("postIds") Collection<UUID> postIds);
+
+    interface PostCounters {
+        UUID getId();
+
+        long getLikeCount();
+
+        long getCommentCount();
+    }
+}
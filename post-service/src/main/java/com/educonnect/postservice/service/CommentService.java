@@ -1,6 +1,6 @@
 package com.educonnect.postservice.service;
 
-import com.educonnect.postservice.client.UserClient;
+import com.educonnect.postservice.client.UserSummaryCache;
 import com.educonnect.postservice.dto.CommentResponse;
 import com.educonnect.postservice.dto.CreateCommentRequest;
 import com.educonnect.postservice.dto.UserSummaryDto;
@@ -9,6 +9,7 @@ import com.educonnect.postservice.exception.PostNotFoundException;
 import com.educonnect.postservice.exception.UnauthorizedPostAccessException;
 import com.educonnect.postservice.model.Comment;
 import com.educonnect.postservice.model.CommentStatus;
+import com.educonnect.postservice.model.Post;
 import com.educonnect.postservice.model.PostStatus;
 import com.educonnect.postservice.repository.CommentRepository;
 import com.educonnect.postservice.repository.PostRepository;
@@ -23,8 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -44,16 +45,16 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final BlacklistProvider blacklistProvider;
-    private final UserClient userClient;
+    private final UserSummaryCache userSummaryCache;
 
     public CommentService(CommentRepository commentRepository,
                           PostRepository postRepository,
                           BlacklistProvider blacklistProvider,
-                          UserClient userClient) {
+                          UserSummaryCache userSummaryCache) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.blacklistProvider = blacklistProvider;
-        this.userClient = userClient;
+        this.userSummaryCache = userSummaryCache;
     }
 
     /**
@@ -90,8 +91,8 @@ public class CommentService {
         }
 
         // Blacklist kontrolü — senkron moderasyon
-        boolean containsBadWord = blacklistProvider.containsBadWord(request.content());
-        CommentStatus status = containsBadWord ? CommentStatus.REJECTED : CommentStatus.PUBLISHED;
+        Set<String> badWords = blacklistProvider.findBadWords(request.content());
+        CommentStatus status = badWords.isEmpty() ? CommentStatus.PUBLISHED : CommentStatus.REJECTED;
 
         Comment comment = new Comment();
         comment.setPostId(postId);
@@ -101,9 +102,11 @@ public class CommentService {
         comment.setStatus(status);
 
         Comment savedComment = commentRepository.save(comment);
+        incrementCommentCountIfPublished(savedComment);
 
         if (status == CommentStatus.REJECTED) {
-            log.warn("🚫 Yorum reddedildi (kötü kelime tespit edildi) — commentId: {}, postId: {}", savedComment.getId(), postId);
+            log.warn("🚫 Yorum reddedildi (kötü kelime tespit edildi) — commentId: {}, postId: {}, matched: {}",
+                    savedComment.getId(), postId, badWords);
         } else {
             log.info("💬 Yorum oluşturuldu — commentId: {}, postId: {}, authorId: {}", savedComment.getId(), postId, authorId);
         }
@@ -130,6 +133,7 @@ public class CommentService {
                     "Bu yorumu sadece yazarı silebilir. commentId: " + commentId);
         }
 
+        decrementCommentCount(comment);
         commentRepository.delete(comment);
         log.info("🗑️ Yorum silindi — commentId: {}, postId: {}, authorId: {}", commentId, postId, authorId);
     }
@@ -140,7 +144,7 @@ public class CommentService {
      *
      * N+1 optimizasyonu:
      * - Üst yorumlar tek sorgu ile çekilir.
-     * - Benzersiz authorId'ler toplanıp batch olarak user bilgileri çekilir.
+     * - Benzersiz authorId'ler toplanıp tek bir toplu user-service çağrısı ile user bilgileri çekilir.
      * - Her üst yorum için yanıtlar ayrı sorgu ile alınır (sayfa başına yorum sayısı sınırlı olduğu için kabul edilebilir).
      */
     @Transactional(readOnly = true)
@@ -171,14 +175,8 @@ public class CommentService {
                 .map(Comment::getAuthorId)
                 .forEach(allAuthorIds::add);
 
-        // Benzersiz author bilgilerini batch olarak çek
-        Map<UUID, UserSummaryDto> userCache = allAuthorIds.stream()
-                .distinct()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        this::fetchUserSafely,
-                        (existing, replacement) -> existing
-                ));
+        // Benzersiz author bilgilerini tek toplu çağrı ile çek
+        Map<UUID, UserSummaryDto> userCache = userSummaryCache.getUsers(allAuthorIds);
 
         return topLevelComments.map(comment -> {
             List<Comment> replies = repliesMap.getOrDefault(comment.getId(), Collections.emptyList());
@@ -193,7 +191,9 @@ public class CommentService {
      * Bir post'a ait yayınlanmış yorum sayısını döndürür.
      */
     public long getPublishedCommentCount(UUID postId) {
-        return commentRepository.countByPostIdAndStatus(postId, CommentStatus.PUBLISHED);
+        return postRepository.findById(postId)
+                .map(Post::getCommentCount)
+                .orElseThrow(() -> new PostNotFoundException("Post bulunamadı: " + postId));
     }
 
     /**
@@ -213,8 +213,8 @@ public class CommentService {
         }
 
         // Blacklist kontrolü
-        boolean containsBadWord = blacklistProvider.containsBadWord(content);
-        CommentStatus status = containsBadWord ? CommentStatus.REJECTED : CommentStatus.PUBLISHED;
+        Set<String> badWords = blacklistProvider.findBadWords(content);
+        CommentStatus status = badWords.isEmpty() ? CommentStatus.PUBLISHED : CommentStatus.REJECTED;
 
         Comment reply = new Comment();
         reply.setPostId(parentComment.getPostId());
@@ -224,9 +224,11 @@ public class CommentService {
         reply.setStatus(status);
 
         Comment savedReply = commentRepository.save(reply);
+        incrementCommentCountIfPublished(savedReply);
 
         if (status == CommentStatus.REJECTED) {
-            log.warn("🚫 Yanıt reddedildi (kötü kelime tespit edildi) — replyId: {}, parentId: {}", savedReply.getId(), parentCommentId);
+            log.warn("🚫 Yanıt reddedildi (kötü kelime tespit edildi) — replyId: {}, parentId: {}, matched: {}",
+                    savedReply.getId(), parentCommentId, badWords);
         } else {
             log.info("↩️ Yanıt oluşturuldu — replyId: {}, parentId: {}, authorId: {}", savedReply.getId(), parentCommentId, authorId);
         }
@@ -246,15 +248,10 @@ public class CommentService {
 
         List<Comment> replies = commentRepository.findByParentCommentIdAndStatus(commentId, CommentStatus.PUBLISHED);
 
-        // Benzersiz author bilgilerini batch olarak çek
-        Map<UUID, UserSummaryDto> userCache = replies.stream()
+        // Benzersiz author bilgilerini tek toplu çağrı ile çek
+        Map<UUID, UserSummaryDto> userCache = userSummaryCache.getUsers(replies.stream()
                 .map(Comment::getAuthorId)
-                .distinct()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        this::fetchUserSafely,
-                        (existing, replacement) -> existing
-                ));
+                .toList());
 
         return replies.stream()
                 .map(reply -> mapToResponse(reply, userCache.get(reply.getAuthorId()), Collections.emptyList()))
@@ -265,6 +262,31 @@ public class CommentService {
     // PRIVATE HELPER METOTLAR
     // ═══════════════════════════════════════════════
 
+    /**
+     * Yayınlanan yorum/yanıt için post'un comment_count sayacını artırır.
+     * REJECTED yorumlar sayılmaz.
+     */
+    private void incrementCommentCountIfPublished(Comment comment) {
+        if (comment.getStatus() == CommentStatus.PUBLISHED) {
+            postRepository.adjustCommentCount(comment.getPostId(), 1);
+        }
+    }
+
+    /**
+     * Silinen yorum için post'un comment_count sayacını azaltır.
+     * Üst seviye yorum silinirse yanıtları da FK cascade ile silineceğinden
+     * yayınlanmış yanıt sayısı da sayaçtan düşülür.
+     */
+    private void decrementCommentCount(Comment comment) {
+        long removed = comment.getStatus() == CommentStatus.PUBLISHED ? 1 : 0;
+        if (comment.getParentCommentId() == null) {
+            removed += commentRepository.countByParentCommentIdAndStatus(comment.getId(), CommentStatus.PUBLISHED);
+        }
+        if (removed > 0) {
+            postRepository.adjustCommentCount(comment.getPostId(), -removed);
+        }
+    }
+
     private CommentResponse mapToResponse(Comment comment, UserSummaryDto user, List<CommentResponse> replies) {
         String authorName = null;
         if (user != null) {
@@ -286,12 +308,7 @@ public class CommentService {
     }
 
     private UserSummaryDto fetchUserSafely(UUID userId) {
-        try {
-            return userClient.getUserById(userId);
-        } catch (Exception e) {
-            log.warn("⚠️ Kullanıcı bilgisi alınamadı — userId: {}", userId);
-            return null;
-        }
+        return userSummaryCache.getUser(userId);
     }
 }
 
@@ -0,0 +1,202 @@
+package com.educonnect.postservice.service;
+
+import com.educonnect.postservice.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * posts.like_count sayacı için write-behind tampon.
+ *
+ * Beğeni satırları (post_likes) her istekte senkron ve kalıcı olarak yazılır;
+ * sadece denormalize sayaç güncellemesi bu tamponda biriktirilir:
+ * - Her post için bir LongAdder tutulur. LongAdder hücrelere bölünmüş (striped) olduğundan
+ *   aynı post'a gelen eşzamanlı beğeniler tek bir satır kilidi veya CAS üzerinde yarışmaz.
+ * - flush() birikmiş delta'ları tek transaction içinde toplu olarak DB'ye yazar.
+ *   Yazma başarısız olursa delta'lar tamponda kalır ve bir sonraki turda tekrar denenir.
+ * - Gösterilen sayı = DB'deki sayaç + henüz flush edilmemiş delta.
+ *
+ * Tutarlılık notu: Gösterilen sayı flush anında kısa süreliğine ±delta sapabilir (eventual consistency).
+ * Süreç düzgün kapanırsa (@PreDestroy) bekleyen delta'lar yazılır; ani çökmede en fazla
+ * bir flush aralığındaki sayaç güncellemesi kaybolabilir, beğeni satırlarının kendisi kaybolmaz.
+ * Bu kayıplar ve sıfır korumasına takılan güncellemeler reconcile() ile post_likes'tan yeniden sayılarak düzeltilir.
+ *
+ * Flush sonrası toplamı sıfır olan girdiler haritadan çıkarılır. Çıkarma anında record() ile yarışan bir
+ * artış emekliye ayrılan adder'a düşebilir; bu adder'lar bir sonraki flush'ta boşaltılıp kalan delta canlı
+ * haritaya geri taşınır.
+ */
+@Component
+public class LikeCounterBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeCounterBuffer.class);
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<UUID, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    // Son flush'ta haritadan çıkarılan adder'lar; geç kalan artışlar bir sonraki flush'ta geri taşınır
+    private final ConcurrentHashMap<UUID, LongAdder> retiredDeltas = new ConcurrentHashMap<>();
+
+    public LikeCounterBuffer(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Bir post için beğeni sayacı değişimini (+1 / -1) tampona ekler.
+     */
+    public void record(UUID postId, long delta) {
+        pendingDeltas.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * DB'deki sayaç değerine henüz flush edilmemiş delta'yı ekleyerek gösterilecek sayıyı döndürür.
+     */
+    public long currentCount(UUID postId, long persistedCount) {
+        LongAdder pending = pendingDeltas.get(postId);
+        long count = pending == null ? persistedCount : persistedCount + pending.sum();
+        return Math.max(count, 0);
+    }
+
+    /**
+     * Silinen post'un bekleyen delta'larını atar.
+     */
+    public void discard(UUID postId) {
+        pendingDeltas.remove(postId);
+        retiredDeltas.remove(postId);
+    }
+
+    /**
+     * Birikmiş delta'ları tek transaction içinde DB'ye yazar.
+     * Delta okunduktan sonra gelen artışlar kaybolmaz: tampondan sadece yazılan miktar düşülür.
+     *
+     * @return DB'ye yazılan post sayısı
+     */
+    @Scheduled(fixedDelayString = "${post.like-counter.flush-interval-ms:1000}")
+    public synchronized int flush() {
+        drainRetired();
+
+        Map<UUID, Long> snapshot = new HashMap<>();
+        pendingDeltas.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                snapshot.put(postId, delta);
+            } else {
+                retireIfIdle(postId, adder);
+            }
+        });
+
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> unmatched = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                unmatched.clear();
+                snapshot.forEach((postId, delta) -> {
+                    if (postRepository.adjustLikeCount(postId, delta) == 0) {
+                        unmatched.add(postId);
+                    }
+                });
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ Beğeni sayaçları flush edilemedi, bir sonraki turda tekrar denenecek — postCount: {}, reason: {}",
+                    snapshot.size(), e.getMessage());
+            return 0;
+        }
+
+        snapshot.forEach((postId, delta) -> {
+            LongAdder adder = pendingDeltas.get(postId);
+            if (adder != null) {
+                adder.add(-delta);
+                retireIfIdle(postId, adder);
+            }
+        });
+
+        // Post silinmiş veya sayaç sıfırın altına inecekti: tekrar denemek işe yaramaz, sayacı satırlardan düzelt
+        if (!unmatched.isEmpty()) {
+            log.warn("⚠️ Beğeni sayacı güncellenemedi (post yok veya sayaç sapmış), yeniden sayılacak — postIds: {}", unmatched);
+            recount(unmatched);
+        }
+
+        log.debug("Beğeni sayaçları flush edildi — postCount: {}", snapshot.size());
+        return snapshot.size();
+    }
+
+    /**
+     * Sapmış like_count değerlerini post_likes satırlarından yeniden hesaplar (ani çökmede kaybolan delta'lar,
+     * sıfır korumasına takılan güncellemeler). Önce tampon flush edilir; bu instance'ta hâlâ bekleyen delta'sı
+     * olan post'lar atlanır, bir sonraki çalışmada düzeltilir.
+     *
+     * @return düzeltilen post sayısı
+     */
+    @Scheduled(cron = "${post.like-counter.reconcile-cron:0 45 4 * * *}", zone = "Europe/Istanbul")
+    public synchronized int reconcile() {
+        flush();
+        List<UUID> drifted = postRepository.findPostIdsWithLikeCountDrift();
+        int fixed = recount(drifted);
+        if (fixed > 0) {
+            log.info("Beğeni sayaçları uzlaştırıldı — düzeltilen post: {}", fixed);
+        }
+        return fixed;
+    }
+
+    private int recount(List<UUID> postIds) {
+        int fixed = 0;
+        for (UUID postId : postIds) {
+            if (hasPending(postId)) {
+                continue;
+            }
+            try {
+                Integer updated = transactionTemplate.execute(status -> postRepository.recountLikeCount(postId));
+                fixed += updated == null ? 0 : updated;
+            } catch (Exception e) {
+                log.warn("⚠️ Beğeni sayacı yeniden sayılamadı — postId: {}, reason: {}", postId, e.getMessage());
+            }
+        }
+        return fixed;
+    }
+
+    private boolean hasPending(UUID postId) {
+        LongAdder adder = pendingDeltas.get(postId);
+        return adder != null && adder.sum() != 0;
+    }
+
+    private void retireIfIdle(UUID postId, LongAdder adder) {
+        if (adder.sum() == 0 && pendingDeltas.remove(postId, adder)) {
+            retiredDeltas.put(postId, adder);
+        }
+    }
+
+    // Önceki flush'ta çıkarılan adder'lara yarış sırasında düşen artışları canlı haritaya taşır
+    private void drainRetired() {
+        retiredDeltas.forEach((postId, adder) -> {
+            retiredDeltas.remove(postId, adder);
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                record(postId, late);
+            }
+        });
+    }
+
+    int trackedPostCount() {
+        return pendingDeltas.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
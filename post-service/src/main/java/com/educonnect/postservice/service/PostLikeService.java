@@ -2,7 +2,7 @@ package com.educonnect.postservice.service;
 
 import com.educonnect.postservice.dto.LikeResponse;
 import com.educonnect.postservice.exception.PostNotFoundException;
-import com.educonnect.postservice.model.PostLike;
+import com.educonnect.postservice.model.Post;
 import com.educonnect.postservice.model.PostStatus;
 import com.educonnect.postservice.repository.PostLikeRepository;
 import com.educonnect.postservice.repository.PostRepository;
@@ -10,13 +10,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Beğeni iş mantığı katmanı.
  * Toggle (beğen/beğeniyi geri al) mantığı ile çalışır.
+ *
+ * Sıcak yol (hot path):
+ * - Post tek bir findById ile doğrulanır.
+ * - Beğeni satırı idempotent INSERT ... ON CONFLICT DO NOTHING / DELETE ile senkron ve kalıcı yazılır;
+ *   etkilenen satır sayısı sayesinde ayrıca exists/COUNT sorgusu çalıştırılmaz.
+ * - posts.like_count güncellemesi LikeCounterBuffer'a bırakılır ve toplu olarak flush edilir.
+ * - Yanıttaki sayı = post satırındaki sayaç + bekleyen delta.
  */
 @Service
 public class PostLikeService {
@@ -25,26 +33,30 @@ public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
+    private final LikeCounterBuffer likeCounterBuffer;
 
-    public PostLikeService(PostLikeRepository postLikeRepository, PostRepository postRepository) {
+    public PostLikeService(PostLikeRepository postLikeRepository,
+                           PostRepository postRepository,
+                           LikeCounterBuffer likeCounterBuffer) {
         this.postLikeRepository = postLikeRepository;
         this.postRepository = postRepository;
+        this.likeCounterBuffer = likeCounterBuffer;
     }
 
     /**
      * Toggle like: Beğenmişse geri al, beğenmemişse beğen.
+     * Önce silme denenir; silinecek satır yoksa beğeni eklenir.
      */
     @Transactional
     public LikeResponse toggleLike(UUID postId, UUID userId) {
-        validateLikeablePost(postId);
+        Post post = validateLikeablePost(postId);
 
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, userId);
-
-        if (existingLike.isPresent()) {
-            return unlikePost(postId, userId);
+        long removed = removeLike(postId, userId);
+        if (removed != 0) {
+            return new LikeResponse(false, displayedCount(postId, post, removed));
         }
 
-        return likePost(postId, userId);
+        return new LikeResponse(true, displayedCount(postId, post, addLike(postId, userId)));
     }
 
     /**
@@ -52,21 +64,9 @@ public class PostLikeService {
      */
     @Transactional
     public LikeResponse likePost(UUID postId, UUID userId) {
-        validateLikeablePost(postId);
-
-        if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
-            long count = postLikeRepository.countByPostId(postId);
-            return new LikeResponse(true, count);
-        }
-
-        PostLike like = new PostLike();
-        like.setPostId(postId);
-        like.setUserId(userId);
-        postLikeRepository.save(like);
-        log.info("👍 Post beğenildi — postId: {}, userId: {}", postId, userId);
+        Post post = validateLikeablePost(postId);
 
-        long count = postLikeRepository.countByPostId(postId);
-        return new LikeResponse(true, count);
+        return new LikeResponse(true, displayedCount(postId, post, addLike(postId, userId)));
     }
 
     /**
@@ -74,24 +74,16 @@ public class PostLikeService {
      */
     @Transactional
     public LikeResponse unlikePost(UUID postId, UUID userId) {
-        validateLikeablePost(postId);
-
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, userId);
-
-        if (existingLike.isPresent()) {
-            postLikeRepository.delete(existingLike.get());
-            log.info("👎 Beğeni geri alındı — postId: {}, userId: {}", postId, userId);
-        }
+        Post post = validateLikeablePost(postId);
 
-        long count = postLikeRepository.countByPostId(postId);
-        return new LikeResponse(false, count);
+        return new LikeResponse(false, displayedCount(postId, post, removeLike(postId, userId)));
     }
 
     /**
-     * Bir post'un toplam beğeni sayısını döndürür.
+     * Bir post'un toplam beğeni sayısını döndürür (denormalize sayaç + bekleyen delta).
      */
     public long getLikeCount(UUID postId) {
-        return postLikeRepository.countByPostId(postId);
+        return likeCounterBuffer.currentCount(postId, postRepository.findLikeCountById(postId));
     }
 
     /**
@@ -101,13 +93,62 @@ public class PostLikeService {
         return postLikeRepository.existsByPostIdAndUserId(postId, userId);
     }
 
-    private void validateLikeablePost(UUID postId) {
-        var post = postRepository.findById(postId)
+    /**
+     * @return sayaç değişimi (+1 eklendiyse, 0 zaten beğenilmişse)
+     */
+    private long addLike(UUID postId, UUID userId) {
+        if (postLikeRepository.insertIfAbsent(postId, userId) == 0) {
+            return 0;
+        }
+        recordAfterCommit(postId, 1);
+        log.info("👍 Post beğenildi — postId: {}, userId: {}", postId, userId);
+        return 1;
+    }
+
+    /**
+     * @return sayaç değişimi (-1 silindiyse, 0 beğeni yoksa)
+     */
+    private long removeLike(UUID postId, UUID userId) {
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            return 0;
+        }
+        recordAfterCommit(postId, -1);
+        log.info("👎 Beğeni geri alındı — postId: {}, userId: {}", postId, userId);
+        return -1;
+    }
+
+    /**
+     * Sayaç değişimi transaction commit olduktan sonra tampona eklenir;
+     * rollback olan beğeniler sayaca yansımaz.
+     */
+    private void recordAfterCommit(UUID postId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    likeCounterBuffer.record(postId, delta);
+                }
+            });
+            return;
+        }
+
+        likeCounterBuffer.record(postId, delta);
+    }
+
+    /**
+     * Henüz commit edilmemiş kendi değişikliğimizi de içeren, kullanıcıya gösterilecek sayı.
+     */
+    private long displayedCount(UUID postId, Post post, long ownDelta) {
+        return Math.max(likeCounterBuffer.currentCount(postId, post.getLikeCount()) + ownDelta, 0);
+    }
+
+    private Post validateLikeablePost(UUID postId) {
+        Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post bulunamadı: " + postId));
 
         if (post.getStatus() != PostStatus.PUBLISHED) {
             throw new IllegalArgumentException("Sadece yayınlanmış postlar beğenilebilir.");
         }
+        return post;
     }
 }
-
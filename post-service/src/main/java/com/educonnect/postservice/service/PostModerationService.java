@@ -4,19 +4,23 @@ import com.educonnect.postservice.config.RabbitMQConfig;
 import com.educonnect.postservice.dto.ModerationDecision;
 import com.educonnect.postservice.event.ActionType;
 import com.educonnect.postservice.event.GamificationEvent;
+import com.educonnect.postservice.messaging.PostEventPublisher;
 import com.educonnect.postservice.model.Post;
 import com.educonnect.postservice.model.PostCategory;
 import com.educonnect.postservice.model.PostStatus;
 import com.educonnect.postservice.repository.PostRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PostModerationService {
@@ -24,11 +28,21 @@ public class PostModerationService {
     private static final Logger log = LoggerFactory.getLogger(PostModerationService.class);
 
     private final PostRepository postRepository;
-    private final RabbitTemplate rabbitTemplate;
+    private final PostEventPublisher eventPublisher;
+    private final PublishedFeedCache publishedFeedCache;
 
-    public PostModerationService(PostRepository postRepository, RabbitTemplate rabbitTemplate) {
+    public PostModerationService(PostRepository postRepository,
+                                 PostEventPublisher eventPublisher,
+                                 PublishedFeedCache publishedFeedCache) {
         this.postRepository = postRepository;
-        this.rabbitTemplate = rabbitTemplate;
+        this.eventPublisher = eventPublisher;
+        this.publishedFeedCache = publishedFeedCache;
+    }
+
+    /**
+     * Toplu moderasyondaki tek bir karar.
+     */
+    public record Decision(UUID postId, ModerationDecision decision, UUID eventId) {
     }
 
     @Transactional
@@ -39,30 +53,75 @@ public class PostModerationService {
             return;
         }
 
-        Post post = optionalPost.get();
+        if (applyDecision(optionalPost.get(), decision, eventId)) {
+            publishedFeedCache.evictAll();
+        }
+    }
+
+    /**
+     * Birden fazla moderasyon kararını tek transaction içinde uygular.
+     * Postlar tek sorgu ile yüklenir; feed cache'i en fazla bir kez temizlenir.
+     */
+    @Transactional
+    public void applyModerationDecisions(List<Decision> decisions) {
+        if (decisions.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Post> posts = postRepository.findAllById(decisions.stream().map(Decision::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        boolean anyPublished = false;
+        for (Decision decision : decisions) {
+            Post post = posts.get(decision.postId());
+            if (post == null) {
+                log.warn("Post not found during moderation. postId={}, eventId={}", decision.postId(), decision.eventId());
+                continue;
+            }
+            anyPublished |= applyDecision(post, decision.decision(), decision.eventId());
+        }
+
+        if (anyPublished) {
+            publishedFeedCache.evictAll();
+        }
+        log.info("Moderation batch applied. size={}, found={}", decisions.size(), posts.size());
+    }
+
+    /**
+     * Kararı PENDING bir post'a uygular.
+     *
+     * @return post yayınlandıysa true (feed cache'i temizlenmeli)
+     */
+    private boolean applyDecision(Post post, ModerationDecision decision, UUID eventId) {
         if (post.getStatus() != PostStatus.PENDING) {
             log.info("Post already moderated (status={}). postId={}, eventId={}",
-                    post.getStatus(), postId, eventId);
-            return;
+                    post.getStatus(), post.getId(), eventId);
+            return false;
         }
 
         if (decision == ModerationDecision.ZORBA) {
             post.setStatus(PostStatus.REJECTED);
             postRepository.save(post);
-            log.warn("Post rejected by moderation. postId={}, eventId={}", postId, eventId);
-            return;
+            log.warn("Post rejected by moderation. postId={}, eventId={}", post.getId(), eventId);
+            return false;
         }
 
         post.setStatus(PostStatus.PUBLISHED);
         postRepository.save(post);
-        log.info("Post published by moderation. postId={}, eventId={}", postId, eventId);
+        log.info("Post published by moderation. postId={}, eventId={}", post.getId(), eventId);
 
         if (post.getCategory() == PostCategory.DERS_NOTU) {
-            publishGamificationEventSafely(post);
+            publishGamificationEvent(post);
         }
+        return true;
     }
 
-    private void publishGamificationEventSafely(Post post) {
+    /**
+     * Gamification olayı moderasyon sonucu ile aynı transaction içinde outbox'a yazılır;
+     * broker hatası puan kaybına yol açmaz.
+     */
+    private void publishGamificationEvent(Post post) {
         GamificationEvent gamificationEvent = new GamificationEvent(
                 post.getAuthorId(),
                 ActionType.POST_PUBLISHED,
@@ -70,16 +129,10 @@ public class PostModerationService {
                 OffsetDateTime.now()
         );
 
-        try {
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.GAMIFICATION_EXCHANGE,
-                    RabbitMQConfig.ROUTING_KEY_GAMIFICATION_POST_PUBLISHED,
-                    gamificationEvent
-            );
-            log.info("Gamification event published. postId={}", post.getId());
-        } catch (Exception ex) {
-            log.error("Gamification event publish failed, moderation result kept. postId={}", post.getId(), ex);
-        }
+        eventPublisher.publishGamificationEvent(
+                RabbitMQConfig.ROUTING_KEY_GAMIFICATION_POST_PUBLISHED,
+                post.getId(),
+                gamificationEvent
+        );
     }
 }
-
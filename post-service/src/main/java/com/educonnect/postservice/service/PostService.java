@@ -1,7 +1,9 @@
 package com.educonnect.postservice.service;
 
-import com.educonnect.postservice.client.UserClient;
+import com.educonnect.postservice.client.UserSummaryCache;
 import com.educonnect.postservice.dto.CreatePostRequest;
+import com.educonnect.postservice.dto.FeedPageSnapshot;
+import com.educonnect.postservice.dto.PostFeedResponse;
 import com.educonnect.postservice.dto.PostResponse;
 import com.educonnect.postservice.dto.RecentPostDto;
 import com.educonnect.postservice.dto.UpdatePostRequest;
@@ -10,25 +12,25 @@ import com.educonnect.postservice.event.PostModerationEvent;
 import com.educonnect.postservice.exception.PostNotFoundException;
 import com.educonnect.postservice.exception.UnauthorizedPostAccessException;
 import com.educonnect.postservice.messaging.PostEventPublisher;
-import com.educonnect.postservice.model.CommentStatus;
 import com.educonnect.postservice.model.Post;
 import com.educonnect.postservice.model.PostBookmark;
 import com.educonnect.postservice.model.PostStatus;
-import com.educonnect.postservice.repository.CommentRepository;
 import com.educonnect.postservice.repository.PostBookmarkRepository;
 import com.educonnect.postservice.repository.PostLikeRepository;
 import com.educonnect.postservice.repository.PostRepository;
+import com.educonnect.postservice.util.FeedCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,23 +60,26 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final PostEventPublisher eventPublisher;
-    private final UserClient userClient;
+    private final UserSummaryCache userSummaryCache;
     private final PostLikeRepository postLikeRepository;
     private final PostBookmarkRepository postBookmarkRepository;
-    private final CommentRepository commentRepository;
+    private final LikeCounterBuffer likeCounterBuffer;
+    private final PublishedFeedCache publishedFeedCache;
 
     public PostService(PostRepository postRepository,
                        PostEventPublisher eventPublisher,
-                       UserClient userClient,
+                       UserSummaryCache userSummaryCache,
                        PostLikeRepository postLikeRepository,
                        PostBookmarkRepository postBookmarkRepository,
-                       CommentRepository commentRepository) {
+                       LikeCounterBuffer likeCounterBuffer,
+                       PublishedFeedCache publishedFeedCache) {
         this.postRepository = postRepository;
         this.eventPublisher = eventPublisher;
-        this.userClient = userClient;
+        this.userSummaryCache = userSummaryCache;
         this.postLikeRepository = postLikeRepository;
         this.postBookmarkRepository = postBookmarkRepository;
-        this.commentRepository = commentRepository;
+        this.likeCounterBuffer = likeCounterBuffer;
+        this.publishedFeedCache = publishedFeedCache;
     }
 
     /**
@@ -102,12 +107,11 @@ public class PostService {
     /**
      * Yeni post oluşturur.
      * - Status başlangıçta PENDING olarak kaydedilir.
-     * - Moderasyon olayı transaction commit'inden sonra RabbitMQ'ya fırlatılır.
+     * - Moderasyon olayı aynı transaction içinde outbox'a yazılır (transactional outbox).
      *
      * Mesaj kaybı analizi:
-     * - @Transactional sayesinde DB kaydı garanti altındadır.
-     * - Event, DB commit'inden sonra fırlatılır. Eğer publish sırasında hata olursa
-     *   post PENDING kalır ve manuel moderasyon ile çözülebilir.
+     * - Post ve olay birlikte commit olur; broker erişilemese bile olay outbox'ta bekler.
+     * - OutboxRelay olayı publisher confirm ile iletir, onay gelene kadar tekrar dener.
      * - Kuyruk durable olduğu için broker tarafında mesaj kaybı olmaz.
      */
     @Transactional
@@ -138,6 +142,7 @@ public class PostService {
     public PostResponse updatePost(UUID postId, UpdatePostRequest request, UUID authorId) {
         Post post = findPostOrThrow(postId);
         validateAuthor(post, authorId);
+        boolean wasPublished = post.getStatus() == PostStatus.PUBLISHED;
 
         post.setTitle(request.title());
         post.setContent(request.content());
@@ -147,6 +152,11 @@ public class PostService {
         Post updatedPost = postRepository.save(post);
         log.info("✏️ Post güncellendi (PENDING) — postId: {}, authorId: {}", updatedPost.getId(), authorId);
 
+        // Yayındaki post tekrar moderasyona düştüğü için feed'den çıkar
+        if (wasPublished) {
+            publishedFeedCache.evictAll();
+        }
+
         // Yeni moderasyon olayını commit sonrası yayınla
         publishModerationEvent(updatedPost);
 
@@ -164,6 +174,10 @@ public class PostService {
         validateAuthor(post, authorId);
 
         postRepository.delete(post);
+        likeCounterBuffer.discard(postId);
+        if (post.getStatus() == PostStatus.PUBLISHED) {
+            publishedFeedCache.evictAll();
+        }
         log.info("🗑️ Post silindi — postId: {}, authorId: {}", postId, authorId);
     }
 
@@ -172,27 +186,55 @@ public class PostService {
      * Sadece status=PUBLISHED olanlar listelenir.
      *
      * N+1 analizi:
-     * - findByStatus tek bir SQL sorgusu çalıştırır.
-     * - Yazar bilgileri için sayfadaki benzersiz authorId'ler toplanır ve
-     *   her biri için tek tek user-service çağrısı yapılır, sonuçlar bir Map'te cache'lenir.
-     * - Bu sayede aynı yazar birden fazla post yazmışsa tekrar çağrı yapılmaz.
+     * - findByStatus tek bir SQL sorgusu (+ Page toplamı için COUNT) çalıştırır.
+     * - Yazar ve kullanıcı bayrakları mapFeedPosts ile sayfa başına sabit sayıda çağrıda çözülür.
+     * - Derin sayfalar için cursor tabanlı getPublishedPostsByCursor tercih edilmelidir.
+     *
+     * Cache: İlk K sayfanın kullanıcıdan bağımsız hali PublishedFeedCache'te tutulur;
+     * cache isabetinde post sorgusu, COUNT ve user-service çağrısı yapılmaz.
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getPublishedPosts(Pageable pageable, UUID currentUserId) {
-        Page<Post> postPage = postRepository.findByStatus(PostStatus.PUBLISHED, pageable);
+        FeedPageSnapshot snapshot = publishedFeedCache.getOffsetPage(pageable, () -> {
+            Page<Post> postPage = postRepository.findByStatus(PostStatus.PUBLISHED, pageable);
+            return new FeedPageSnapshot(buildFeedContent(postPage.getContent()), postPage.getTotalElements(), null, postPage.hasNext());
+        });
 
-        // Sayfadaki benzersiz authorId'leri topla ve batch olarak user bilgilerini çek
-        List<UUID> uniqueAuthorIds = postPage.getContent().stream()
-                .map(Post::getAuthorId)
-                .distinct()
-                .toList();
+        List<PostResponse> responses = applyUserOverlay(snapshot.content(), currentUserId);
+        return new PageImpl<>(responses, pageable, snapshot.totalElements());
+    }
 
-        Map<UUID, UserSummaryDto> userCache = uniqueAuthorIds.stream()
-                .map(id -> Map.entry(id, fetchUserSafely(id)))
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * Yayınlanmış postları cursor (keyset) tabanlı olarak döndürür.
+     *
+     * OFFSET ve COUNT(*) kullanılmaz:
+     * - Sıralama (created_at DESC, id DESC) composite index'i ile birebir örtüşür,
+     *   bu yüzden derin sayfalar da ilk sayfa kadar hızlıdır.
+     * - size + 1 kayıt istenerek sonraki sayfanın varlığı ayrıca sayılmadan anlaşılır.
+     *
+     * İlk sayfa (cursor yok) PublishedFeedCache üzerinden sunulur.
+     *
+     * @param cursor Bir önceki yanıttaki nextCursor değeri; ilk sayfa için null.
+     */
+    @Transactional(readOnly = true)
+    public PostFeedResponse getPublishedPostsByCursor(String cursor, int size, UUID currentUserId) {
+        Pageable limit = PageRequest.ofSize(size);
+
+        FeedPageSnapshot snapshot;
+        if (cursor == null || cursor.isBlank()) {
+            snapshot = publishedFeedCache.getFirstCursorPage(size, () ->
+                    toCursorSnapshot(postRepository.findFeedFirstSlice(PostStatus.PUBLISHED, limit)));
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            snapshot = toCursorSnapshot(
+                    postRepository.findFeedSliceAfter(PostStatus.PUBLISHED, after.createdAt(), after.id(), limit));
+        }
 
-        return postPage.map(post -> mapToResponseWithUser(post, userCache.get(post.getAuthorId()), currentUserId));
+        return new PostFeedResponse(
+                applyUserOverlay(snapshot.content(), currentUserId),
+                snapshot.nextCursor(),
+                snapshot.hasNext()
+        );
     }
 
     /**
@@ -210,21 +252,23 @@ public class PostService {
                 .filter(post -> post.getStatus() == PostStatus.PUBLISHED)
                 .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        List<UUID> uniqueAuthorIds = postMap.values().stream()
+        Map<UUID, UserSummaryDto> userCache = userSummaryCache.getUsers(postMap.values().stream()
                 .map(Post::getAuthorId)
-                .distinct()
-                .toList();
+                .toList());
 
-        Map<UUID, UserSummaryDto> userCache = uniqueAuthorIds.stream()
-                .map(id -> Map.entry(id, fetchUserSafely(id)))
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        // Kaydedilenler listesindeki tüm postlar zaten bookmark'lı; sadece liked bayrakları sorgulanır
+        Set<UUID> likedPostIds = findLikedPostIds(currentUserId, postMap.keySet());
 
         List<PostResponse> responses = bookmarkPage.getContent().stream()
                 .filter(bookmark -> postMap.containsKey(bookmark.getPostId()))
                 .map(bookmark -> {
                     Post post = postMap.get(bookmark.getPostId());
-                    return mapToResponseWithUser(post, userCache.get(post.getAuthorId()), currentUserId);
+                    return mapToResponseWithUser(
+                            post,
+                            userCache.get(post.getAuthorId()),
+                            likedPostIds.contains(post.getId()),
+                            true
+                    );
                 })
                 .toList();
 
@@ -286,22 +330,29 @@ public class PostService {
                 UUID.randomUUID() // Her olay için benzersiz eventId
         );
 
-        // Consumer aynı serviste çalıştığı için commit öncesi publish edilirse
-        // listener post'u henüz göremeyebilir; bu nedenle publish'i commit sonrasına erteliyoruz.
-        if (TransactionSynchronizationManager.isActualTransactionActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    eventPublisher.publishModerationEvent(event);
-                }
-            });
-            return;
-        }
-
+        // Olay post ile aynı transaction içinde outbox'a yazılır; OutboxRelay commit sonrası yayınlar.
+        // Böylece consumer post'u her zaman commit edilmiş haliyle görür ve broker hatasında olay kaybolmaz.
         eventPublisher.publishModerationEvent(event);
     }
 
+    /**
+     * Tek post yanıtları için: liked/bookmarked bayrakları exists sorguları ile çözülür.
+     */
     private PostResponse mapToResponseWithUser(Post post, UserSummaryDto user, UUID currentUserId) {
+        boolean liked = currentUserId != null && postLikeRepository.existsByPostIdAndUserId(post.getId(), currentUserId);
+        boolean bookmarked = currentUserId != null && postBookmarkRepository.existsByPostIdAndUserId(post.getId(), currentUserId);
+        return mapToResponseWithUser(post, user, liked, bookmarked);
+    }
+
+    /**
+     * Beğeni ve yorum sayıları post satırındaki denormalize sayaçlardan okunur — ek SQL çalışmaz.
+     * Beğeni sayısına LikeCounterBuffer'daki henüz flush edilmemiş delta eklenir.
+     */
+    private PostResponse mapToResponseWithUser(Post post, UserSummaryDto user, boolean liked, boolean bookmarked) {
+        return mapToResponse(post, user, likeCounterBuffer.currentCount(post.getId(), post.getLikeCount()), liked, bookmarked);
+    }
+
+    private PostResponse mapToResponse(Post post, UserSummaryDto user, long likeCount, boolean liked, boolean bookmarked) {
         String authorName = null;
         String authorDepartment = null;
 
@@ -310,11 +361,6 @@ public class PostService {
             authorDepartment = user.getDepartment();
         }
 
-        long likeCount = postLikeRepository.countByPostId(post.getId());
-        long commentCount = commentRepository.countByPostIdAndStatus(post.getId(), CommentStatus.PUBLISHED);
-        boolean liked = currentUserId != null && postLikeRepository.existsByPostIdAndUserId(post.getId(), currentUserId);
-        boolean bookmarked = currentUserId != null && postBookmarkRepository.existsByPostIdAndUserId(post.getId(), currentUserId);
-
         return new PostResponse(
                 post.getId(),
                 post.getTitle(),
@@ -325,7 +371,7 @@ public class PostService {
                 authorName,
                 authorDepartment,
                 likeCount,
-                commentCount,
+                post.getCommentCount(),
                 liked,
                 bookmarked,
                 post.getCreatedAt(),
@@ -333,17 +379,101 @@ public class PostService {
         );
     }
 
+    private FeedPageSnapshot toCursorSnapshot(Slice<Post> slice) {
+        List<Post> posts = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !posts.isEmpty()) {
+            Post last = posts.get(posts.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new FeedPageSnapshot(buildFeedContent(posts), posts.size(), nextCursor, slice.hasNext());
+    }
+
+    /**
+     * Feed sayfasının kullanıcıdan bağımsız halini oluşturur (cache'lenebilir kısım).
+     *
+     * N+1 analizi:
+     * - Yazar bilgileri için sayfadaki benzersiz authorId'ler toplanır ve
+     *   UserSummaryCache üzerinden tek bir toplu user-service çağrısı ile çekilir.
+     * - Snapshot'taki sayaçlar sadece yedektir; applyUserOverlay güncel sayaçları okur.
+     */
+    private List<PostResponse> buildFeedContent(List<Post> posts) {
+        Map<UUID, UserSummaryDto> userCache = userSummaryCache.getUsers(posts.stream()
+                .map(Post::getAuthorId)
+                .toList());
+
+        return posts.stream()
+                .map(post -> mapToResponse(post, userCache.get(post.getAuthorId()), post.getLikeCount(), false, false))
+                .toList();
+    }
+
+    /**
+     * Cache'ten gelen (veya yeni oluşturulan) feed içeriğine okuma anında kullanıcıya özel kısmı uygular:
+     * - liked/bookmarked bayrakları sayfa başına tek sorgu ile çözülür.
+     * - Beğeni/yorum sayaçları snapshot'tan değil, sayfa başına tek PK sorgusuyla DB'den okunur; beğeni
+     *   sayısına LikeCounterBuffer'daki delta eklenir. Böylece flush sonrası sayılar geriye gitmez.
+     */
+    private List<PostResponse> applyUserOverlay(List<PostResponse> content, UUID currentUserId) {
+        List<UUID> postIds = content.stream()
+                .map(PostResponse::id)
+                .toList();
+        Set<UUID> likedPostIds = findLikedPostIds(currentUserId, postIds);
+        Set<UUID> bookmarkedPostIds = findBookmarkedPostIds(currentUserId, postIds);
+        Map<UUID, PostRepository.PostCounters> counters = findCounters(postIds);
+
+        return content.stream()
+                .map(response -> {
+                    PostRepository.PostCounters live = counters.get(response.id());
+                    long likeCount = live != null ? live.getLikeCount() : response.likeCount();
+                    long commentCount = live != null ? live.getCommentCount() : response.commentCount();
+                    return new PostResponse(
+                            response.id(),
+                            response.title(),
+                            response.content(),
+                            response.category(),
+                            response.status(),
+                            response.authorId(),
+                            response.authorName(),
+                            response.authorDepartment(),
+                            likeCounterBuffer.currentCount(response.id(), likeCount),
+                            commentCount,
+                            likedPostIds.contains(response.id()),
+                            bookmarkedPostIds.contains(response.id()),
+                            response.createdAt(),
+                            response.updatedAt()
+                    );
+                })
+                .toList();
+    }
+
+    private Map<UUID, PostRepository.PostCounters> findCounters(Collection<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postRepository.findCountersByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostRepository.PostCounters::getId, Function.identity()));
+    }
+
+    private Set<UUID> findLikedPostIds(UUID currentUserId, Collection<UUID> postIds) {
+        if (currentUserId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return postLikeRepository.findLikedPostIds(currentUserId, postIds);
+    }
+
+    private Set<UUID> findBookmarkedPostIds(UUID currentUserId, Collection<UUID> postIds) {
+        if (currentUserId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return postBookmarkRepository.findBookmarkedPostIds(currentUserId, postIds);
+    }
+
     /**
      * user-service'ten kullanıcı bilgilerini güvenli şekilde çeker.
      * Servis erişilemezse veya hata olursa null döner — post response'u yine de oluşturulur.
      */
     private UserSummaryDto fetchUserSafely(UUID userId) {
-        try {
-            return userClient.getUserById(userId);
-        } catch (Exception e) {
-            log.warn("⚠️ Kullanıcı bilgisi alınamadı (user-service erişilemez olabilir) — userId: {}", userId);
-            return null;
-        }
+        return userSummaryCache.getUser(userId);
     }
 }
 
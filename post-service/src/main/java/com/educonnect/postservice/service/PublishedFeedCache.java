@@ -0,0 +1,127 @@
+package com.educonnect.postservice.service;
+
+import com.educonnect.postservice.config.RedisCacheConfig;
+import com.educonnect.postservice.dto.FeedPageSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Yayınlanmış feed'in ilk K sayfası için Redis cache'i.
+ *
+ * - Sadece kullanıcıdan bağımsız kısım (post + yazar bilgisi) cache'lenir; liked/bookmarked bayrakları ve
+ *   güncel beğeni/yorum sayaçları PostService tarafından okuma anında uygulanır.
+ * - Derin sayfalar cache'lenmez; trafik neredeyse tamamen ilk sayfalara gelir.
+ * - Bir post yayınlandığında, reddedildiğinde, yayından kalktığında veya silindiğinde
+ *   tüm feed cache'i temizlenir; aktif transaction varsa temizlik afterCommit callback'inde yapılır.
+ *
+ * Redis erişilemezse (komut timeout'u spring.data.redis.timeout) hata loglanır ve sayfa DB'den hesaplanır;
+ * ardından error-backoff süresince cache hiç denenmez, böylece her istek timeout'u beklemez.
+ * Put doğrudan yapılır, clear ise commit sonrasında kendi try/catch'i içinde çalışır; Redis hatası
+ * commit edilmiş bir yazma isteğini veya cache miss'li bir okumayı hiçbir zaman başarısız kılmaz.
+ * Commit'ten hemen önce okunmuş eski bir sayfa en fazla TTL süresi kadar görünebilir.
+ */
+@Component
+public class PublishedFeedCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishedFeedCache.class);
+
+    private final Cache cache;
+    private final int maxCachedPages;
+    private final long errorBackoffNanos;
+    private volatile long bypassUntilNanos;
+
+    public PublishedFeedCache(CacheManager cacheManager,
+                              @Value("${post.feed-cache.max-cached-pages:3}") int maxCachedPages,
+                              @Value("${post.feed-cache.error-backoff:5s}") Duration errorBackoff) {
+        this.cache = cacheManager.getCache(RedisCacheConfig.PUBLISHED_FEED_CACHE);
+        this.maxCachedPages = maxCachedPages;
+        this.errorBackoffNanos = errorBackoff.toNanos();
+        this.bypassUntilNanos = System.nanoTime();
+    }
+
+    /**
+     * Offset tabanlı feed sayfasını cache'ten döndürür; ilk K sayfa dışındakiler doğrudan hesaplanır.
+     */
+    public FeedPageSnapshot getOffsetPage(Pageable pageable, Supplier<FeedPageSnapshot> loader) {
+        if (pageable.getPageNumber() >= maxCachedPages) {
+            return loader.get();
+        }
+        String key = "page:" + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        return getOrLoad(key, loader);
+    }
+
+    /**
+     * Cursor tabanlı feed'in ilk sayfasını cache'ten döndürür.
+     */
+    public FeedPageSnapshot getFirstCursorPage(int size, Supplier<FeedPageSnapshot> loader) {
+        return getOrLoad("cursor:first:" + size, loader);
+    }
+
+    /**
+     * Feed cache'ini temizler. Aktif transaction varsa temizlik commit sonrasına ertelenir;
+     * rollback olan bir moderasyon/silme işlemi cache'i temizlemez.
+     */
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+            return;
+        }
+        clear();
+    }
+
+    private void clear() {
+        try {
+            cache.clear();
+            log.debug("Feed cache temizlendi");
+        } catch (RuntimeException e) {
+            // Temizlenemeyen eski sayfalar okunmasın: backoff süresince cache atlanır
+            log.warn("Feed cache CLEAR error. reason={}", e.getMessage());
+            backOff();
+        }
+    }
+
+    private FeedPageSnapshot getOrLoad(String key, Supplier<FeedPageSnapshot> loader) {
+        if (System.nanoTime() - bypassUntilNanos < 0) {
+            return loader.get();
+        }
+        try {
+            FeedPageSnapshot cached = cache.get(key, FeedPageSnapshot.class);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (RuntimeException e) {
+            // Cache bozuk olsa bile request akışı devam etsin.
+            log.warn("Feed cache GET error. key={}, reason={}", key, e.getMessage());
+            backOff();
+            return loader.get();
+        }
+
+        FeedPageSnapshot loaded = loader.get();
+        try {
+            cache.put(key, loaded);
+        } catch (RuntimeException e) {
+            log.warn("Feed cache PUT error. key={}, reason={}", key, e.getMessage());
+            backOff();
+        }
+        return loaded;
+    }
+
+    private void backOff() {
+        bypassUntilNanos = System.nanoTime() + errorBackoffNanos;
+    }
+}
@@ -1,24 +1,42 @@
 package com.educonnect.postservice.util;
 
+import com.educonnect.postservice.repository.BlacklistWordRepository;
+import com.educonnect.text.AhoCorasickMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Set;
 
 /**
  * Kötü kelime blacklist'i sağlayan ortak util sınıfı.
  * Hem post moderasyonunda hem yorum moderasyonunda kullanılır.
  *
- * Gerçek uygulamada bu bir DB tablosu, harici API veya AI servisi olabilir.
- * Şu an mock olarak statik bir Set kullanılmaktadır.
+ * Kelimeler post_db.blacklist_words tablosundan okunur ve AhoCorasickMatcher'a derlenir:
+ * - Metin, kelime sayısından bağımsız olarak tek geçişte taranır.
+ * - Tablo periyodik olarak yeniden okunur (hot reload); liste değiştiyse yeni otomat derlenip
+ *   atomik olarak devreye alınır, servisin yeniden başlatılması gerekmez.
+ * - İlk yüklemeden önce veya tablo okunamazsa varsayılan liste / son başarılı liste ile devam edilir.
  */
 @Component
 public class BlacklistProvider {
 
-    private static final Set<String> BLACKLIST = Set.of(
+    private static final Logger log = LoggerFactory.getLogger(BlacklistProvider.class);
+
+    private static final Set<String> DEFAULT_BLACKLIST = Set.of(
             "küfür", "hakaret", "spam", "reklam", "argo",
             "nefret", "şiddet", "taciz", "dolandırıcılık"
     );
 
+    private final BlacklistWordRepository blacklistWordRepository;
+    private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(DEFAULT_BLACKLIST);
+
+    public BlacklistProvider(BlacklistWordRepository blacklistWordRepository) {
+        this.blacklistWordRepository = blacklistWordRepository;
+    }
+
     /**
      * Verilen metni blacklist'teki kelimelerle tarar.
      * Eşleşme varsa true döner.
@@ -27,15 +45,49 @@ public class BlacklistProvider {
         if (text == null || text.isBlank()) {
             return false;
         }
-        String lowerText = text.toLowerCase();
-        return BLACKLIST.stream().anyMatch(lowerText::contains);
+        return matcher.containsAny(text);
+    }
+
+    /**
+     * Metinde geçen blacklist kelimelerini döndürür (loglama / moderasyon gerekçesi için).
+     * Eşleşme yoksa boş küme döner.
+     */
+    public Set<String> findBadWords(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        return matcher.findAll(text);
     }
 
     /**
      * Blacklist kelimelerini döndürür (read-only).
      */
     public Set<String> getBlacklistWords() {
-        return BLACKLIST;
+        return Set.copyOf(matcher.terms());
     }
-}
 
+    /**
+     * Aktif kelimeleri tablodan okur; liste değiştiyse otomatı yeniden derler.
+     *
+     * @return otomat yeniden derlendiyse true
+     */
+    @Scheduled(fixedDelayString = "${post.blacklist.reload-interval-ms:60000}")
+    public boolean reload() {
+        List<String> words;
+        try {
+            words = blacklistWordRepository.findActiveWords();
+        } catch (Exception e) {
+            log.warn("⚠️ Blacklist tablosu okunamadı, mevcut liste ile devam ediliyor — reason: {}", e.getMessage());
+            return false;
+        }
+
+        // Karşılaştırma derlenmiş hal üzerinden: "TACİZ" / "taciz" gibi yazım farkları yeniden derleme sebebi değildir
+        if (AhoCorasickMatcher.foldedTerms(words).equals(matcher.foldedTerms())) {
+            return false;
+        }
+
+        matcher = AhoCorasickMatcher.compile(words);
+        log.info("🔄 Blacklist yeniden yüklendi — kelime sayısı: {}", matcher.size());
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.educonnect.postservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset (cursor) sayfalaması için feed konumu.
+ *
+ * Son görülen post'un (createdAt, id) ikilisi tutulur; id, aynı createdAt değerine sahip
+ * postlar arasında kararlı sıralama sağlar. İstemciye Base64URL kodlu opak bir string olarak verilir.
+ */
+public record FeedCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * İstemciden gelen cursor'ı çözer.
+     *
+     * @throws IllegalArgumentException cursor bozuksa (GlobalExceptionHandler 400 döner)
+     */
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Geçersiz cursor değeri.");
+            }
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Geçersiz cursor değeri.", e);
+        }
+    }
+}
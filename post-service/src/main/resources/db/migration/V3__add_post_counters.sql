@@ -0,0 +1,23 @@
+-- =====================================================
+-- V3: posts tablosuna denormalize sayaç kolonları ekle
+-- =====================================================
+-- Feed sayfasında her post için ayrı COUNT(*) sorgusu çalıştırmamak için
+-- beğeni ve yayınlanmış yorum sayıları posts satırında tutulur.
+-- Sayaçlar PostLikeService ve CommentService tarafından atomik UPDATE ile güncellenir.
+
+ALTER TABLE post_db.posts ADD COLUMN IF NOT EXISTS like_count    BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE post_db.posts ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+-- Mevcut veriler için sayaçları doldur
+UPDATE post_db.posts p
+SET like_count = (
+    SELECT COUNT(*) FROM post_db.post_likes l WHERE l.post_id = p.id
+);
+
+UPDATE post_db.posts p
+SET comment_count = (
+    SELECT COUNT(*) FROM post_db.comments c WHERE c.post_id = p.id AND c.status = 'PUBLISHED'
+);
+
+COMMENT ON COLUMN post_db.posts.like_count IS 'Denormalize beğeni sayısı. post_likes tablosu ile senkron tutulur.';
+COMMENT ON COLUMN post_db.posts.comment_count IS 'Denormalize yayınlanmış yorum sayısı (üst + yanıt). comments tablosu ile senkron tutulur.';
@@ -0,0 +1,9 @@
+-- =====================================================
+-- V4: Cursor (keyset) tabanlı feed için composite index
+-- =====================================================
+-- GET /api/posts/feed sorgusu: WHERE status = ? AND (created_at, id) < (?, ?)
+-- ORDER BY created_at DESC, id DESC. Index sıralaması sorgu ile birebir aynı olduğundan
+-- OFFSET/COUNT olmadan, sayfa derinliğinden bağımsız olarak index üzerinden okunur.
+
+CREATE INDEX IF NOT EXISTS idx_post_feed_keyset
+    ON post_db.posts (status, created_at DESC, id DESC);
@@ -0,0 +1,21 @@
+-- =====================================================
+-- V5: Moderasyon kara listesi tablosu
+-- =====================================================
+-- BlacklistProvider kelimeleri bu tablodan periyodik olarak yükler;
+-- kelime eklemek/pasifleştirmek için servis yeniden başlatılmaz.
+
+CREATE TABLE IF NOT EXISTS post_db.blacklist_words (
+    id          UUID            PRIMARY KEY DEFAULT gen_random_uuid(),
+    word        VARCHAR(100)    NOT NULL,
+    active      BOOLEAN         NOT NULL DEFAULT TRUE,
+    created_at  TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_blacklist_word UNIQUE (word)
+);
+
+-- Eski statik listeyi tabloya taşı
+INSERT INTO post_db.blacklist_words (word) VALUES
+    ('küfür'), ('hakaret'), ('spam'), ('reklam'), ('argo'),
+    ('nefret'), ('şiddet'), ('taciz'), ('dolandırıcılık')
+ON CONFLICT (word) DO NOTHING;
+
+COMMENT ON TABLE post_db.blacklist_words IS 'Post ve yorum moderasyonunda kullanılan kara liste. active=false olan kelimeler eşleşmeye dahil edilmez.';
@@ -0,0 +1,24 @@
+-- =====================================================
+-- V6: Transactional outbox tablosu
+-- =====================================================
+-- Yayınlanacak RabbitMQ mesajları iş verisi ile aynı transaction içinde bu tabloya yazılır.
+-- OutboxRelay tabloyu toplu olarak okuyup publisher confirm ile broker'a iletir ve
+-- onaylanan satırları siler. Onaylanmayanlar next_attempt_at ile tekrar denenir.
+
+CREATE TABLE IF NOT EXISTS post_db.outbox_events (
+    id               UUID            PRIMARY KEY DEFAULT gen_random_uuid(),
+    aggregate_id     UUID            NOT NULL,
+    exchange         VARCHAR(255)    NOT NULL,
+    routing_key      VARCHAR(255)    NOT NULL,
+    type_id          VARCHAR(255),
+    payload          TEXT            NOT NULL,
+    attempts         INT             NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error       VARCHAR(500),
+    created_at       TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_next_attempt ON post_db.outbox_events (next_attempt_at, created_at);
+
+COMMENT ON TABLE  post_db.outbox_events IS 'Transactional outbox. Satırlar broker onayından sonra silinir.';
+COMMENT ON COLUMN post_db.outbox_events.type_id IS 'Jackson2JsonMessageConverter __TypeId__ header değeri (consumer tarafındaki tip eşlemesi için).';
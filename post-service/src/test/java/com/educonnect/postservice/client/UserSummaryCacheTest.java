@@ -0,0 +1,50 @@
+package com.educonnect.postservice.client;
+
+import com.educonnect.postservice.dto.UserSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserSummaryCacheTest {
+
+    @Test
+    void getUsers_whenMoreIdsThanBatchLimit_shouldSplitIntoChunks() {
+        UserClient userClient = mock(UserClient.class);
+        List<Integer> requestedSizes = new ArrayList<>();
+        when(userClient.getUsersByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            requestedSizes.add(ids.size());
+            return ids.stream().map(UserSummaryCacheTest::user).toList();
+        });
+        UserSummaryCache cache = new UserSummaryCache(userClient, Duration.ofMinutes(1), 10_000);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 450; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        Map<UUID, UserSummaryDto> users = cache.getUsers(ids);
+
+        assertEquals(450, users.size());
+        verify(userClient, times(3)).getUsersByIds(anyCollection());
+        assertTrue(requestedSizes.stream().allMatch(size -> size <= UserSummaryCache.MAX_BATCH_SIZE));
+    }
+
+    private static UserSummaryDto user(UUID id) {
+        UserSummaryDto user = new UserSummaryDto();
+        user.setId(id);
+        return user;
+    }
+}
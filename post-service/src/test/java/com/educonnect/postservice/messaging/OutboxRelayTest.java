@@ -0,0 +1,119 @@
+package com.educonnect.postservice.messaging;
+
+import com.educonnect.postservice.model.OutboxEvent;
+import com.educonnect.postservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private RabbitTemplate rabbitTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        relay = new OutboxRelay(outboxEventRepository, rabbitTemplate, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 10, 200, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void relay_whenBrokerAcks_shouldDeletePublishedRows() {
+        OutboxEvent event = outboxEvent("com.educonnect.postservice.event.PostModerationEvent");
+        when(outboxEventRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
+        confirmAll(true);
+
+        relay.relay();
+
+        verify(rabbitTemplate).send(eq("post.moderation.exchange"), eq("post.moderation.pending"),
+                any(Message.class), any(CorrelationData.class));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(event.getId()));
+        assertEquals(0, event.getAttempts());
+    }
+
+    @Test
+    void relay_whenBrokerNacks_shouldKeepRowAndScheduleRetry() {
+        OutboxEvent event = outboxEvent(null);
+        when(outboxEventRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
+        confirmAll(false);
+
+        relay.relay();
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(1, event.getAttempts());
+        assertTrue(event.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNotNull(event.getLastError());
+    }
+
+    @Test
+    void relay_whenConfirmNeverArrives_shouldScheduleRetry() {
+        OutboxEvent event = outboxEvent(null);
+        when(outboxEventRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
+
+        relay.relay();
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(1, event.getAttempts());
+    }
+
+    @Test
+    void relay_shouldPreserveTypeIdHeader() {
+        OutboxEvent event = outboxEvent("com.educonnect.postservice.event.GamificationEvent");
+        when(outboxEventRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            assertEquals(event.getTypeId(), message.getMessageProperties().getHeader("__TypeId__"));
+            assertEquals(event.getId().toString(), message.getMessageProperties().getMessageId());
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(event.getId()));
+    }
+
+    private void confirmAll(boolean ack) {
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture()
+                    .complete(new CorrelationData.Confirm(ack, ack ? null : "test nack"));
+            return null;
+        }).when(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OutboxEvent outboxEvent(String typeId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(UUID.randomUUID());
+        event.setAggregateId(UUID.randomUUID());
+        event.setExchange("post.moderation.exchange");
+        event.setRoutingKey("post.moderation.pending");
+        event.setTypeId(typeId);
+        event.setPayload("{\"postId\":\"" + event.getAggregateId() + "\"}");
+        event.setNextAttemptAt(LocalDateTime.now());
+        return event;
+    }
+}
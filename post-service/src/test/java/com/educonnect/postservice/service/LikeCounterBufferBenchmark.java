@@ -0,0 +1,79 @@
+package com.educonnect.postservice.service;
+
+import com.educonnect.postservice.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tek bir post üzerinde eşzamanlı beğeni yazımını karşılaştıran JMH benchmark'ı.
+ *
+ * - likeCounterBuffer: LikeCounterBuffer.record; post başına striped LongAdder.
+ * - synchronizedCounter: tek kilit altında sayaç güncellemesi; post satırı kilidiyle (UPDATE ... like_count + 1)
+ *   sıraya giren eski yolun süreç içi alt sınırı.
+ *
+ * Tüm thread'ler aynı postId'ye yazar (@Threads ile çekişme). Varsayılan test koşusunda atlanır:
+ *
+ *   mvn -pl post-service test -Dtest=LikeCounterBufferBenchmark -Dbenchmark.likes=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class LikeCounterBufferBenchmark {
+
+    private UUID postId;
+    private LikeCounterBuffer buffer;
+    private Map<UUID, Long> lockedCounts;
+
+    @Setup
+    public void setUp() {
+        postId = UUID.randomUUID();
+        // record() repository'ye dokunmaz; flush benchmark süresince çalışmaz
+        buffer = new LikeCounterBuffer(mock(PostRepository.class), mock(PlatformTransactionManager.class));
+        lockedCounts = new HashMap<>();
+    }
+
+    @Benchmark
+    public void likeCounterBuffer() {
+        buffer.record(postId, 1);
+    }
+
+    @Benchmark
+    public void synchronizedCounter() {
+        synchronized (lockedCounts) {
+            lockedCounts.merge(postId, 1L, Long::sum);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.likes", matches = "true")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LikeCounterBufferBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.educonnect.postservice.service;
+
+import com.educonnect.postservice.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tek bir post üzerinde yoğun eşzamanlı beğeni altında LikeCounterBuffer stres testi.
+ *
+ * - Birden fazla thread aynı post'a +1/-1 yazarken arka planda sürekli flush çalışır.
+ * - Sonunda DB'ye yazılan toplam + tamponda kalan delta, üretilen net delta'ya eşit olmalıdır (kayıp güncelleme yok).
+ * - Flush sıfırlanan girdiyi haritadan çıkarırken yarışan artışlar da kaybolmamalıdır.
+ */
+class LikeCounterBufferStressTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int OPS_PER_THREAD = 200_000;
+
+    @Test
+    void concurrentLikesOnSinglePost_shouldNotLoseUpdatesWhileFlushing() throws Exception {
+        UUID postId = UUID.randomUUID();
+        AtomicLong persisted = new AtomicLong();
+
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.adjustLikeCount(any(UUID.class), anyLong())).thenAnswer(invocation -> {
+            persisted.addAndGet(invocation.<Long>getArgument(1));
+            return 1;
+        });
+        LikeCounterBuffer buffer = new LikeCounterBuffer(postRepository, mock(PlatformTransactionManager.class));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        runContended(ordinal -> buffer.record(postId, ordinal % 3 == 0 ? -1 : 1));
+
+        running.set(false);
+        flusher.join();
+        // Son flush, emekliye ayrılan adder'lara düşen geç artışları da geri taşıyıp yazar
+        buffer.flush();
+
+        long expected = expectedNetDelta();
+        assertEquals(expected, persisted.get());
+        assertEquals(0L, buffer.currentCount(postId, 0L));
+    }
+
+    private void runContended(OperationBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    body.run(i);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private long expectedNetDelta() {
+        long negatives = (OPS_PER_THREAD + 2) / 3;
+        long positives = OPS_PER_THREAD - negatives;
+        return (positives - negatives) * THREADS;
+    }
+
+    @FunctionalInterface
+    private interface OperationBody {
+        void run(int ordinal);
+    }
+}
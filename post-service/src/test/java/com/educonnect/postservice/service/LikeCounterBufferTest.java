@@ -0,0 +1,65 @@
+package com.educonnect.postservice.service;
+
+import com.educonnect.postservice.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikeCounterBufferTest {
+
+    private PostRepository postRepository;
+    private LikeCounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        buffer = new LikeCounterBuffer(postRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void flush_shouldDropEntriesWhoseDeltaIsFullyWritten() {
+        when(postRepository.adjustLikeCount(any(UUID.class), anyLong())).thenReturn(1);
+        buffer.record(UUID.randomUUID(), 1);
+        buffer.record(UUID.randomUUID(), 1);
+        UUID cancelled = UUID.randomUUID();
+        buffer.record(cancelled, 1);
+        buffer.record(cancelled, -1);
+
+        buffer.flush();
+
+        assertEquals(0, buffer.trackedPostCount());
+        verify(postRepository, never()).adjustLikeCount(cancelled, 0L);
+    }
+
+    @Test
+    void flush_whenUpdateMatchesNoRow_shouldRecountFromLikes() {
+        UUID postId = UUID.randomUUID();
+        when(postRepository.adjustLikeCount(postId, -1L)).thenReturn(0);
+        buffer.record(postId, -1);
+
+        buffer.flush();
+
+        verify(postRepository).recountLikeCount(postId);
+        assertEquals(0, buffer.trackedPostCount());
+    }
+
+    @Test
+    void reconcile_shouldRecountDriftedPostsWithoutPendingDelta() {
+        UUID drifted = UUID.randomUUID();
+        when(postRepository.findPostIdsWithLikeCountDrift()).thenReturn(List.of(drifted));
+        when(postRepository.recountLikeCount(drifted)).thenReturn(1);
+
+        assertEquals(1, buffer.reconcile());
+    }
+}
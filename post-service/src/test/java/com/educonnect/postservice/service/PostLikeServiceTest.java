@@ -3,7 +3,6 @@ package com.educonnect.postservice.service;
 import com.educonnect.postservice.dto.LikeResponse;
 import com.educonnect.postservice.exception.PostNotFoundException;
 import com.educonnect.postservice.model.Post;
-import com.educonnect.postservice.model.PostLike;
 import com.educonnect.postservice.model.PostStatus;
 import com.educonnect.postservice.repository.PostLikeRepository;
 import com.educonnect.postservice.repository.PostRepository;
@@ -21,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +34,9 @@ class PostLikeServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private LikeCounterBuffer likeCounterBuffer;
+
     @InjectMocks
     private PostLikeService postLikeService;
 
@@ -45,14 +48,14 @@ class PostLikeServiceTest {
         post.setStatus(PostStatus.PUBLISHED);
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(postLikeRepository.existsByPostIdAndUserId(postId, userId)).thenReturn(false);
-        when(postLikeRepository.countByPostId(postId)).thenReturn(1L);
+        when(postLikeRepository.insertIfAbsent(postId, userId)).thenReturn(1);
+        when(likeCounterBuffer.currentCount(postId, 0L)).thenReturn(0L);
 
         LikeResponse response = postLikeService.likePost(postId, userId);
 
         assertTrue(response.liked());
         assertEquals(1L, response.likeCount());
-        verify(postLikeRepository).save(any(PostLike.class));
+        verify(likeCounterBuffer).record(postId, 1);
     }
 
     @Test
@@ -62,19 +65,36 @@ class PostLikeServiceTest {
         Post post = new Post();
         post.setStatus(PostStatus.PUBLISHED);
 
-        PostLike postLike = new PostLike();
-        postLike.setPostId(postId);
-        postLike.setUserId(userId);
+        post.setLikeCount(1L);
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(postLikeRepository.findByPostIdAndUserId(postId, userId)).thenReturn(Optional.of(postLike));
-        when(postLikeRepository.countByPostId(postId)).thenReturn(0L);
+        when(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).thenReturn(1);
+        when(likeCounterBuffer.currentCount(postId, 1L)).thenReturn(1L);
 
         LikeResponse response = postLikeService.unlikePost(postId, userId);
 
         assertFalse(response.liked());
         assertEquals(0L, response.likeCount());
-        verify(postLikeRepository).delete(postLike);
+        verify(likeCounterBuffer).record(postId, -1);
+    }
+
+    @Test
+    void likePost_whenAlreadyLiked_shouldBeIdempotent() {
+        UUID postId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Post post = new Post();
+        post.setStatus(PostStatus.PUBLISHED);
+        post.setLikeCount(3L);
+
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postLikeRepository.insertIfAbsent(postId, userId)).thenReturn(0);
+        when(likeCounterBuffer.currentCount(postId, 3L)).thenReturn(3L);
+
+        LikeResponse response = postLikeService.likePost(postId, userId);
+
+        assertTrue(response.liked());
+        assertEquals(3L, response.likeCount());
+        verify(likeCounterBuffer, never()).record(any(UUID.class), anyLong());
     }
 
     @Test
@@ -85,7 +105,7 @@ class PostLikeServiceTest {
         when(postRepository.findById(postId)).thenReturn(Optional.empty());
 
         assertThrows(PostNotFoundException.class, () -> postLikeService.likePost(postId, userId));
-        verify(postLikeRepository, never()).save(any(PostLike.class));
+        verify(postLikeRepository, never()).insertIfAbsent(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -103,7 +123,7 @@ class PostLikeServiceTest {
         );
 
         assertEquals("Sadece yayınlanmış postlar beğenilebilir.", exception.getMessage());
-        verify(postLikeRepository, never()).save(any(PostLike.class));
+        verify(postLikeRepository, never()).insertIfAbsent(any(UUID.class), any(UUID.class));
     }
 }
 
@@ -0,0 +1,109 @@
+package com.educonnect.postservice.service;
+
+import com.educonnect.postservice.client.UserSummaryCache;
+import com.educonnect.postservice.config.RedisCacheConfig;
+import com.educonnect.postservice.dto.FeedPageSnapshot;
+import com.educonnect.postservice.dto.ModerationDecision;
+import com.educonnect.postservice.dto.PostResponse;
+import com.educonnect.postservice.messaging.PostEventPublisher;
+import com.educonnect.postservice.model.Post;
+import com.educonnect.postservice.model.PostStatus;
+import com.educonnect.postservice.repository.PostBookmarkRepository;
+import com.educonnect.postservice.repository.PostLikeRepository;
+import com.educonnect.postservice.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis hatalarının feed cache'ini kullanan servis çağrılarını başarısız kılmadığını doğrular.
+ */
+class PublishedFeedCacheTest {
+
+    private final Cache cache = mock(Cache.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private PublishedFeedCache feedCache;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(RedisCacheConfig.PUBLISHED_FEED_CACHE)).thenReturn(cache);
+        doThrow(new RedisConnectionFailureException("redis down")).when(cache).clear();
+        doThrow(new RedisConnectionFailureException("redis down")).when(cache).put(anyString(), any());
+        feedCache = new PublishedFeedCache(cacheManager, 3, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void applyModeration_whenCacheClearFailsAfterCommit_shouldStillSucceed() {
+        Post post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setStatus(PostStatus.PENDING);
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        PostModerationService service =
+                new PostModerationService(postRepository, mock(PostEventPublisher.class), feedCache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.applyModeration(post.getId(), ModerationDecision.TEMIZ, UUID.randomUUID());
+
+        // Temizlik commit'e kadar ertelenir ve commit sonrası hatası yutulur
+        verify(cache, never()).clear();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertDoesNotThrow(() -> synchronizations.forEach(TransactionSynchronization::afterCommit));
+        verify(cache).clear();
+        assertEquals(PostStatus.PUBLISHED, post.getStatus());
+    }
+
+    @Test
+    void getPublishedPosts_whenCachePutFails_shouldReturnLoadedPageAndBackOff() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Post> empty = new PageImpl<>(List.of(), pageable, 0);
+        when(postRepository.findByStatus(PostStatus.PUBLISHED, pageable)).thenReturn(empty);
+        PostService service = new PostService(postRepository, mock(PostEventPublisher.class),
+                mock(UserSummaryCache.class), mock(PostLikeRepository.class), mock(PostBookmarkRepository.class),
+                mock(LikeCounterBuffer.class), feedCache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        Page<PostResponse> first = assertDoesNotThrow(() -> service.getPublishedPosts(pageable, null));
+        Page<PostResponse> second = assertDoesNotThrow(() -> service.getPublishedPosts(pageable, null));
+
+        assertEquals(0, first.getTotalElements());
+        assertEquals(0, second.getTotalElements());
+        // Put doğrudan denenir (ertelenmez); hata sonrası backoff süresince cache atlanır
+        verify(cache, times(1)).put(anyString(), any());
+        verify(cache, times(1)).get(anyString(), eq(FeedPageSnapshot.class));
+        verify(postRepository, times(2)).findByStatus(PostStatus.PUBLISHED, pageable);
+    }
+}
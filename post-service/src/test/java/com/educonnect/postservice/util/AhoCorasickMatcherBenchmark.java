@@ -0,0 +1,119 @@
+package com.educonnect.postservice.util;
+
+import com.educonnect.text.AhoCorasickMatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kara liste taramasını eski toLowerCase + String.contains döngüsü ile karşılaştıran JMH benchmark'ı.
+ *
+ * - wordCount=9: V5 ile tabloya taşınan gerçek liste; 500: tablo büyüdüğündeki durum (gerçek liste + rastgele kelimeler).
+ * - Yorumlar 80 – 1500 karakterdir ve kara listedeki kelimeleri içermez; her iki yol da metnin tamamını tarar.
+ *
+ * Varsayılan test koşusunda atlanır:
+ *
+ *   mvn -pl post-service test -Dtest=AhoCorasickMatcherBenchmark -Dbenchmark.blacklist=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AhoCorasickMatcherBenchmark {
+
+    private static final List<String> SEEDED_WORDS = List.of(
+            "küfür", "hakaret", "spam", "reklam", "argo",
+            "nefret", "şiddet", "taciz", "dolandırıcılık"
+    );
+    private static final int COMMENT_COUNT = 1_024;
+
+    @Param({"9", "500"})
+    public int wordCount;
+
+    private Set<String> legacyWords;
+    private AhoCorasickMatcher matcher;
+    private String[] comments;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(SEEDED_WORDS);
+        while (words.size() < wordCount) {
+            words.add(randomWord(random, 5 + random.nextInt(8)));
+        }
+        legacyWords = Set.copyOf(words);
+        matcher = AhoCorasickMatcher.compile(words);
+
+        comments = new String[COMMENT_COUNT];
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            String comment;
+            do {
+                comment = randomComment(random, 80 + random.nextInt(1_420));
+            } while (matcher.containsAny(comment));
+            comments[i] = comment;
+        }
+    }
+
+    @Benchmark
+    public boolean legacyContainsScan() {
+        String lowerText = nextComment().toLowerCase();
+        return legacyWords.stream().anyMatch(lowerText::contains);
+    }
+
+    @Benchmark
+    public boolean ahoCorasick() {
+        return matcher.containsAny(nextComment());
+    }
+
+    private String nextComment() {
+        String comment = comments[next];
+        next = (next + 1) & (COMMENT_COUNT - 1);
+        return comment;
+    }
+
+    private static String randomWord(Random random, int length) {
+        String alphabet = "abcçdefgğhijklmnoöprsştuüvyz";
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String randomComment(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 12);
+        while (sb.length() < length) {
+            sb.append(randomWord(random, 2 + random.nextInt(8))).append(' ');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.blacklist", matches = "true")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AhoCorasickMatcherBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+        new Runner(options).run();
+    }
+}
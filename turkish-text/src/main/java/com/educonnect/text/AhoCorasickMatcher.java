@@ -0,0 +1,231 @@
+package com.educonnect.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Çok kelimeli (multi-pattern) alt dize eşleştiricisi — Aho–Corasick otomatı.
+ *
+ * - Kelimeler bir kez derlenir; metin, kelime sayısından bağımsız olarak tek geçişte taranır
+ *   (O(metin uzunluğu + eşleşme sayısı)). Eski yaklaşımda her kelime için ayrı String.contains
+ *   çağrılıyordu (O(kelime × metin)).
+ * - Harfler TurkishText kurallarıyla katlanır (I, İ, ı → i; ş → s; ğ → g; ...). Böylece "TACİZ", "TACIZ",
+ *   "tacız" ve "taciz" aynı kelimedir. Katlama karakter bazında yapıldığı için metin için yeni bir
+ *   String oluşturulmaz.
+ * - Eşleşme alt dize bazındadır (eski davranış korunur): "spam" kelimesi "spammer" içinde de bulunur.
+ *
+ * Kara liste (post-service) ve moderasyon ön filtresi (llm-service) aynı eşleştiriciyi kullanır.
+ * Örnekler değişmezdir (immutable) ve thread-safe'dir; kelime listesi değiştiğinde yeni örnek derlenir.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    /** Eşleşmede raporlanacak kelimeler (orijinal yazımıyla). */
+    private final String[] terms;
+    /** Her düğümün çıkış karakterleri (sıralı) ve hedef düğümleri. */
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    /** Başarısızlık (failure) bağlantıları. */
+    private final int[] failure;
+    /** Düğüme ulaşıldığında biten kelimelerin indeksleri (failure zinciri dahil). */
+    private final int[][] outputs;
+
+    private AhoCorasickMatcher(String[] terms, char[][] edgeChars, int[][] edgeTargets,
+                               int[] failure, int[][] outputs) {
+        this.terms = terms;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Verilen kelimelerden otomatı derler. Boş kelimeler atlanır; katlanmış hali aynı olan
+     * kelimelerden ilki raporlanır.
+     */
+    public static AhoCorasickMatcher compile(Collection<String> words) {
+        Map<String, String> foldedToOriginal = normalize(words);
+
+        // 1) Trie
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(new ArrayList<>());
+
+        String[] terms = foldedToOriginal.values().toArray(String[]::new);
+        int termIndex = 0;
+        for (String folded : foldedToOriginal.keySet()) {
+            int node = ROOT;
+            for (int i = 0; i < folded.length(); i++) {
+                char c = folded.charAt(i);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(new ArrayList<>());
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            terminal.get(node).add(termIndex++);
+        }
+
+        int nodeCount = children.size();
+        char[][] edgeChars = new char[nodeCount][];
+        int[][] edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 2) Failure bağlantıları ve çıktılar (BFS — ebeveynin failure'ı çocuktan önce hesaplanır)
+        int[] failure = new int[nodeCount];
+        int[][] outputs = new int[nodeCount][];
+        outputs[ROOT] = toArray(terminal.get(ROOT));
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            outputs[child] = toArray(terminal.get(child));
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int target = step(edgeChars, edgeTargets, fallback, c);
+                while (target < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                    target = step(edgeChars, edgeTargets, fallback, c);
+                }
+                failure[child] = target < 0 ? ROOT : target;
+
+                outputs[child] = merge(terminal.get(child), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+
+        return new AhoCorasickMatcher(terms, edgeChars, edgeTargets, failure, outputs);
+    }
+
+    /**
+     * Metinde en az bir kelime geçiyorsa true döner; ilk eşleşmede tarama durur.
+     */
+    public boolean containsAny(CharSequence text) {
+        if (text == null || terms.length == 0) {
+            return false;
+        }
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, TurkishText.fold(text.charAt(i)));
+            if (outputs[node].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Metinde geçen tüm kelimeleri ilk geçiş sırasıyla döndürür. Eşleşme yoksa boş küme döner.
+     */
+    public Set<String> findAll(CharSequence text) {
+        if (text == null || terms.length == 0) {
+            return Set.of();
+        }
+        Set<String> matches = new LinkedHashSet<>();
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, TurkishText.fold(text.charAt(i)));
+            for (int termIndex : outputs[node]) {
+                matches.add(terms[termIndex]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Derlenmiş kelimeleri (orijinal yazımıyla) döndürür.
+     */
+    public List<String> terms() {
+        return List.of(terms);
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Derlenmiş kelimelerin katlanmış halleri; eşleşme davranışını belirleyen küme budur.
+     */
+    public Set<String> foldedTerms() {
+        return foldedTerms(List.of(terms));
+    }
+
+    /**
+     * Verilen kelimelerin compile() ile aynı kurallarla (boşlar atlanır, trim + katlama) normalize edilmiş kümesi.
+     * Yeniden derlemenin gerekip gerekmediğini anlamak için kullanılır.
+     */
+    public static Set<String> foldedTerms(Collection<String> words) {
+        return Set.copyOf(normalize(words).keySet());
+    }
+
+    private static Map<String, String> normalize(Collection<String> words) {
+        Map<String, String> foldedToOriginal = new LinkedHashMap<>();
+        for (String word : words) {
+            if (word == null || word.isBlank()) {
+                continue;
+            }
+            String trimmed = word.trim();
+            foldedToOriginal.putIfAbsent(TurkishText.fold(trimmed), trimmed);
+        }
+        return foldedToOriginal;
+    }
+
+    private int next(int node, char c) {
+        int target = step(edgeChars, edgeTargets, node, c);
+        while (target < 0 && node != ROOT) {
+            node = failure[node];
+            target = step(edgeChars, edgeTargets, node, c);
+        }
+        return target < 0 ? ROOT : target;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int i = Arrays.binarySearch(edgeChars[node], c);
+        return i < 0 ? -1 : edgeTargets[node][i];
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.isEmpty() ? NO_OUTPUT : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(toArray(own), own.size() + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+}
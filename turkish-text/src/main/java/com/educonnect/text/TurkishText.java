@@ -0,0 +1,35 @@
+package com.educonnect.text;
+
+/**
+ * Türkçe metin katlama (folding) kuralları; kara liste eşleştirmesi (post-service) ve
+ * moderasyon ön filtresi (llm-service) aynı kuralları kullanır.
+ *
+ * Harfler küçültülür ve Türkçe'ye özgü harfler ASCII karşılığına indirilir: I, İ, ı → i; ş → s; ğ → g;
+ * ü → u; ö → o; ç → c. Böylece "TACİZ", "TACIZ", "tacız" ve "taciz" ile "ŞİDDET" ve "siddet" aynı kabul edilir.
+ * Katlama karakter bazındadır; metin uzunluğu ve karakter konumları değişmez.
+ */
+public final class TurkishText {
+
+    private TurkishText() {
+    }
+
+    public static char fold(char c) {
+        return switch (c) {
+            case 'I', 'İ', 'ı' -> 'i';
+            case 'Ş', 'ş' -> 's';
+            case 'Ğ', 'ğ' -> 'g';
+            case 'Ü', 'ü' -> 'u';
+            case 'Ö', 'ö' -> 'o';
+            case 'Ç', 'ç' -> 'c';
+            default -> Character.toLowerCase(c);
+        };
+    }
+
+    public static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,126 @@
+package com.educonnect.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AhoCorasickMatcher doğruluk testleri; gerçekçi yorum uzunluklarında (80 – 1500 karakter) ve genişletilmiş
+ * bir kelime listesiyle eski String.contains taramasıyla aynı kararı verdiği de doğrulanır.
+ */
+class AhoCorasickMatcherTest {
+
+    private static final List<String> DEFAULT_WORDS = List.of(
+            "küfür", "hakaret", "spam", "reklam", "argo",
+            "nefret", "şiddet", "taciz", "dolandırıcılık"
+    );
+
+    @Test
+    void findAll_shouldReportAllMatchedTermsInOrderOfFirstOccurrence() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(DEFAULT_WORDS);
+
+        Set<String> matches = matcher.findAll("Bu yazı reklam ve spam içeriyor, tekrar reklam yapmayın");
+
+        assertEquals(List.of("reklam", "spam"), List.copyOf(matches));
+    }
+
+    @Test
+    void findAll_shouldFindOverlappingAndNestedTerms() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("he", "she", "his", "hers"));
+
+        assertEquals(Set.of("she", "he", "hers"), matcher.findAll("ushers"));
+    }
+
+    @Test
+    void containsAny_shouldFoldTurkishLetters() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(DEFAULT_WORDS);
+
+        assertTrue(matcher.containsAny("TACİZ"));
+        assertTrue(matcher.containsAny("TACIZ"));
+        assertTrue(matcher.containsAny("tacız"));
+        assertTrue(matcher.containsAny("DOLANDIRICILIK"));
+        assertTrue(matcher.containsAny("ŞİDDET"));
+        assertTrue(matcher.containsAny("siddet"));
+    }
+
+    @Test
+    void containsAny_shouldKeepSubstringSemantics() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(DEFAULT_WORDS);
+
+        assertTrue(matcher.containsAny("spammer hesabı"));
+        assertFalse(matcher.containsAny("Veri yapıları dersi notları"));
+        assertFalse(matcher.containsAny(""));
+        assertFalse(matcher.containsAny(null));
+    }
+
+    @Test
+    void compile_shouldIgnoreBlankWordsAndReportOriginalSpelling() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("  ", "İLAN", "ilan"));
+
+        assertEquals(1, matcher.size());
+        assertEquals(Set.of("İLAN"), matcher.findAll("ücretsiz ilan"));
+    }
+
+    @Test
+    void emptyMatcher_shouldNeverMatch() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of());
+
+        assertFalse(matcher.containsAny("spam"));
+        assertTrue(matcher.findAll("spam").isEmpty());
+    }
+
+    @Test
+    void containsAny_shouldAgreeWithContainsScanOnLargeWordList() {
+        List<String> words = new ArrayList<>(DEFAULT_WORDS);
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            words.add(randomWord(random, 5 + random.nextInt(8)));
+        }
+
+        List<String> comments = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            comments.add(randomComment(random, 80 + random.nextInt(1_420)));
+        }
+
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(words);
+        Set<String> foldedWords = AhoCorasickMatcher.foldedTerms(words);
+
+        // İki yaklaşım aynı kararı vermeli
+        for (String comment : comments) {
+            String folded = TurkishText.fold(comment);
+            assertEquals(foldedWords.stream().anyMatch(folded::contains), matcher.containsAny(comment));
+        }
+    }
+
+    @Test
+    void foldedTerms_shouldMatchCompiledNormalization() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of(" İLAN ", "Taciz", "ilan"));
+
+        assertEquals(Set.of("ilan", "taciz"), matcher.foldedTerms());
+        assertEquals(matcher.foldedTerms(), AhoCorasickMatcher.foldedTerms(List.of("TACİZ", "ilan", "  ")));
+    }
+
+    private static String randomWord(Random random, int length) {
+        String alphabet = "abcçdefgğhijklmnoöprsştuüvyz";
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String randomComment(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 12);
+        while (sb.length() < length) {
+            sb.append(randomWord(random, 2 + random.nextInt(8))).append(' ');
+        }
+        return sb.toString();
+    }
+}
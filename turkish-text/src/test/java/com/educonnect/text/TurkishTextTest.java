@@ -0,0 +1,28 @@
+package com.educonnect.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TurkishTextTest {
+
+    @Test
+    void shouldFoldDottedAndDotlessI() {
+        assertEquals("taciz", TurkishText.fold("TACİZ"));
+        assertEquals("taciz", TurkishText.fold("TACIZ"));
+        assertEquals("taciz", TurkishText.fold("tacız"));
+    }
+
+    @Test
+    void shouldFoldTurkishLettersToAscii() {
+        assertEquals("siddet dolandiricilik ogrenci gunluk agac", TurkishText.fold("ŞİDDET Dolandırıcılık Öğrenci günlük ağaç"));
+    }
+
+    @Test
+    void shouldKeepLengthAndNonLetters() {
+        String text = "Hafta 5: İkili arama!";
+
+        assertEquals(text.length(), TurkishText.fold(text).length());
+        assertEquals("hafta 5: ikili arama!", TurkishText.fold(text));
+    }
+}
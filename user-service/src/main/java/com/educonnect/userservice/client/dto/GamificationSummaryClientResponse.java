@@ -1,13 +1,16 @@
 package com.educonnect.userservice.client.dto;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-public class GamificationSummaryClientResponse {
+public class GamificationSummaryClientResponse implements Serializable {
     private int totalPoints;
     private int currentStreak;
     private int highestStreak;
     private List<String> badges = new ArrayList<>();
+    // gamification-service'teki user_reputation.version; fallback yanitlarinda null (onbellege yazilmaz).
+    private Long version;
 
     public GamificationSummaryClientResponse() {
     }
@@ -43,5 +46,12 @@ public class GamificationSummaryClientResponse {
     public void setBadges(List<String> badges) {
         this.badges = badges == null ? List.of() : badges;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
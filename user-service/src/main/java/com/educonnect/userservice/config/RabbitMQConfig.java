@@ -4,6 +4,7 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -34,6 +35,15 @@ public class RabbitMQConfig {
     public static final String GAMIFICATION_EXCHANGE = "gamification.exchange";
     public static final String GAMIFICATION_PROFILE_COMPLETED_ROUTING_KEY = "gamification.user.profile_completed";
 
+    // Gamification ozet degisiklik bildirimleri
+    public static final String GAMIFICATION_SUMMARY_EXCHANGE = "gamification.summary.exchange";
+    public static final String GAMIFICATION_SUMMARY_QUEUE = "user-gamification-summary-queue";
+    public static final String GAMIFICATION_SUMMARY_ROUTING_KEY = "gamification.summary.changed";
+
+    // Profil ad/soyad degisiklikleri (gamification-service kullanici adi izdusumu icin)
+    public static final String USER_PROFILE_EXCHANGE = "user.profile.exchange";
+    public static final String USER_PROFILE_UPDATED_ROUTING_KEY = "user.profile.updated";
+
     @Value("${user.listener.auto-start:true}")
     private boolean listenerAutoStart;
 
@@ -55,6 +65,10 @@ public class RabbitMQConfig {
                 "com.educonnect.authservices.dto.message.UserDeletedMessage",
                 com.educonnect.userservice.dto.message.UserDeletedMessage.class
         );
+        idClassMapping.put(
+                "com.educonnect.gamificationservice.dto.event.GamificationSummaryChangedEvent",
+                com.educonnect.userservice.dto.message.GamificationSummaryChangedMessage.class
+        );
         classMapper.setIdClassMapping(idClassMapping);
         converter.setClassMapper(classMapper);
         return converter;
@@ -80,6 +94,21 @@ public class RabbitMQConfig {
         return new Queue(USER_DELETE_QUEUE);
     }
 
+    @Bean
+    public TopicExchange gamificationSummaryExchange() {
+        return new TopicExchange(GAMIFICATION_SUMMARY_EXCHANGE);
+    }
+
+    @Bean
+    public TopicExchange userProfileExchange() {
+        return new TopicExchange(USER_PROFILE_EXCHANGE);
+    }
+
+    @Bean
+    public Queue gamificationSummaryQueue() {
+        return new Queue(GAMIFICATION_SUMMARY_QUEUE);
+    }
+
     @Bean
     public Binding binding(Queue userProfileCreationQueue, DirectExchange userExchange) {
         return BindingBuilder.bind(userProfileCreationQueue).to(userExchange).with(ROUTING_KEY);
@@ -95,6 +124,11 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(userDeleteQueue).to(userExchange).with(USER_DELETE_ROUTING_KEY);
     }
 
+    @Bean
+    public Binding gamificationSummaryBinding(Queue gamificationSummaryQueue, TopicExchange gamificationSummaryExchange) {
+        return BindingBuilder.bind(gamificationSummaryQueue).to(gamificationSummaryExchange).with(GAMIFICATION_SUMMARY_ROUTING_KEY);
+    }
+
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
                                                                                MessageConverter jsonMessageConverter) {
@@ -1,5 +1,8 @@
 package com.educonnect.userservice.config;
 
+import com.educonnect.identity.InternalIdentityAuthenticationFilter;
+import com.educonnect.identity.InternalIdentityCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,14 +17,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
-    private final HeaderAuthenticationFilter headerAuthenticationFilter;
-
-    public SecurityConfig(HeaderAuthenticationFilter headerAuthenticationFilter) {
-        this.headerAuthenticationFilter = headerAuthenticationFilter;
-    }
-
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, InternalIdentityCodec internalIdentityCodec) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -29,8 +26,9 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/**").permitAll()
                 .anyRequest().permitAll() // API Gateway zaten authentication kontrolü yapıyor
             )
-            // Header-based authentication filter'ı ekle
-            .addFilterBefore(headerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // Gateway'in imzaladığı iç kimlik zarfından authentication kur
+            .addFilterBefore(new InternalIdentityAuthenticationFilter(internalIdentityCodec),
+                    UsernamePasswordAuthenticationFilter.class)
 
             // Form login ve HTTP Basic'i devre dışı bırak
             .formLogin(form -> form.disable())
@@ -38,4 +36,9 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    @Bean
+    public InternalIdentityCodec internalIdentityCodec(@Value("${internal-identity.secret}") String secret) {
+        return new InternalIdentityCodec(secret);
+    }
 }
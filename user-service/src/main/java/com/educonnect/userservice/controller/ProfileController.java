@@ -9,6 +9,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.educonnect.userservice.service.ProfileAggregationService;
 import com.educonnect.userservice.service.ProfileService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +26,10 @@ import java.util.UUID;
 @RequestMapping("/api/users")
 public class ProfileController {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileController.class);
+
+    private static final int MAX_BATCH_SIZE = 200;
+
     private final ProfileService profileService;
     private final ProfileAggregationService profileAggregationService;
     private final ObjectMapper objectMapper;
@@ -45,6 +51,24 @@ public class ProfileController {
         return ResponseEntity.ok(profile);
     }
 
+    /**
+     * Verilen kullanıcı ID'lerinin profil özetlerini tek istekte döndürür.
+     * post-service'in feed/yorum sayfalarında yazar bilgisini toplu çekmesi için kullanılır.
+     * Bulunamayan ID'ler sonuçta yer almaz. İstek başına en fazla MAX_BATCH_SIZE (200) ID çözülür;
+     * fazlası yok sayılır, çağıran taraf listeyi bu boyutta parçalara bölmelidir.
+     */
+    @PostMapping("/profile/batch")
+    public ResponseEntity<List<UserProfileResponse>> getProfilesByIds(@RequestBody List<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            LOGGER.warn("Profile batch truncated. size={}, max={}", userIds.size(), MAX_BATCH_SIZE);
+            userIds = userIds.subList(0, MAX_BATCH_SIZE);
+        }
+        return ResponseEntity.ok(profileService.getUserProfiles(userIds));
+    }
+
     /**
      * Giriş yapmış kullanıcının profil bilgilerini günceller.
      */
@@ -0,0 +1,35 @@
+package com.educonnect.userservice.dto.message;
+
+import com.educonnect.userservice.client.dto.GamificationSummaryClientResponse;
+
+import java.util.UUID;
+
+public class GamificationSummaryChangedMessage {
+
+    private UUID userId;
+    private GamificationSummaryClientResponse summary; // null ise yerel kopya silinir
+
+    public GamificationSummaryChangedMessage() {
+    }
+
+    public GamificationSummaryChangedMessage(UUID userId, GamificationSummaryClientResponse summary) {
+        this.userId = userId;
+        this.summary = summary;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public GamificationSummaryClientResponse getSummary() {
+        return summary;
+    }
+
+    public void setSummary(GamificationSummaryClientResponse summary) {
+        this.summary = summary;
+    }
+}
@@ -0,0 +1,28 @@
+package com.educonnect.userservice.listener;
+
+import com.educonnect.userservice.config.RabbitMQConfig;
+import com.educonnect.userservice.dto.message.GamificationSummaryChangedMessage;
+import com.educonnect.userservice.service.GamificationSummaryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GamificationSummaryListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GamificationSummaryListener.class);
+
+    private final GamificationSummaryStore gamificationSummaryStore;
+
+    public GamificationSummaryListener(GamificationSummaryStore gamificationSummaryStore) {
+        this.gamificationSummaryStore = gamificationSummaryStore;
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.GAMIFICATION_SUMMARY_QUEUE)
+    public void handleSummaryChanged(GamificationSummaryChangedMessage message) {
+        LOGGER.debug("Gamification summary changed. userId={}, evict={}",
+                message.getUserId(), message.getSummary() == null);
+        gamificationSummaryStore.apply(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.educonnect.userservice.service;
+
+import com.educonnect.userservice.client.dto.GamificationSummaryClientResponse;
+import com.educonnect.userservice.dto.message.GamificationSummaryChangedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Profil sayfasi icin gamification ozetinin yerel kopyasi: Redis'te user:gamification-summary:{userId}.
+ *
+ * gamification-service her puan isleminden sonra gamification.summary.exchange'e guncel ozeti yayinlar;
+ * kopya bu bildirimlerle guncellenir, profil goruntulemeleri gamification-service'e gitmez.
+ * Yalnizca daha yeni version'li ozet eskisinin yerine yazilir. Karsilastirma ve yazma tek bir Lua betiginde
+ * yapilir; esanli gelen bildirimler (birden fazla listener veya instance) ve remote fallback yazimlari
+ * birbirini ezemez, ters sirada gelen bildirimler kopyayi geri almaz.
+ * Redis hatalari profil akisini bozmaz, ozet dogrudan gamification-service'ten okunur.
+ */
+@Component
+public class GamificationSummaryStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GamificationSummaryStore.class);
+
+    private static final String KEY_PREFIX = "user:gamification-summary:";
+
+    private static final RedisScript<Long> PUT_IF_NEWER = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if current then " +
+                    "  local ok, cached = pcall(cjson.decode, current) " +
+                    "  if ok and type(cached.version) == 'number' and cached.version >= tonumber(ARGV[1]) then return 0 end " +
+                    "end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public GamificationSummaryStore(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${user.gamification-summary.ttl:24h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    public GamificationSummaryClientResponse get(UUID userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(keyFor(userId));
+            return value != null ? objectMapper.readValue(value, GamificationSummaryClientResponse.class) : null;
+        } catch (Exception e) {
+            LOGGER.warn("Gamification summary cache read failed. userId={}, reason={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Ozeti, sakli kopyadan daha yeniyse atomik olarak yazar. version'i olmayan (fallback) ozetler yazilmaz.
+     */
+    public void putIfNewer(UUID userId, GamificationSummaryClientResponse summary) {
+        if (summary == null || summary.getVersion() == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_IF_NEWER, List.of(keyFor(userId)),
+                    Long.toString(summary.getVersion()),
+                    objectMapper.writeValueAsString(summary),
+                    Long.toString(ttl.toMillis()));
+        } catch (Exception e) {
+            LOGGER.warn("Gamification summary cache write failed. userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    public void evict(UUID userId) {
+        try {
+            redisTemplate.delete(keyFor(userId));
+        } catch (Exception e) {
+            LOGGER.warn("Gamification summary cache evict failed. userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    public void apply(GamificationSummaryChangedMessage message) {
+        if (message == null || message.getUserId() == null) {
+            return;
+        }
+        if (message.getSummary() == null) {
+            evict(message.getUserId());
+        } else {
+            putIfNewer(message.getUserId(), message.getSummary());
+        }
+    }
+
+    private String keyFor(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
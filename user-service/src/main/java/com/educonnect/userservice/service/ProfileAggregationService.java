@@ -25,19 +25,26 @@ public class ProfileAggregationService {
     private final ProfileService profileService;
     private final ProfileRemoteService profileRemoteService;
     private final Executor profileAggregationExecutor;
+    private final GamificationSummaryStore gamificationSummaryStore;
 
     public ProfileAggregationService(ProfileService profileService,
                                      ProfileRemoteService profileRemoteService,
-                                     @Qualifier("profileAggregationExecutor") Executor profileAggregationExecutor) {
+                                     @Qualifier("profileAggregationExecutor") Executor profileAggregationExecutor,
+                                     GamificationSummaryStore gamificationSummaryStore) {
         this.profileService = profileService;
         this.profileRemoteService = profileRemoteService;
         this.profileAggregationExecutor = profileAggregationExecutor;
+        this.gamificationSummaryStore = gamificationSummaryStore;
     }
 
     public UserProfileResponseDTO getAggregatedUserProfile(UUID userId) {
         UserProfileResponse baseProfile = profileService.getUserProfile(userId);
 
-        CompletableFuture<GamificationSummaryClientResponse> gamificationFuture = CompletableFuture
+        // Ozet, gamification-service bildirimleriyle guncel tutulan yerel kopyadan okunur; yoksa uzak cagri yapilir.
+        GamificationSummaryClientResponse cachedGamification = gamificationSummaryStore.get(userId);
+        CompletableFuture<GamificationSummaryClientResponse> gamificationFuture = cachedGamification != null
+                ? CompletableFuture.completedFuture(cachedGamification)
+                : CompletableFuture
                 .supplyAsync(() -> profileRemoteService.getGamificationSummary(userId), profileAggregationExecutor)
                 .completeOnTimeout(defaultGamification(), EXTERNAL_CALL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
                 .exceptionally(ex -> defaultGamification());
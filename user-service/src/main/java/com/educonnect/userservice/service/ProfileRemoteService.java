@@ -15,15 +15,21 @@ public class ProfileRemoteService {
 
     private final GamificationClient gamificationClient;
     private final PostClient postClient;
+    private final GamificationSummaryStore gamificationSummaryStore;
 
-    public ProfileRemoteService(GamificationClient gamificationClient, PostClient postClient) {
+    public ProfileRemoteService(GamificationClient gamificationClient,
+                                PostClient postClient,
+                                GamificationSummaryStore gamificationSummaryStore) {
         this.gamificationClient = gamificationClient;
         this.postClient = postClient;
+        this.gamificationSummaryStore = gamificationSummaryStore;
     }
 
     @CircuitBreaker(name = "gamificationService", fallbackMethod = "gamificationFallback")
     public GamificationSummaryClientResponse getGamificationSummary(UUID userId) {
-        return gamificationClient.getUserSummary(userId);
+        GamificationSummaryClientResponse summary = gamificationClient.getUserSummary(userId);
+        gamificationSummaryStore.putIfNewer(userId, summary);
+        return summary;
     }
 
     @CircuitBreaker(name = "postService", fallbackMethod = "recentPostsFallback")
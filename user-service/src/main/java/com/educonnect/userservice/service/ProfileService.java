@@ -21,8 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -40,6 +44,7 @@ public class ProfileService {
     private final ArchivedAcademicianRepository archivedAcademicianRepository;
     private final MinioService minioService;
     private final GamificationEventPublisher gamificationEventPublisher;
+    private final UserProfileEventPublisher userProfileEventPublisher;
 
     // Elle constructor ekleyelim
     public ProfileService(StudentRepository studentRepository,
@@ -47,13 +52,15 @@ public class ProfileService {
                          ArchivedStudentRepository archivedStudentRepository,
                          ArchivedAcademicianRepository archivedAcademicianRepository,
                          MinioService minioService,
-                         GamificationEventPublisher gamificationEventPublisher) {
+                         GamificationEventPublisher gamificationEventPublisher,
+                         UserProfileEventPublisher userProfileEventPublisher) {
         this.studentRepository = studentRepository;
         this.academicianRepository = academicianRepository;
         this.archivedStudentRepository = archivedStudentRepository;
         this.archivedAcademicianRepository = archivedAcademicianRepository;
         this.minioService = minioService;
         this.gamificationEventPublisher = gamificationEventPublisher;
+        this.userProfileEventPublisher = userProfileEventPublisher;
     }
 
 
@@ -75,6 +82,29 @@ public class ProfileService {
         throw new RuntimeException("Profile not found for user ID: " + userId);
     }
 
+    /**
+     * Birden fazla kullanıcının profilini toplu olarak getirir.
+     * post-service gibi servislerin sayfa başına tek çağrıyla yazar bilgisi çekebilmesi için kullanılır.
+     * Önce öğrenciler, kalan ID'ler için akademisyenler tek sorguda okunur; bulunamayan ID'ler atlanır.
+     */
+    public List<UserProfileResponse> getUserProfiles(Collection<UUID> userIds) {
+        Set<UUID> remainingIds = new HashSet<>(userIds);
+        List<UserProfileResponse> profiles = new ArrayList<>(remainingIds.size());
+
+        for (Student student : studentRepository.findAllById(remainingIds)) {
+            profiles.add(mapToResponse(student));
+            remainingIds.remove(student.getId());
+        }
+
+        if (!remainingIds.isEmpty()) {
+            for (Academician academician : academicianRepository.findAllById(remainingIds)) {
+                profiles.add(mapToResponse(academician));
+            }
+        }
+
+        return profiles;
+    }
+
     @Transactional(readOnly = false)
     @CacheEvict(value = USER_PROFILE_CACHE, key = "#userId")
     public UserProfileResponse updateUserProfile(UUID userId, UpdateUserProfileRequest request) {
@@ -82,9 +112,11 @@ public class ProfileService {
         if (studentOpt.isPresent()) {
             Student student = studentOpt.get();
             boolean wasComplete = isStudentProfileComplete(student);
+            String previousName = student.getFirstName() + " " + student.getLastName();
             applyCommonProfileUpdates(student, request);
             Student saved = studentRepository.save(student);
             publishProfileCompletedIfNeeded(userId, wasComplete, isStudentProfileComplete(saved));
+            publishProfileUpdatedIfNameChanged(userId, previousName, saved.getFirstName(), saved.getLastName());
             return mapToResponse(saved);
         }
 
@@ -92,6 +124,7 @@ public class ProfileService {
         if (academicianOpt.isPresent()) {
             Academician academician = academicianOpt.get();
             boolean wasComplete = isAcademicianProfileComplete(academician);
+            String previousName = academician.getFirstName() + " " + academician.getLastName();
             applyCommonProfileUpdates(academician, request);
             if (request.getTitle() != null) {
                 academician.setTitle(request.getTitle());
@@ -101,6 +134,7 @@ public class ProfileService {
             }
             Academician saved = academicianRepository.save(academician);
             publishProfileCompletedIfNeeded(userId, wasComplete, isAcademicianProfileComplete(saved));
+            publishProfileUpdatedIfNameChanged(userId, previousName, saved.getFirstName(), saved.getLastName());
             return mapToResponse(saved);
         }
 
@@ -349,6 +383,17 @@ public class ProfileService {
         }
     }
 
+    private void publishProfileUpdatedIfNameChanged(UUID userId, String previousName, String firstName, String lastName) {
+        if (previousName.equals(firstName + " " + lastName)) {
+            return;
+        }
+        try {
+            userProfileEventPublisher.publishProfileUpdated(userId, firstName, lastName);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Profile updated event could not be published. userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
     private void publishProfileCompletedIfNeeded(UUID userId, boolean wasComplete, boolean isNowComplete) {
         if (!wasComplete && isNowComplete) {
             gamificationEventPublisher.publishProfileCompleted(userId);
@@ -0,0 +1,35 @@
+package com.educonnect.userservice.service;
+
+import com.educonnect.userservice.config.RabbitMQConfig;
+import com.educonnect.userservice.dto.message.UserProfileUpdatedMessage;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+@Component
+public class UserProfileEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public UserProfileEventPublisher(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    public void publishProfileUpdated(UUID userId, String firstName, String lastName) {
+        UserProfileUpdatedMessage message = new UserProfileUpdatedMessage(
+                userId,
+                firstName,
+                lastName,
+                OffsetDateTime.now(ZoneId.of("Europe/Istanbul"))
+        );
+
+        rabbitTemplate.convertAndSend(
+                RabbitMQConfig.USER_PROFILE_EXCHANGE,
+                RabbitMQConfig.USER_PROFILE_UPDATED_ROUTING_KEY,
+                message
+        );
+    }
+}
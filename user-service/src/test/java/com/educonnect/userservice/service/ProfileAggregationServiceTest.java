@@ -1,5 +1,6 @@
 package com.educonnect.userservice.service;
 
+import com.educonnect.userservice.client.dto.GamificationSummaryClientResponse;
 import com.educonnect.userservice.dto.response.UserProfileResponse;
 import com.educonnect.userservice.dto.response.UserProfileResponseDTO;
 import org.junit.jupiter.api.Test;
@@ -7,12 +8,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +28,9 @@ class ProfileAggregationServiceTest {
     @Mock
     private ProfileRemoteService profileRemoteService;
 
+    @Mock
+    private GamificationSummaryStore gamificationSummaryStore;
+
     private final Executor directExecutor = Runnable::run;
 
     @Test
@@ -47,7 +54,8 @@ class ProfileAggregationServiceTest {
         ProfileAggregationService service = new ProfileAggregationService(
                 profileService,
                 profileRemoteService,
-                directExecutor
+                directExecutor,
+                gamificationSummaryStore
         );
 
         UserProfileResponseDTO result = service.getAggregatedUserProfile(userId);
@@ -59,6 +67,36 @@ class ProfileAggregationServiceTest {
         assertEquals(0, result.getGamification().getCurrentStreak());
         assertTrue(result.getRecentPosts().isEmpty());
     }
-}
 
+    @Test
+    void shouldUseLocalGamificationSummaryWithoutRemoteCall() {
+        UUID userId = UUID.randomUUID();
+        UserProfileResponse baseProfile = new UserProfileResponse();
+        baseProfile.setId(userId);
+        baseProfile.setRole("Academician");
+
+        GamificationSummaryClientResponse cached = new GamificationSummaryClientResponse();
+        cached.setTotalPoints(320);
+        cached.setCurrentStreak(4);
+        cached.setHighestStreak(9);
+        cached.setBadges(List.of("POINTS_EXPLORER", "WEEK_WARRIOR"));
+        cached.setVersion(12L);
+
+        when(profileService.getUserProfile(userId)).thenReturn(baseProfile);
+        when(gamificationSummaryStore.get(userId)).thenReturn(cached);
+        when(profileRemoteService.getRecentPosts(userId)).thenReturn(List.of());
 
+        ProfileAggregationService service = new ProfileAggregationService(
+                profileService,
+                profileRemoteService,
+                directExecutor,
+                gamificationSummaryStore
+        );
+
+        UserProfileResponseDTO result = service.getAggregatedUserProfile(userId);
+
+        assertEquals(320, result.getGamification().getTotalPoints());
+        assertEquals(List.of("POINTS_EXPLORER", "WEEK_WARRIOR"), result.getGamification().getBadges());
+        verify(profileRemoteService, never()).getGamificationSummary(userId);
+    }
+}